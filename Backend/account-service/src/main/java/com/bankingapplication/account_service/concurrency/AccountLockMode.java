@@ -0,0 +1,6 @@
+package com.bankingapplication.account_service.concurrency;
+
+public enum AccountLockMode {
+    OPTIMISTIC,
+    PESSIMISTIC
+}
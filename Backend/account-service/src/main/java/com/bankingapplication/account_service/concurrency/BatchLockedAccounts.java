@@ -0,0 +1,41 @@
+package com.bankingapplication.account_service.concurrency;
+
+import java.util.Map;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.bankingapplication.account_service.entity.Account;
+
+/**
+ * Accounts that a batched posting transaction already row-locked up front, bound to that transaction.
+ * Postings running inside the batch take their accounts from here instead of issuing their own
+ * SELECT ... FOR UPDATE.
+ */
+public final class BatchLockedAccounts {
+
+    private static final Object RESOURCE_KEY = BatchLockedAccounts.class;
+
+    private BatchLockedAccounts() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void bind(Map<String, Account> accounts) {
+        TransactionSynchronizationManager.bindResource(RESOURCE_KEY, accounts);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+            }
+        });
+    }
+
+    public static boolean isBound() {
+        return TransactionSynchronizationManager.hasResource(RESOURCE_KEY);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Map<String, Account> current() {
+        return (Map<String, Account>) TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+    }
+}
@@ -0,0 +1,63 @@
+package com.bankingapplication.account_service.concurrency;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a scheduled job on one instance at a time. Every instance fires the same @Scheduled trigger;
+ * the first to take a session-level PostgreSQL advisory lock for the job runs it on that
+ * connection's session, the others skip this firing. A crashed instance loses the lock with its
+ * session, so the next trigger runs elsewhere.
+ */
+@Component
+public class ClusterJobLock {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterJobLock.class);
+
+    private final DataSource dataSource;
+    private final int lockClass;
+
+    public ClusterJobLock(DataSource dataSource, @Value("${app.jobs.advisory-lock-class:720017}") int lockClass) {
+        this.dataSource = dataSource;
+        this.lockClass = lockClass;
+    }
+
+    // False when another instance is already running the job
+    public boolean runExclusively(String jobName, Runnable job) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!advisoryLock(connection, "SELECT pg_try_advisory_lock(?, hashtext(?))", jobName)) {
+                log.info("Skipping {}: another instance is running it", jobName);
+                return false;
+            }
+            try {
+                job.run();
+                return true;
+            } finally {
+                // The pool keeps the session open, so the lock must be released explicitly
+                advisoryLock(connection, "SELECT pg_advisory_unlock(?, hashtext(?))", jobName);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Could not take the lock for job " + jobName, e);
+        }
+    }
+
+    private boolean advisoryLock(Connection connection, String sql, String jobName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, lockClass);
+            statement.setString(2, jobName);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+}
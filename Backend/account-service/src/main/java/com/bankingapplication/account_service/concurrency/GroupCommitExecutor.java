@@ -0,0 +1,268 @@
+package com.bankingapplication.account_service.concurrency;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.bankingapplication.account_service.exception.BusinessRuleViolationException;
+import com.bankingapplication.account_service.exception.DuplicatePostingException;
+import com.bankingapplication.account_service.exception.InsufficientBalanceException;
+import com.bankingapplication.account_service.exception.InvalidOperationException;
+import com.bankingapplication.account_service.exception.ResourceNotFoundException;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Opt-in group commit for postings. Callers enqueue their posting and block on its result; a single
+ * worker coalesces queued postings into micro-batches bounded by size and wait time, row-locks every
+ * account of the batch in id order and applies the whole batch in one DB transaction.
+ *
+ * A posting rejected by a business rule only fails its own caller. Any other failure rolls the batch
+ * back and every posting in it is replayed individually through {@link PostingExecutor}. A caller
+ * whose posting has not been picked up within the submit timeout takes it back and posts it itself,
+ * so a stalled or dead worker never leaves request threads waiting.
+ */
+@Component
+public class GroupCommitExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitExecutor.class);
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long submitTimeoutNanos;
+    private final BlockingQueue<PendingPosting<?>> queue;
+    private final PostingExecutor postingExecutor;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchTimer;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public GroupCommitExecutor(@Value("${app.posting.group-commit.enabled:false}") boolean enabled,
+                               @Value("${app.posting.group-commit.max-batch-size:64}") int maxBatchSize,
+                               @Value("${app.posting.group-commit.max-wait:2ms}") Duration maxWait,
+                               @Value("${app.posting.group-commit.queue-capacity:10000}") int queueCapacity,
+                               @Value("${app.posting.group-commit.submit-timeout:5s}") Duration submitTimeout,
+                               PostingExecutor postingExecutor, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.submitTimeoutNanos = submitTimeout.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.postingExecutor = postingExecutor;
+
+        this.batchSizeSummary = DistributionSummary.builder("banking.posting.group.batch.size")
+                .description("Postings applied per group commit")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("banking.posting.group.commit")
+                .description("Time to apply and commit one group commit batch")
+                .tag("outcome", "committed")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("banking.posting.group.queue.depth", queue, BlockingQueue::size)
+                .description("Postings waiting for the next group commit")
+                .register(meterRegistry);
+
+        if (enabled) {
+            this.worker = new Thread(this::run, "posting-group-commit");
+            this.worker.setDaemon(true);
+            this.worker.start();
+            log.info("Group commit enabled: max batch size {}, max wait {}", maxBatchSize, maxWait);
+        } else {
+            this.worker = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled && running && worker.isAlive();
+    }
+
+    public <T> T submit(String operation, Collection<String> accountNumbers, Supplier<T> posting) {
+        PendingPosting<T> pending = new PendingPosting<>(operation, accountNumbers, posting);
+        if (!queue.offer(pending)) {
+            // Queue is saturated: post synchronously rather than adding unbounded latency
+            return postingExecutor.execute(operation, accountNumbers, posting);
+        }
+
+        try {
+            return pending.future.get(submitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("Group commit did not pick up {} within the submit timeout, posting it directly", operation);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Still queued: take it back so the worker skips it. Otherwise the worker is applying it and
+        // will complete it (or replay it) within the posting's own lock and statement timeouts.
+        if (pending.claim()) {
+            return postingExecutor.execute(operation, accountNumbers, posting);
+        }
+        try {
+            return pending.future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+        List<PendingPosting<?>> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.stream().filter(PendingPosting::claim).forEach(this::replay);
+    }
+
+    private void run() {
+        List<PendingPosting<?>> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                PendingPosting<?> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null || !first.claim()) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingPosting<?> next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    if (next.claim()) {
+                        batch.add(next);
+                    }
+                }
+
+                process(batch);
+            } catch (InterruptedException e) {
+                batch.forEach(this::replay);
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable e) {
+                // Errors included: a dead worker would strand every caller already queued
+                log.error("Unexpected group commit failure", e);
+                batch.stream().filter(pending -> !pending.future.isDone()).forEach(this::replay);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<PendingPosting<?>> batch) {
+        TreeSet<String> accountNumbers = batch.stream()
+                .flatMap(pending -> pending.accountNumbers.stream())
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        long start = System.nanoTime();
+        try {
+            postingExecutor.executeLockedBatch(accountNumbers, () -> batch.forEach(PendingPosting::apply));
+        } catch (RuntimeException e) {
+            log.warn("Group commit of {} postings rolled back, replaying them individually: {}", batch.size(), e.getMessage());
+            batch.forEach(this::replay);
+            return;
+        }
+
+        batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        batchSizeSummary.record(batch.size());
+        batch.forEach(PendingPosting::complete);
+    }
+
+    private void replay(PendingPosting<?> pending) {
+        pending.replay(postingExecutor);
+    }
+
+    public static boolean isBusinessRejection(RuntimeException e) {
+        return e instanceof ResourceNotFoundException
+                || e instanceof InvalidOperationException
+                || e instanceof InsufficientBalanceException
+                || e instanceof BusinessRuleViolationException
+                || e instanceof DuplicatePostingException;
+    }
+
+    private static final class PendingPosting<T> {
+
+        private final String operation;
+        private final Collection<String> accountNumbers;
+        private final Supplier<T> posting;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private T result;
+        private RuntimeException rejection;
+
+        PendingPosting(String operation, Collection<String> accountNumbers, Supplier<T> posting) {
+            this.operation = operation;
+            this.accountNumbers = accountNumbers;
+            this.posting = posting;
+        }
+
+        // Exactly one of the worker and the timed-out caller gets to post it
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        // Runs inside the batch transaction; only business rejections are contained here
+        void apply() {
+            try {
+                result = posting.get();
+            } catch (RuntimeException e) {
+                if (!isBusinessRejection(e)) {
+                    throw e;
+                }
+                rejection = e;
+            }
+        }
+
+        void complete() {
+            if (rejection != null) {
+                future.completeExceptionally(rejection);
+            } else {
+                future.complete(result);
+            }
+        }
+
+        void replay(PostingExecutor postingExecutor) {
+            try {
+                future.complete(postingExecutor.execute(operation, accountNumbers, posting));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.bankingapplication.account_service.concurrency;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.bankingapplication.account_service.entity.AccountType;
+import com.bankingapplication.account_service.repository.AccountRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Chooses optimistic or pessimistic locking for single-account postings. Account types listed in
+ * {@code app.posting.lock-mode.optimistic-types} use the @Version check; when adaptive mode is on,
+ * a type whose recent conflict rate crosses the threshold falls back to row locks for a cooldown.
+ */
+@Component
+public class LockModeResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(LockModeResolver.class);
+
+    private static final int WINDOW_SIZE = 200;
+    private static final int MIN_SAMPLES = 20;
+
+    private final AccountRepository accountRepository;
+    private final Clock clock;
+    private final Set<AccountType> optimisticTypes;
+    private final boolean adaptive;
+    private final double conflictThreshold;
+    private final long cooldownMillis;
+    private final Cache<String, AccountType> accountTypes;
+    private final Map<AccountType, ConflictWindow> windows = new EnumMap<>(AccountType.class);
+    private final Map<AccountType, Counter> attemptCounters = new EnumMap<>(AccountType.class);
+    private final Map<AccountType, Counter> conflictCounters = new EnumMap<>(AccountType.class);
+
+    public LockModeResolver(AccountRepository accountRepository, MeterRegistry meterRegistry, Clock clock,
+                            @Value("${app.posting.lock-mode.optimistic-types:}") Set<AccountType> optimisticTypes,
+                            @Value("${app.posting.lock-mode.adaptive:true}") boolean adaptive,
+                            @Value("${app.posting.lock-mode.conflict-threshold:0.05}") double conflictThreshold,
+                            @Value("${app.posting.lock-mode.cooldown:30s}") Duration cooldown) {
+        this.accountRepository = accountRepository;
+        this.clock = clock;
+        this.optimisticTypes = optimisticTypes;
+        this.adaptive = adaptive;
+        this.conflictThreshold = conflictThreshold;
+        this.cooldownMillis = cooldown.toMillis();
+        // Account type never changes, so the lookup can be cached indefinitely
+        this.accountTypes = Caffeine.newBuilder().maximumSize(100_000).build();
+
+        for (AccountType type : AccountType.values()) {
+            ConflictWindow window = new ConflictWindow();
+            windows.put(type, window);
+            attemptCounters.put(type, Counter.builder("banking.posting.optimistic.attempts")
+                    .description("Optimistic balance updates attempted")
+                    .tag("accountType", type.name())
+                    .register(meterRegistry));
+            conflictCounters.put(type, Counter.builder("banking.posting.optimistic.conflicts")
+                    .description("Optimistic balance updates that lost a version check")
+                    .tag("accountType", type.name())
+                    .register(meterRegistry));
+            Gauge.builder("banking.posting.optimistic.conflict.rate", window, ConflictWindow::rate)
+                    .description("Recent optimistic conflict rate")
+                    .tag("accountType", type.name())
+                    .register(meterRegistry);
+        }
+        log.info("Optimistic locking enabled for account types {} (adaptive: {})", optimisticTypes, adaptive);
+    }
+
+    public AccountLockMode resolve(String accountNumber) {
+        AccountType type = accountTypes.get(accountNumber,
+                number -> accountRepository.findAccountTypeByAccountNumber(number).orElse(null));
+        if (type == null || !optimisticTypes.contains(type)) {
+            return AccountLockMode.PESSIMISTIC;
+        }
+        if (adaptive && windows.get(type).inCooldown(clock.millis())) {
+            return AccountLockMode.PESSIMISTIC;
+        }
+        return AccountLockMode.OPTIMISTIC;
+    }
+
+    public void recordOptimisticOutcome(AccountType type, boolean conflicted) {
+        attemptCounters.get(type).increment();
+        if (conflicted) {
+            conflictCounters.get(type).increment();
+        }
+
+        ConflictWindow window = windows.get(type);
+        window.record(conflicted);
+        // Read the rate first: starting a cooldown resets the window
+        double rate = window.rate();
+        if (adaptive && rate > conflictThreshold && window.startCooldown(clock.millis(), cooldownMillis)) {
+            log.warn("Optimistic conflict rate for {} accounts is {}; using row locks for the next {} ms",
+                    type, String.format("%.3f", rate), cooldownMillis);
+        }
+    }
+
+    private static final class ConflictWindow {
+
+        private long attempts;
+        private long conflicts;
+        private long cooldownUntil;
+
+        synchronized void record(boolean conflicted) {
+            attempts++;
+            if (conflicted) {
+                conflicts++;
+            }
+            // Halve the counts once the window is full so old samples decay
+            if (attempts >= WINDOW_SIZE) {
+                attempts /= 2;
+                conflicts /= 2;
+            }
+        }
+
+        synchronized double rate() {
+            return attempts < MIN_SAMPLES ? 0.0 : (double) conflicts / attempts;
+        }
+
+        synchronized boolean startCooldown(long nowMillis, long cooldownMillis) {
+            if (inCooldown(nowMillis)) {
+                return false;
+            }
+            cooldownUntil = nowMillis + cooldownMillis;
+            attempts = 0;
+            conflicts = 0;
+            return true;
+        }
+
+        synchronized boolean inCooldown(long nowMillis) {
+            return nowMillis < cooldownUntil;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.bankingapplication.account_service.concurrency;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bankingapplication.account_service.entity.Account;
+import com.bankingapplication.account_service.repository.AccountRepository;
+
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+
+/**
+ * Runs a posting as: bounded retry -> per-account in-process locks -> DB transaction.
+ * The in-process locks are released before a retry backs off, and every attempt runs
+ * in a fresh transaction so row locks from a failed attempt are already rolled back.
+ */
+@Component
+public class PostingExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(PostingExecutor.class);
+
+    private final AccountLockManager accountLockManager;
+    private final AccountRepository accountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Retry retry;
+    private final PostingMetrics postingMetrics;
+
+    public PostingExecutor(AccountLockManager accountLockManager, AccountRepository accountRepository,
+                           PlatformTransactionManager transactionManager, RetryRegistry retryRegistry,
+                           PostingMetrics postingMetrics) {
+        this.accountLockManager = accountLockManager;
+        this.accountRepository = accountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retry = retryRegistry.retry("posting");
+        this.postingMetrics = postingMetrics;
+    }
+
+    public <T> T execute(String operation, Collection<String> accountNumbers, Supplier<T> posting) {
+        AtomicInteger attempts = new AtomicInteger();
+        try {
+            return retry.executeSupplier(() -> {
+                if (attempts.incrementAndGet() > 1) {
+                    log.warn("Retrying {} on accounts {} (attempt {})", operation, accountNumbers, attempts.get());
+                }
+                return accountLockManager.withLocks(accountNumbers,
+                        () -> transactionTemplate.execute(status -> posting.get()));
+            });
+        } finally {
+            postingMetrics.recordRetries(operation, attempts.get() - 1);
+        }
+    }
+
+    // Runs several postings in one transaction: every account is locked up front (stripes, then rows
+    // in id order) and bound through BatchLockedAccounts. Not retried; callers replay the postings
+    // individually through execute() when the batch fails.
+    public void executeLockedBatch(Collection<String> accountNumbers, Runnable batch) {
+        TreeSet<String> sorted = new TreeSet<>(accountNumbers);
+        accountLockManager.withLocks(sorted, () -> transactionTemplate.execute(status -> {
+            Map<String, Account> locked = accountRepository.findAllByAccountNumberInForUpdate(sorted).stream()
+                    .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+            BatchLockedAccounts.bind(locked);
+            batch.run();
+            return null;
+        }));
+    }
+}
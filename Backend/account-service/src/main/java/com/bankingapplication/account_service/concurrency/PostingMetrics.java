@@ -0,0 +1,47 @@
+package com.bankingapplication.account_service.concurrency;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class PostingMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public PostingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Tagged by engine so the JPA and stored-function paths can be compared side by side
+    public void recordPosting(String operation, String engine, long nanos) {
+        Timer.builder("banking.posting.duration")
+                .description("End-to-end posting latency including retries")
+                .tag("operation", operation)
+                .tag("engine", engine)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRowLockWait(String operation, long nanos) {
+        Timer.builder("banking.posting.row.lock.wait")
+                .description("Time spent acquiring account row locks (SELECT ... FOR UPDATE)")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRetries(String operation, int retries) {
+        DistributionSummary.builder("banking.posting.retries")
+                .description("Retries needed per posting because of lock or serialization failures")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(retries);
+    }
+}
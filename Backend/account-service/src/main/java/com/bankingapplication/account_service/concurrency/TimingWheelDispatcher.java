@@ -0,0 +1,180 @@
+package com.bankingapplication.account_service.concurrency;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.bankingapplication.account_service.util.HierarchicalTimingWheel;
+
+/**
+ * Runs work that is scheduled in the database on time without polling the table every tick. Every
+ * load interval the items due within the next window are paged (keyset) into a hierarchical timing
+ * wheel; every tick whatever the wheel expires runs as one parallel batch on a fixed pool. An item
+ * stays in the wheel until it fires, so reloading the same window never schedules it twice, and an
+ * item that fails is simply picked up again by a later load while it is still due.
+ *
+ * The wheel and its bookkeeping are owned by the ticker thread; the load gate and reset run there too.
+ */
+public class TimingWheelDispatcher<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(TimingWheelDispatcher.class);
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 3;
+
+    // Next page of items due before until, after the given item in due order (null for the first page)
+    @FunctionalInterface
+    public interface PageLoader<T> {
+        List<T> load(LocalDateTime until, T after, int pageSize);
+    }
+
+    private final String name;
+    private final long tickMillis;
+    private final Duration loadInterval;
+    private final Duration window;
+    private final int pageSize;
+    private final PageLoader<T> pageLoader;
+    private final Function<T, LocalDateTime> dueAt;
+    private final Consumer<T> action;
+    private final BooleanSupplier loadGate;
+    private final ScheduledExecutorService ticker;
+    private final ExecutorService pool;
+
+    // Owned by the ticker thread
+    private HierarchicalTimingWheel<T> wheel;
+    private final Set<T> scheduled = new HashSet<>();
+    private long nextLoadAtMillis;
+    private volatile int wheelSize;
+
+    // loadGate runs before every load; returning false skips it, e.g. while another instance leads
+    public TimingWheelDispatcher(String name, Duration tick, Duration loadInterval, Duration window, int pageSize,
+                                 int workers, PageLoader<T> pageLoader, Function<T, LocalDateTime> dueAt,
+                                 Consumer<T> action, BooleanSupplier loadGate) {
+        this.name = name;
+        this.tickMillis = tick.toMillis();
+        this.loadInterval = loadInterval;
+        this.window = window;
+        this.pageSize = pageSize;
+        this.pageLoader = pageLoader;
+        this.dueAt = dueAt;
+        this.action = action;
+        this.loadGate = loadGate;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+        this.pool = Executors.newFixedThreadPool(workers, Thread.ofPlatform().name(name + "-", 0).daemon().factory());
+        this.ticker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name(name + "-ticker").daemon().factory());
+    }
+
+    public void start() {
+        ticker.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Stops ticking and waits for the current tick, so the caller may reset afterwards
+    public void shutdown() {
+        ticker.shutdownNow();
+        pool.shutdownNow();
+        try {
+            ticker.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Drops everything loaded; call from the load gate or after shutdown
+    public void reset() {
+        wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+        scheduled.clear();
+        wheelSize = 0;
+    }
+
+    public int size() {
+        return wheelSize;
+    }
+
+    private void tick() {
+        try {
+            long now = System.currentTimeMillis();
+            if (now >= nextLoadAtMillis) {
+                nextLoadAtMillis = now + loadInterval.toMillis();
+                if (!loadGate.getAsBoolean()) {
+                    return;
+                }
+                load(now);
+            }
+            runBatch(wheel.advanceTo(now));
+            wheelSize = wheel.size();
+        } catch (RuntimeException e) {
+            // Never let an exception cancel the scheduled task
+            log.error("{} tick failed", name, e);
+        }
+    }
+
+    private void load(long nowMillis) {
+        LocalDateTime until = toLocalDateTime(nowMillis + window.toMillis());
+        long horizon = wheel.horizonMillis();
+        int loaded = 0;
+        List<T> page = pageLoader.load(until, null, pageSize);
+        while (!page.isEmpty()) {
+            for (T item : page) {
+                long dueMillis = toEpochMillis(dueAt.apply(item));
+                if (dueMillis <= horizon && scheduled.add(item)) {
+                    wheel.add(item, dueMillis);
+                    loaded++;
+                }
+            }
+            if (page.size() < pageSize) {
+                break;
+            }
+            page = pageLoader.load(until, page.get(page.size() - 1), pageSize);
+        }
+        if (loaded > 0) {
+            log.debug("{} loaded {} items due before {}", name, loaded, until);
+        }
+    }
+
+    private void runBatch(List<T> due) {
+        if (due.isEmpty()) {
+            return;
+        }
+        List<Callable<Void>> tasks = new ArrayList<>(due.size());
+        for (T item : due) {
+            scheduled.remove(item);
+            tasks.add(() -> {
+                try {
+                    action.accept(item);
+                } catch (RuntimeException e) {
+                    log.warn("{} failed for {}, will retry on the next load: {}", name, item, e.getMessage());
+                }
+                return null;
+            });
+        }
+        try {
+            pool.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
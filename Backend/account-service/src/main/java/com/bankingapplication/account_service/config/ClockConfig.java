@@ -0,0 +1,16 @@
+package com.bankingapplication.account_service.config;
+
+import java.time.Clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Components that time windows or cooldowns take the clock as a bean so tests can move it
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,10 @@
+package com.bankingapplication.account_service.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Nightly and periodic jobs are @Scheduled methods; the pool size is spring.task.scheduling.pool.size
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
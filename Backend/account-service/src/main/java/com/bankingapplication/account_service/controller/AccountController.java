@@ -1,9 +1,11 @@
 package com.bankingapplication.account_service.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -27,6 +29,7 @@ import com.bankingapplication.account_service.entity.AccountType;
 import com.bankingapplication.account_service.security.CurrentUser;
 import com.bankingapplication.account_service.security.UserPrincipal;
 import com.bankingapplication.account_service.service.AccountService;
+import com.bankingapplication.account_service.service.BalanceSnapshotService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -42,9 +45,11 @@ public class AccountController {
     private static final Logger log = LoggerFactory.getLogger(AccountController.class);
 
     private final AccountService accountService;
+    private final BalanceSnapshotService balanceSnapshotService;
 
-    public AccountController(AccountService accountService) {
+    public AccountController(AccountService accountService, BalanceSnapshotService balanceSnapshotService) {
         this.accountService = accountService;
+        this.balanceSnapshotService = balanceSnapshotService;
     }
 
     @PostMapping
@@ -138,6 +143,25 @@ public class AccountController {
         return ResponseEntity.ok(ApiResponse.success(account));
     }
 
+    @GetMapping("/{accountNumber}/balance")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or @accountAuthorizationService.hasAccountAccess(authentication.principal, #accountNumber)")
+    @Operation(summary = "Get balance as of a date", description = "Closing balance at the end of the given date, from the latest daily snapshot plus the postings since")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getBalanceAsOf(
+            @PathVariable String accountNumber,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return ResponseEntity.ok(ApiResponse.success(balanceSnapshotService.getBalanceAsOf(accountNumber, asOf)));
+    }
+
+    @PostMapping("/balance-snapshots")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Write end-of-day balance snapshots", description = "Write or rewrite the closing balance of every account for a past date, yesterday by default (Admin only)")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> snapshotBalances(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate snapshotDate = date != null ? date : LocalDate.now().minusDays(1);
+        log.info("Admin requested balance snapshots for {}", snapshotDate);
+        return ResponseEntity.ok(ApiResponse.success("Balance snapshots written", balanceSnapshotService.snapshot(snapshotDate)));
+    }
+
     @GetMapping("/user/{userId}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or #userId == authentication.principal.username")
     @Operation(summary = "Get accounts by user ID", description = "Retrieve all accounts owned by a specific user")
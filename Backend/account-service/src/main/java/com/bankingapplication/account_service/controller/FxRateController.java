@@ -0,0 +1,58 @@
+package com.bankingapplication.account_service.controller;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bankingapplication.account_service.dto.response.ApiResponse;
+import com.bankingapplication.account_service.exception.InvalidOperationException;
+import com.bankingapplication.account_service.service.FxRateService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/fx-rates")
+@Tag(name = "FX Rate API", description = "Exchange rates used for cross-currency transfers")
+public class FxRateController {
+
+    private final FxRateService fxRateService;
+
+    public FxRateController(FxRateService fxRateService) {
+        this.fxRateService = fxRateService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get FX rates", description = "The rate table currently used for conversions, including derived pairs")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getRates() {
+        return ResponseEntity.ok(ApiResponse.success(fxRateService.describe()));
+    }
+
+    @PostMapping("/reload")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Reload FX rates", description = "Rebuild the rate table from the configured file or table and publish it (Admin only)")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> reload() {
+        return ResponseEntity.ok(ApiResponse.success("FX rates reloaded", fxRateService.reload()));
+    }
+
+    @PutMapping("/{baseCurrency}/{quoteCurrency}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Set FX rate", description = "Store units of quote currency per unit of base currency and republish the table (Admin only)")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> updateRate(@PathVariable String baseCurrency,
+                                                                       @PathVariable String quoteCurrency,
+                                                                       @RequestParam BigDecimal rate) {
+        if (!baseCurrency.matches("^[A-Z]{3}$") || !quoteCurrency.matches("^[A-Z]{3}$")) {
+            throw new InvalidOperationException("Invalid currency. Must be a 3-letter ISO currency code.");
+        }
+        return ResponseEntity.ok(ApiResponse.success("FX rate updated", fxRateService.updateRate(baseCurrency, quoteCurrency, rate)));
+    }
+}
@@ -0,0 +1,75 @@
+package com.bankingapplication.account_service.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bankingapplication.account_service.dto.AuthorizationHoldDTO;
+import com.bankingapplication.account_service.dto.request.HoldCaptureRequest;
+import com.bankingapplication.account_service.dto.request.HoldRequest;
+import com.bankingapplication.account_service.dto.response.ApiResponse;
+import com.bankingapplication.account_service.service.AuthorizationHoldService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/holds")
+@Tag(name = "Authorization Hold API", description = "Endpoints for card-style authorization holds")
+public class HoldController {
+
+    private final AuthorizationHoldService authorizationHoldService;
+
+    public HoldController(AuthorizationHoldService authorizationHoldService) {
+        this.authorizationHoldService = authorizationHoldService;
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TELLER') or @accountAuthorizationService.hasAccountAccess(authentication.principal, #request.accountNumber)")
+    @Operation(summary = "Place hold", description = "Reserve an amount against the account's available balance")
+    public ResponseEntity<ApiResponse<AuthorizationHoldDTO>> placeHold(@Valid @RequestBody HoldRequest request) {
+        AuthorizationHoldDTO hold = authorizationHoldService.placeHold(request);
+        return new ResponseEntity<>(ApiResponse.success("Hold placed successfully", hold), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/account/{accountNumber}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or @accountAuthorizationService.hasAccountAccess(authentication.principal, #accountNumber)")
+    @Operation(summary = "Get holds by account", description = "Retrieve the authorization holds placed on an account")
+    public ResponseEntity<ApiResponse<List<AuthorizationHoldDTO>>> getHoldsByAccountNumber(@PathVariable String accountNumber) {
+        return ResponseEntity.ok(ApiResponse.success(authorizationHoldService.getHoldsByAccountNumber(accountNumber)));
+    }
+
+    @GetMapping("/account/{accountNumber}/{holdId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or @accountAuthorizationService.hasAccountAccess(authentication.principal, #accountNumber)")
+    @Operation(summary = "Get hold", description = "Retrieve an authorization hold and its outcome")
+    public ResponseEntity<ApiResponse<AuthorizationHoldDTO>> getHold(@PathVariable String accountNumber, @PathVariable String holdId) {
+        return ResponseEntity.ok(ApiResponse.success(authorizationHoldService.getHold(accountNumber, holdId)));
+    }
+
+    @PutMapping("/account/{accountNumber}/{holdId}/capture")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TELLER')")
+    @Operation(summary = "Capture hold", description = "Debit up to the held amount and release the rest of the hold; the account must be active and the hold unexpired")
+    public ResponseEntity<ApiResponse<AuthorizationHoldDTO>> captureHold(@PathVariable String accountNumber, @PathVariable String holdId,
+                                                                         @Valid @RequestBody(required = false) HoldCaptureRequest request) {
+        AuthorizationHoldDTO hold = authorizationHoldService.captureHold(accountNumber, holdId, request);
+        return ResponseEntity.ok(ApiResponse.success("Hold captured successfully", hold));
+    }
+
+    @PutMapping("/account/{accountNumber}/{holdId}/release")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TELLER')")
+    @Operation(summary = "Release hold", description = "Release an authorization hold without debiting the account")
+    public ResponseEntity<ApiResponse<AuthorizationHoldDTO>> releaseHold(@PathVariable String accountNumber, @PathVariable String holdId) {
+        AuthorizationHoldDTO hold = authorizationHoldService.releaseHold(accountNumber, holdId);
+        return ResponseEntity.ok(ApiResponse.success("Hold released successfully", hold));
+    }
+}
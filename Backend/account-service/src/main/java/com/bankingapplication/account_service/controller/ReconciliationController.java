@@ -0,0 +1,58 @@
+package com.bankingapplication.account_service.controller;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bankingapplication.account_service.dto.response.ApiResponse;
+import com.bankingapplication.account_service.entity.ReconciliationMode;
+import com.bankingapplication.account_service.service.ReconciliationService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/reconciliation")
+@Tag(name = "Reconciliation API", description = "Ledger consistency checks (Admin only)")
+public class ReconciliationController {
+
+    private final ReconciliationService reconciliationService;
+
+    public ReconciliationController(ReconciliationService reconciliationService) {
+        this.reconciliationService = reconciliationService;
+    }
+
+    @PostMapping("/runs")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Start reconciliation", description = "Check balances, balance chains and transfer legs for all accounts (FULL) or those touched since the last completed run (INCREMENTAL)")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> startRun(
+            @RequestParam(defaultValue = "INCREMENTAL") ReconciliationMode mode) {
+        Map<String, Object> run = reconciliationService.start(mode);
+        return new ResponseEntity<>(ApiResponse.success("Reconciliation started", run), HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/runs/{runId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get reconciliation run", description = "Progress and totals of a reconciliation run")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getRun(@PathVariable Long runId) {
+        return ResponseEntity.ok(ApiResponse.success(reconciliationService.getRun(runId)));
+    }
+
+    @GetMapping("/runs/{runId}/discrepancies")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get reconciliation discrepancies", description = "Paginated findings of a reconciliation run")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getDiscrepancies(
+            @PathVariable Long runId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(ApiResponse.success(reconciliationService.getDiscrepancies(runId, page, size)));
+    }
+}
@@ -0,0 +1,68 @@
+package com.bankingapplication.account_service.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bankingapplication.account_service.dto.StandingOrderDTO;
+import com.bankingapplication.account_service.dto.request.StandingOrderRequest;
+import com.bankingapplication.account_service.dto.response.ApiResponse;
+import com.bankingapplication.account_service.security.CurrentUser;
+import com.bankingapplication.account_service.security.UserPrincipal;
+import com.bankingapplication.account_service.service.StandingOrderService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/standing-orders")
+@Tag(name = "Standing Order API", description = "Endpoints for recurring and future-dated transfers")
+public class StandingOrderController {
+
+    private final StandingOrderService standingOrderService;
+
+    public StandingOrderController(StandingOrderService standingOrderService) {
+        this.standingOrderService = standingOrderService;
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TELLER') or @accountAuthorizationService.hasAccountAccess(authentication.principal, #request.sourceAccountNumber)")
+    @Operation(summary = "Create standing order", description = "Schedule a one-off future-dated or recurring transfer")
+    public ResponseEntity<ApiResponse<StandingOrderDTO>> createOrder(@Valid @RequestBody StandingOrderRequest request,
+                                                                     @CurrentUser UserPrincipal currentUser) {
+        StandingOrderDTO order = standingOrderService.createOrder(request, currentUser.getUsername());
+        return new ResponseEntity<>(ApiResponse.success("Standing order created successfully", order), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/account/{accountNumber}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or @accountAuthorizationService.hasAccountAccess(authentication.principal, #accountNumber)")
+    @Operation(summary = "Get standing orders by account", description = "Retrieve the standing orders paid from an account")
+    public ResponseEntity<ApiResponse<List<StandingOrderDTO>>> getOrdersByAccountNumber(@PathVariable String accountNumber) {
+        return ResponseEntity.ok(ApiResponse.success(standingOrderService.getOrdersByAccountNumber(accountNumber)));
+    }
+
+    @GetMapping("/account/{accountNumber}/{orderId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or @accountAuthorizationService.hasAccountAccess(authentication.principal, #accountNumber)")
+    @Operation(summary = "Get standing order", description = "Retrieve a standing order and the outcome of its last run")
+    public ResponseEntity<ApiResponse<StandingOrderDTO>> getOrder(@PathVariable String accountNumber, @PathVariable String orderId) {
+        return ResponseEntity.ok(ApiResponse.success(standingOrderService.getOrder(accountNumber, orderId)));
+    }
+
+    @PutMapping("/account/{accountNumber}/{orderId}/cancel")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TELLER') or @accountAuthorizationService.hasAccountAccess(authentication.principal, #accountNumber)")
+    @Operation(summary = "Cancel standing order", description = "Stop all future runs of a standing order")
+    public ResponseEntity<ApiResponse<StandingOrderDTO>> cancelOrder(@PathVariable String accountNumber, @PathVariable String orderId) {
+        StandingOrderDTO order = standingOrderService.cancelOrder(accountNumber, orderId);
+        return ResponseEntity.ok(ApiResponse.success("Standing order cancelled successfully", order));
+    }
+}
@@ -1,12 +1,17 @@
 package com.bankingapplication.account_service.controller;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,12 +21,24 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.bankingapplication.account_service.dto.BatchJobDTO;
+import com.bankingapplication.account_service.dto.JournalPostingDTO;
 import com.bankingapplication.account_service.dto.TransactionDTO;
+import com.bankingapplication.account_service.dto.request.BatchPostingRequest;
 import com.bankingapplication.account_service.dto.request.DepositRequest;
+import com.bankingapplication.account_service.dto.request.SplitTransferRequest;
 import com.bankingapplication.account_service.dto.request.TransferRequest;
 import com.bankingapplication.account_service.dto.request.WithdrawalRequest;
 import com.bankingapplication.account_service.dto.response.ApiResponse;
+import com.bankingapplication.account_service.security.CurrentUser;
+import com.bankingapplication.account_service.security.UserPrincipal;
+import com.bankingapplication.account_service.service.AsyncPostingService;
+import com.bankingapplication.account_service.service.BatchPostingService;
+import com.bankingapplication.account_service.service.InterestAccrualService;
+import com.bankingapplication.account_service.service.StatementExportService;
+import com.bankingapplication.account_service.service.TransactionPartitionService;
 import com.bankingapplication.account_service.service.TransactionService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -33,15 +50,34 @@ import jakarta.validation.Valid;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final BatchPostingService batchPostingService;
+    private final AsyncPostingService asyncPostingService;
+    private final InterestAccrualService interestAccrualService;
+    private final StatementExportService statementExportService;
+    private final TransactionPartitionService transactionPartitionService;
 
-    public TransactionController(TransactionService transactionService) {
+    public TransactionController(TransactionService transactionService, BatchPostingService batchPostingService,
+                                 AsyncPostingService asyncPostingService, InterestAccrualService interestAccrualService,
+                                 StatementExportService statementExportService,
+                                 TransactionPartitionService transactionPartitionService) {
         this.transactionService = transactionService;
+        this.batchPostingService = batchPostingService;
+        this.asyncPostingService = asyncPostingService;
+        this.interestAccrualService = interestAccrualService;
+        this.statementExportService = statementExportService;
+        this.transactionPartitionService = transactionPartitionService;
     }
 
     @PostMapping("/deposit")
     @PreAuthorize("hasRole('ADMIN') or hasRole('TELLER') or @accountAuthorizationService.hasAccountAccess(authentication.principal, #request.accountNumber)")
     @Operation(summary = "Deposit funds", description = "Deposit funds into an account")
-    public ResponseEntity<ApiResponse<TransactionDTO>> deposit(@Valid @RequestBody DepositRequest request) {
+    public ResponseEntity<ApiResponse<TransactionDTO>> deposit(@Valid @RequestBody DepositRequest request,
+                                                               @RequestParam(defaultValue = "false") boolean async) {
+        if (async) {
+            TransactionDTO accepted = asyncPostingService.acceptDeposit(request);
+            return new ResponseEntity<>(ApiResponse.success("Deposit accepted, poll /api/transactions/" + accepted.getTransactionId() + "/status", accepted),
+                    HttpStatus.ACCEPTED);
+        }
         TransactionDTO transaction = transactionService.deposit(request);
         return new ResponseEntity<>(ApiResponse.success("Deposit completed successfully", transaction), HttpStatus.CREATED);
     }
@@ -49,7 +85,13 @@ public class TransactionController {
     @PostMapping("/withdraw")
     @PreAuthorize("hasRole('ADMIN') or hasRole('TELLER') or @accountAuthorizationService.hasAccountAccess(authentication.principal, #request.accountNumber)")
     @Operation(summary = "Withdraw funds", description = "Withdraw funds from an account")
-    public ResponseEntity<ApiResponse<TransactionDTO>> withdraw(@Valid @RequestBody WithdrawalRequest request) {
+    public ResponseEntity<ApiResponse<TransactionDTO>> withdraw(@Valid @RequestBody WithdrawalRequest request,
+                                                                @RequestParam(defaultValue = "false") boolean async) {
+        if (async) {
+            TransactionDTO accepted = asyncPostingService.acceptWithdrawal(request);
+            return new ResponseEntity<>(ApiResponse.success("Withdrawal accepted, poll /api/transactions/" + accepted.getTransactionId() + "/status", accepted),
+                    HttpStatus.ACCEPTED);
+        }
         TransactionDTO transaction = transactionService.withdraw(request);
         return new ResponseEntity<>(ApiResponse.success("Withdrawal completed successfully", transaction), HttpStatus.CREATED);
     }
@@ -57,11 +99,45 @@ public class TransactionController {
     @PostMapping("/transfer")
     @PreAuthorize("hasRole('ADMIN') or hasRole('TELLER') or @accountAuthorizationService.hasAccountAccess(authentication.principal, #request.sourceAccountNumber)")
     @Operation(summary = "Transfer funds", description = "Transfer funds between accounts")
-    public ResponseEntity<ApiResponse<TransactionDTO>> transfer(@Valid @RequestBody TransferRequest request) {
+    public ResponseEntity<ApiResponse<TransactionDTO>> transfer(@Valid @RequestBody TransferRequest request,
+                                                                @RequestParam(defaultValue = "false") boolean async) {
+        if (async) {
+            TransactionDTO accepted = asyncPostingService.acceptTransfer(request);
+            return new ResponseEntity<>(ApiResponse.success("Transfer accepted, poll /api/transactions/" + accepted.getTransactionId() + "/status", accepted),
+                    HttpStatus.ACCEPTED);
+        }
         TransactionDTO transaction = transactionService.transfer(request);
         return new ResponseEntity<>(ApiResponse.success("Transfer completed successfully", transaction), HttpStatus.CREATED);
     }
 
+    @PostMapping("/split-transfer")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TELLER') or @accountAuthorizationService.hasAccountAccess(authentication.principal, #request.sourceAccountNumber)")
+    @Operation(summary = "Split transfer", description = "Pay many destination accounts from one source account in a single posting")
+    public ResponseEntity<ApiResponse<TransactionDTO>> splitTransfer(@Valid @RequestBody SplitTransferRequest request) {
+        TransactionDTO transaction = transactionService.splitTransfer(request);
+        return new ResponseEntity<>(ApiResponse.success("Split transfer completed successfully", transaction), HttpStatus.CREATED);
+    }
+
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TELLER')")
+    @Operation(summary = "Post a batch", description = "Post many deposits and transfers at once with per-item results; large batches run asynchronously, need a reference number on every item and can be resubmitted safely if the job fails")
+    public ResponseEntity<ApiResponse<BatchJobDTO>> postBatch(@Valid @RequestBody BatchPostingRequest request,
+                                                              @CurrentUser UserPrincipal currentUser) {
+        BatchJobDTO batch = batchPostingService.submit(request.getItems(), currentUser.getUsername());
+        if (batch.getJobId() != null) {
+            return new ResponseEntity<>(ApiResponse.success("Batch accepted, poll /api/transactions/batch/" + batch.getJobId(), batch),
+                    HttpStatus.ACCEPTED);
+        }
+        return ResponseEntity.ok(ApiResponse.success("Batch processed", batch));
+    }
+
+    @GetMapping("/batch/{jobId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TELLER')")
+    @Operation(summary = "Get batch job", description = "Retrieve the progress and per-item results of an asynchronous batch")
+    public ResponseEntity<ApiResponse<BatchJobDTO>> getBatchJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(ApiResponse.success(batchPostingService.getJob(jobId)));
+    }
+
     @GetMapping("/{transactionId}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or @transactionAuthorizationService.hasTransactionAccess(authentication.principal, #transactionId)")
     @Operation(summary = "Get transaction by ID", description = "Retrieve transaction details by transaction ID")
@@ -70,6 +146,18 @@ public class TransactionController {
         return ResponseEntity.ok(ApiResponse.success(transaction));
     }
 
+    @GetMapping("/{transactionId}/status")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or @transactionAuthorizationService.hasTransactionAccess(authentication.principal, #transactionId)")
+    @Operation(summary = "Get transaction status", description = "Poll an async posting until it is COMPLETED, REJECTED or FAILED")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getTransactionStatus(@PathVariable String transactionId) {
+        TransactionDTO transaction = transactionService.getTransactionById(transactionId);
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("transactionId", transaction.getTransactionId());
+        response.put("status", transaction.getStatus());
+        response.put("failureReason", transaction.getFailureReason());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/account/{accountNumber}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or @accountAuthorizationService.hasAccountAccess(authentication.principal, #accountNumber)")
     @Operation(summary = "Get transactions by account", description = "Retrieve all transactions for a specific account")
@@ -91,6 +179,17 @@ public class TransactionController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/account/{accountNumber}/history")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or @accountAuthorizationService.hasAccountAccess(authentication.principal, #accountNumber)")
+    @Operation(summary = "Get transaction history", description = "Retrieve transactions newest first, one page at a time; pass the returned nextCursor to get the following page")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getTransactionHistory(
+            @PathVariable String accountNumber,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Map<String, Object> response = transactionService.getTransactionHistory(accountNumber, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/account/{accountNumber}/date-range")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or @accountAuthorizationService.hasAccountAccess(authentication.principal, #accountNumber)")
     @Operation(summary = "Get transactions by date range", description = "Retrieve transactions for a specific account within a date range")
@@ -101,4 +200,63 @@ public class TransactionController {
         List<TransactionDTO> transactions = transactionService.getTransactionsByDateRange(accountNumber, startDate, endDate);
         return ResponseEntity.ok(ApiResponse.success(transactions));
     }
+
+    @GetMapping("/account/{accountNumber}/export")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or @accountAuthorizationService.hasAccountAccess(authentication.principal, #accountNumber)")
+    @Operation(summary = "Export transactions", description = "Stream an account's transactions, oldest first, as CSV or NDJSON, optionally within a date range")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @PathVariable String accountNumber,
+            @RequestParam(defaultValue = "CSV") StatementExportService.Format format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+        Long accountId = statementExportService.requireAccountId(accountNumber, startDate, endDate);
+        StreamingResponseBody body = out -> statementExportService.export(accountId, startDate, endDate, format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(accountNumber + "-transactions." + format.extension()).build().toString())
+                .body(body);
+    }
+
+    @GetMapping("/account/{accountNumber}/journal")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or @accountAuthorizationService.hasAccountAccess(authentication.principal, #accountNumber)")
+    @Operation(summary = "Get journal postings by date range", description = "Retrieve the double-entry journal postings of an account within a date range")
+    public ResponseEntity<ApiResponse<List<JournalPostingDTO>>> getJournalPostings(
+            @PathVariable String accountNumber,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+        List<JournalPostingDTO> postings = transactionService.getJournalPostings(accountNumber, startDate, endDate);
+        return ResponseEntity.ok(ApiResponse.success(postings));
+    }
+
+    @PostMapping("/daily-totals/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rebuild daily totals", description = "Recompute the daily limit running totals from the transactions table, holding postings back until it commits; cached totals are invalidated on every instance (Admin only)")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> rebuildDailyTotals(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+        LocalDate from = fromDate != null ? fromDate : LocalDate.now();
+        LocalDate to = toDate != null ? toDate : from;
+        int rows = transactionService.rebuildDailyTotals(from, to);
+        Map<String, Object> response = Map.of("fromDate", from, "toDate", to, "rows", rows);
+        return ResponseEntity.ok(ApiResponse.success("Daily totals rebuilt successfully", response));
+    }
+
+    @PostMapping("/interest/accrue")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Accrue interest", description = "Run or resume the SAVINGS interest accrual for a business date, yesterday by default (Admin only)")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> accrueInterest(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
+        LocalDate date = businessDate != null ? businessDate : LocalDate.now().minusDays(1);
+        Map<String, Object> response = interestAccrualService.accrue(date);
+        return ResponseEntity.ok(ApiResponse.success("Interest accrual finished", response));
+    }
+
+    @PostMapping("/partitions/maintenance")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Maintain transaction partitions", description = "Create the upcoming monthly partitions now and archive those past retention, as the nightly run does (Admin only)")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> maintainPartitions() {
+        Map<String, Object> response = transactionPartitionService.maintain();
+        return ResponseEntity.ok(ApiResponse.success("Partition maintenance finished", response));
+    }
 }
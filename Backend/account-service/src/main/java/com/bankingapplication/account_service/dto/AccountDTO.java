@@ -21,6 +21,8 @@ public class AccountDTO {
     private Double interestRate;
     private BigDecimal overdraftLimit;
     private BigDecimal minimumBalance;
+    private BigDecimal heldAmount;
+    private BigDecimal availableBalance;
 
     // Constructors
     public AccountDTO() {
@@ -158,4 +160,20 @@ public class AccountDTO {
     public void setMinimumBalance(BigDecimal minimumBalance) {
         this.minimumBalance = minimumBalance;
     }
+
+    public BigDecimal getHeldAmount() {
+        return heldAmount;
+    }
+
+    public void setHeldAmount(BigDecimal heldAmount) {
+        this.heldAmount = heldAmount;
+    }
+
+    public BigDecimal getAvailableBalance() {
+        return availableBalance;
+    }
+
+    public void setAvailableBalance(BigDecimal availableBalance) {
+        this.availableBalance = availableBalance;
+    }
 }
@@ -0,0 +1,63 @@
+package com.bankingapplication.account_service.dto;
+
+import com.bankingapplication.account_service.entity.TransactionStatus;
+
+public class BatchItemResultDTO {
+
+    private int index;
+    private TransactionStatus status;
+    private TransactionDTO transaction;
+    private String error;
+
+    // Constructors
+    public BatchItemResultDTO() {
+    }
+
+    public BatchItemResultDTO(int index, TransactionStatus status, TransactionDTO transaction, String error) {
+        this.index = index;
+        this.status = status;
+        this.transaction = transaction;
+        this.error = error;
+    }
+
+    public static BatchItemResultDTO completed(int index, TransactionDTO transaction) {
+        return new BatchItemResultDTO(index, TransactionStatus.COMPLETED, transaction, null);
+    }
+
+    public static BatchItemResultDTO failed(int index, String error) {
+        return new BatchItemResultDTO(index, TransactionStatus.FAILED, null, error);
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public TransactionStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TransactionStatus status) {
+        this.status = status;
+    }
+
+    public TransactionDTO getTransaction() {
+        return transaction;
+    }
+
+    public void setTransaction(TransactionDTO transaction) {
+        this.transaction = transaction;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
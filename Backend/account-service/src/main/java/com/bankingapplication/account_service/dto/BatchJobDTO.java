@@ -0,0 +1,99 @@
+package com.bankingapplication.account_service.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.bankingapplication.account_service.entity.BatchJobStatus;
+
+public class BatchJobDTO {
+
+    private String jobId;
+    private BatchJobStatus status;
+    private int totalItems;
+    private int succeededItems;
+    private int failedItems;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private List<BatchItemResultDTO> results;
+
+    // Constructors
+    public BatchJobDTO() {
+    }
+
+    public BatchJobDTO(String jobId, BatchJobStatus status, int totalItems, int succeededItems, int failedItems,
+                       LocalDateTime createdAt, LocalDateTime completedAt, List<BatchItemResultDTO> results) {
+        this.jobId = jobId;
+        this.status = status;
+        this.totalItems = totalItems;
+        this.succeededItems = succeededItems;
+        this.failedItems = failedItems;
+        this.createdAt = createdAt;
+        this.completedAt = completedAt;
+        this.results = results;
+    }
+
+    // Getters and Setters
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public BatchJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BatchJobStatus status) {
+        this.status = status;
+    }
+
+    public int getTotalItems() {
+        return totalItems;
+    }
+
+    public void setTotalItems(int totalItems) {
+        this.totalItems = totalItems;
+    }
+
+    public int getSucceededItems() {
+        return succeededItems;
+    }
+
+    public void setSucceededItems(int succeededItems) {
+        this.succeededItems = succeededItems;
+    }
+
+    public int getFailedItems() {
+        return failedItems;
+    }
+
+    public void setFailedItems(int failedItems) {
+        this.failedItems = failedItems;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public List<BatchItemResultDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchItemResultDTO> results) {
+        this.results = results;
+    }
+}
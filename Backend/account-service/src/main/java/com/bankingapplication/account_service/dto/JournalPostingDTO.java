@@ -0,0 +1,77 @@
+package com.bankingapplication.account_service.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class JournalPostingDTO {
+
+    private Long entryId;
+    private Integer leg;
+    private BigDecimal amount;
+    private BigDecimal balanceAfter;
+    private String transactionId;
+    private LocalDateTime postedAt;
+
+    // Constructors
+    public JournalPostingDTO() {
+    }
+
+    public JournalPostingDTO(Long entryId, Integer leg, BigDecimal amount, BigDecimal balanceAfter,
+                             String transactionId, LocalDateTime postedAt) {
+        this.entryId = entryId;
+        this.leg = leg;
+        this.amount = amount;
+        this.balanceAfter = balanceAfter;
+        this.transactionId = transactionId;
+        this.postedAt = postedAt;
+    }
+
+    // Getters and Setters
+    public Long getEntryId() {
+        return entryId;
+    }
+
+    public void setEntryId(Long entryId) {
+        this.entryId = entryId;
+    }
+
+    public Integer getLeg() {
+        return leg;
+    }
+
+    public void setLeg(Integer leg) {
+        this.leg = leg;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public BigDecimal getBalanceAfter() {
+        return balanceAfter;
+    }
+
+    public void setBalanceAfter(BigDecimal balanceAfter) {
+        this.balanceAfter = balanceAfter;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public void setTransactionId(String transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    public LocalDateTime getPostedAt() {
+        return postedAt;
+    }
+
+    public void setPostedAt(LocalDateTime postedAt) {
+        this.postedAt = postedAt;
+    }
+}
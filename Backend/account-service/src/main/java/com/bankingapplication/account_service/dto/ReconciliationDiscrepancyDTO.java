@@ -0,0 +1,78 @@
+package com.bankingapplication.account_service.dto;
+
+import java.math.BigDecimal;
+
+import com.bankingapplication.account_service.entity.ReconciliationDiscrepancyType;
+
+public class ReconciliationDiscrepancyDTO {
+
+    private String accountNumber;
+    private ReconciliationDiscrepancyType type;
+    private String transactionId;
+    private BigDecimal expectedAmount;
+    private BigDecimal actualAmount;
+    private String detail;
+
+    // Constructors
+    public ReconciliationDiscrepancyDTO() {
+    }
+
+    public ReconciliationDiscrepancyDTO(String accountNumber, ReconciliationDiscrepancyType type, String transactionId,
+                                        BigDecimal expectedAmount, BigDecimal actualAmount, String detail) {
+        this.accountNumber = accountNumber;
+        this.type = type;
+        this.transactionId = transactionId;
+        this.expectedAmount = expectedAmount;
+        this.actualAmount = actualAmount;
+        this.detail = detail;
+    }
+
+    // Getters and Setters
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public void setAccountNumber(String accountNumber) {
+        this.accountNumber = accountNumber;
+    }
+
+    public ReconciliationDiscrepancyType getType() {
+        return type;
+    }
+
+    public void setType(ReconciliationDiscrepancyType type) {
+        this.type = type;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public void setTransactionId(String transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    public BigDecimal getExpectedAmount() {
+        return expectedAmount;
+    }
+
+    public void setExpectedAmount(BigDecimal expectedAmount) {
+        this.expectedAmount = expectedAmount;
+    }
+
+    public BigDecimal getActualAmount() {
+        return actualAmount;
+    }
+
+    public void setActualAmount(BigDecimal actualAmount) {
+        this.actualAmount = actualAmount;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public void setDetail(String detail) {
+        this.detail = detail;
+    }
+}
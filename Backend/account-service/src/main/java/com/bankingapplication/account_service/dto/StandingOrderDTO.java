@@ -0,0 +1,161 @@
+package com.bankingapplication.account_service.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.bankingapplication.account_service.entity.StandingOrderFrequency;
+import com.bankingapplication.account_service.entity.StandingOrderStatus;
+
+public class StandingOrderDTO {
+
+    private String orderId;
+    private String sourceAccountNumber;
+    private String destinationAccountNumber;
+    private BigDecimal amount;
+    private String description;
+    private StandingOrderFrequency frequency;
+    private StandingOrderStatus status;
+    private LocalDateTime firstExecutionAt;
+    private LocalDateTime nextExecutionAt;
+    private LocalDate endDate;
+    private int executionCount;
+    private LocalDateTime lastExecutedAt;
+    private String lastTransactionId;
+    private String lastFailureReason;
+    private String createdBy;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public StandingOrderDTO() {
+    }
+
+    // Getters and Setters
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(String orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getSourceAccountNumber() {
+        return sourceAccountNumber;
+    }
+
+    public void setSourceAccountNumber(String sourceAccountNumber) {
+        this.sourceAccountNumber = sourceAccountNumber;
+    }
+
+    public String getDestinationAccountNumber() {
+        return destinationAccountNumber;
+    }
+
+    public void setDestinationAccountNumber(String destinationAccountNumber) {
+        this.destinationAccountNumber = destinationAccountNumber;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public StandingOrderFrequency getFrequency() {
+        return frequency;
+    }
+
+    public void setFrequency(StandingOrderFrequency frequency) {
+        this.frequency = frequency;
+    }
+
+    public StandingOrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(StandingOrderStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getFirstExecutionAt() {
+        return firstExecutionAt;
+    }
+
+    public void setFirstExecutionAt(LocalDateTime firstExecutionAt) {
+        this.firstExecutionAt = firstExecutionAt;
+    }
+
+    public LocalDateTime getNextExecutionAt() {
+        return nextExecutionAt;
+    }
+
+    public void setNextExecutionAt(LocalDateTime nextExecutionAt) {
+        this.nextExecutionAt = nextExecutionAt;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public int getExecutionCount() {
+        return executionCount;
+    }
+
+    public void setExecutionCount(int executionCount) {
+        this.executionCount = executionCount;
+    }
+
+    public LocalDateTime getLastExecutedAt() {
+        return lastExecutedAt;
+    }
+
+    public void setLastExecutedAt(LocalDateTime lastExecutedAt) {
+        this.lastExecutedAt = lastExecutedAt;
+    }
+
+    public String getLastTransactionId() {
+        return lastTransactionId;
+    }
+
+    public void setLastTransactionId(String lastTransactionId) {
+        this.lastTransactionId = lastTransactionId;
+    }
+
+    public String getLastFailureReason() {
+        return lastFailureReason;
+    }
+
+    public void setLastFailureReason(String lastFailureReason) {
+        this.lastFailureReason = lastFailureReason;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public void setCreatedBy(String createdBy) {
+        this.createdBy = createdBy;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
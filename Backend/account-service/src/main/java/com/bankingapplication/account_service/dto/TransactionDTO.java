@@ -21,6 +21,8 @@ public class TransactionDTO {
     private String description;
     private LocalDateTime transactionDate;
     private BigDecimal balanceAfterTransaction;
+    private String failureReason;
+    private BigDecimal fxRate;
 
     // Constructors
     public TransactionDTO() {
@@ -45,6 +47,18 @@ public class TransactionDTO {
         this.balanceAfterTransaction = balanceAfterTransaction;
     }
 
+    // Projection constructor for history queries that select every column in one statement
+    public TransactionDTO(Long id, String transactionId, Long accountId, String accountNumber, BigDecimal amount,
+                         TransactionType transactionType, TransactionStatus status, String sourceAccountNumber,
+                         String destinationAccountNumber, String referenceNumber, String description,
+                         LocalDateTime transactionDate, BigDecimal balanceAfterTransaction, String failureReason,
+                         BigDecimal fxRate) {
+        this(id, transactionId, accountId, accountNumber, amount, transactionType, status, sourceAccountNumber,
+                destinationAccountNumber, referenceNumber, description, transactionDate, balanceAfterTransaction);
+        this.failureReason = failureReason;
+        this.fxRate = fxRate;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -149,4 +163,20 @@ public class TransactionDTO {
     public void setBalanceAfterTransaction(BigDecimal balanceAfterTransaction) {
         this.balanceAfterTransaction = balanceAfterTransaction;
     }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public void setFailureReason(String failureReason) {
+        this.failureReason = failureReason;
+    }
+
+    public BigDecimal getFxRate() {
+        return fxRate;
+    }
+
+    public void setFxRate(BigDecimal fxRate) {
+        this.fxRate = fxRate;
+    }
 }
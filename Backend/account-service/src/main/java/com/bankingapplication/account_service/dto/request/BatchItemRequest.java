@@ -0,0 +1,92 @@
+package com.bankingapplication.account_service.dto.request;
+
+import java.math.BigDecimal;
+
+import com.bankingapplication.account_service.entity.TransactionType;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+// One item of a batch: a DEPOSIT to accountNumber, or a TRANSFER from accountNumber to destinationAccountNumber
+public class BatchItemRequest {
+
+    @NotNull(message = "Type is required")
+    private TransactionType type;
+
+    @NotBlank(message = "Account number is required")
+    private String accountNumber;
+
+    private String destinationAccountNumber;
+
+    @NotNull(message = "Amount is required")
+    @Positive(message = "Amount must be positive")
+    private BigDecimal amount;
+
+    private String description;
+
+    private String referenceNumber;
+
+    // Constructors
+    public BatchItemRequest() {
+    }
+
+    public BatchItemRequest(TransactionType type, String accountNumber, String destinationAccountNumber,
+                            BigDecimal amount, String description, String referenceNumber) {
+        this.type = type;
+        this.accountNumber = accountNumber;
+        this.destinationAccountNumber = destinationAccountNumber;
+        this.amount = amount;
+        this.description = description;
+        this.referenceNumber = referenceNumber;
+    }
+
+    // Getters and Setters
+    public TransactionType getType() {
+        return type;
+    }
+
+    public void setType(TransactionType type) {
+        this.type = type;
+    }
+
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public void setAccountNumber(String accountNumber) {
+        this.accountNumber = accountNumber;
+    }
+
+    public String getDestinationAccountNumber() {
+        return destinationAccountNumber;
+    }
+
+    public void setDestinationAccountNumber(String destinationAccountNumber) {
+        this.destinationAccountNumber = destinationAccountNumber;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getReferenceNumber() {
+        return referenceNumber;
+    }
+
+    public void setReferenceNumber(String referenceNumber) {
+        this.referenceNumber = referenceNumber;
+    }
+}
@@ -0,0 +1,29 @@
+package com.bankingapplication.account_service.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+public class BatchPostingRequest {
+
+    @NotEmpty(message = "At least one item is required")
+    private List<@Valid BatchItemRequest> items;
+
+    // Constructors
+    public BatchPostingRequest() {
+    }
+
+    public BatchPostingRequest(List<BatchItemRequest> items) {
+        this.items = items;
+    }
+
+    // Getters and Setters
+    public List<BatchItemRequest> getItems() {
+        return items;
+    }
+
+    public void setItems(List<BatchItemRequest> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,34 @@
+package com.bankingapplication.account_service.dto.request;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.Positive;
+
+public class HoldCaptureRequest {
+
+    @Positive(message = "Amount must be positive")
+    private BigDecimal amount; // Defaults to the full held amount
+
+    private String description;
+
+    // Constructors
+    public HoldCaptureRequest() {
+    }
+
+    // Getters and Setters
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,76 @@
+package com.bankingapplication.account_service.dto.request;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public class HoldRequest {
+
+    @NotBlank(message = "Account number is required")
+    private String accountNumber;
+
+    @NotNull(message = "Amount is required")
+    @Positive(message = "Amount must be positive")
+    private BigDecimal amount;
+
+    private String description;
+
+    private String referenceNumber;
+
+    @Positive(message = "Expiry must be positive")
+    private Integer expiresInMinutes; // Defaults to app.holds.default-expiry
+
+    // Constructors
+    public HoldRequest() {
+    }
+
+    public HoldRequest(String accountNumber, BigDecimal amount, String description, String referenceNumber) {
+        this.accountNumber = accountNumber;
+        this.amount = amount;
+        this.description = description;
+        this.referenceNumber = referenceNumber;
+    }
+
+    // Getters and Setters
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public void setAccountNumber(String accountNumber) {
+        this.accountNumber = accountNumber;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getReferenceNumber() {
+        return referenceNumber;
+    }
+
+    public void setReferenceNumber(String referenceNumber) {
+        this.referenceNumber = referenceNumber;
+    }
+
+    public Integer getExpiresInMinutes() {
+        return expiresInMinutes;
+    }
+
+    public void setExpiresInMinutes(Integer expiresInMinutes) {
+        this.expiresInMinutes = expiresInMinutes;
+    }
+}
@@ -0,0 +1,54 @@
+package com.bankingapplication.account_service.dto.request;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public class SplitTransferLegRequest {
+
+    @NotBlank(message = "Destination account number is required")
+    private String destinationAccountNumber;
+
+    @NotNull(message = "Amount is required")
+    @Positive(message = "Amount must be positive")
+    private BigDecimal amount;
+
+    private String description;
+
+    // Constructors
+    public SplitTransferLegRequest() {
+    }
+
+    public SplitTransferLegRequest(String destinationAccountNumber, BigDecimal amount, String description) {
+        this.destinationAccountNumber = destinationAccountNumber;
+        this.amount = amount;
+        this.description = description;
+    }
+
+    // Getters and Setters
+    public String getDestinationAccountNumber() {
+        return destinationAccountNumber;
+    }
+
+    public void setDestinationAccountNumber(String destinationAccountNumber) {
+        this.destinationAccountNumber = destinationAccountNumber;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,67 @@
+package com.bankingapplication.account_service.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public class SplitTransferRequest {
+
+    @NotBlank(message = "Source account number is required")
+    private String sourceAccountNumber;
+
+    @NotEmpty(message = "At least one destination is required")
+    @Size(max = 1000, message = "A split transfer may have at most 1000 destinations")
+    private List<@Valid SplitTransferLegRequest> legs;
+
+    private String description;
+
+    private String referenceNumber;
+
+    // Constructors
+    public SplitTransferRequest() {
+    }
+
+    public SplitTransferRequest(String sourceAccountNumber, List<SplitTransferLegRequest> legs, String description,
+                                String referenceNumber) {
+        this.sourceAccountNumber = sourceAccountNumber;
+        this.legs = legs;
+        this.description = description;
+        this.referenceNumber = referenceNumber;
+    }
+
+    // Getters and Setters
+    public String getSourceAccountNumber() {
+        return sourceAccountNumber;
+    }
+
+    public void setSourceAccountNumber(String sourceAccountNumber) {
+        this.sourceAccountNumber = sourceAccountNumber;
+    }
+
+    public List<SplitTransferLegRequest> getLegs() {
+        return legs;
+    }
+
+    public void setLegs(List<SplitTransferLegRequest> legs) {
+        this.legs = legs;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getReferenceNumber() {
+        return referenceNumber;
+    }
+
+    public void setReferenceNumber(String referenceNumber) {
+        this.referenceNumber = referenceNumber;
+    }
+}
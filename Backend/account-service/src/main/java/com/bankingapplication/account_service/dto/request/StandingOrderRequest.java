@@ -0,0 +1,95 @@
+package com.bankingapplication.account_service.dto.request;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.bankingapplication.account_service.entity.StandingOrderFrequency;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public class StandingOrderRequest {
+
+    @NotBlank(message = "Source account number is required")
+    private String sourceAccountNumber;
+
+    @NotBlank(message = "Destination account number is required")
+    private String destinationAccountNumber;
+
+    @NotNull(message = "Amount is required")
+    @Positive(message = "Amount must be positive")
+    private BigDecimal amount;
+
+    @NotNull(message = "Frequency is required")
+    private StandingOrderFrequency frequency;
+
+    @NotNull(message = "First execution time is required")
+    private LocalDateTime firstExecutionAt;
+
+    private LocalDate endDate;
+
+    private String description;
+
+    // Constructors
+    public StandingOrderRequest() {
+    }
+
+    // Getters and Setters
+    public String getSourceAccountNumber() {
+        return sourceAccountNumber;
+    }
+
+    public void setSourceAccountNumber(String sourceAccountNumber) {
+        this.sourceAccountNumber = sourceAccountNumber;
+    }
+
+    public String getDestinationAccountNumber() {
+        return destinationAccountNumber;
+    }
+
+    public void setDestinationAccountNumber(String destinationAccountNumber) {
+        this.destinationAccountNumber = destinationAccountNumber;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public StandingOrderFrequency getFrequency() {
+        return frequency;
+    }
+
+    public void setFrequency(StandingOrderFrequency frequency) {
+        this.frequency = frequency;
+    }
+
+    public LocalDateTime getFirstExecutionAt() {
+        return firstExecutionAt;
+    }
+
+    public void setFirstExecutionAt(LocalDateTime firstExecutionAt) {
+        this.firstExecutionAt = firstExecutionAt;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
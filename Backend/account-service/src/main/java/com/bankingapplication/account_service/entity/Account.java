@@ -17,13 +17,17 @@ import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 @Entity
 @Table(name = "accounts")
 public class Account {
 
+    // Pooled-lo sequence so inserts can be JDBC-batched (IDENTITY disables Hibernate batching)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_seq")
+    @SequenceGenerator(name = "account_seq", sequenceName = "accounts_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -66,6 +70,18 @@ public class Account {
     @Column(name = "minimum_balance")
     private BigDecimal minimumBalance;
 
+    @Column(name = "interest_carry", precision = 19, scale = 10)
+    private BigDecimal interestCarry; // Accrued interest below one cent, carried to the next accrual
+
+    // Total of ACTIVE authorization holds, changed only under the account row lock together with the hold row
+    @Column(name = "held_amount", columnDefinition = "numeric(19,2) default 0")
+    private BigDecimal heldAmount;
+
+    // Primitive so rows that predate the column (default 0) are still treated as existing entities
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Transaction> transactions = new ArrayList<>();
 
@@ -252,6 +268,35 @@ public class Account {
         this.minimumBalance = minimumBalance;
     }
 
+    public BigDecimal getInterestCarry() {
+        return interestCarry;
+    }
+
+    public void setInterestCarry(BigDecimal interestCarry) {
+        this.interestCarry = interestCarry;
+    }
+
+    public BigDecimal getHeldAmount() {
+        return heldAmount != null ? heldAmount : BigDecimal.ZERO;
+    }
+
+    public void setHeldAmount(BigDecimal heldAmount) {
+        this.heldAmount = heldAmount;
+    }
+
+    // What a debit may take: balance plus overdraft, less outstanding authorization holds
+    public BigDecimal availableBalance() {
+        return balance.add(overdraftLimit != null ? overdraftLimit : BigDecimal.ZERO).subtract(getHeldAmount());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public List<Transaction> getTransactions() {
         return transactions;
     }
@@ -0,0 +1,49 @@
+package com.bankingapplication.account_service.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+// Next unreserved account number sequence per account type.
+// Instances reserve whole blocks from it and hand the numbers out from memory.
+@Entity
+@Table(name = "account_number_counters")
+public class AccountNumberCounter {
+
+    @Id
+    @Column(name = "account_type")
+    @Enumerated(EnumType.STRING)
+    private AccountType accountType;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+
+    // Constructors
+    public AccountNumberCounter() {
+    }
+
+    public AccountNumberCounter(AccountType accountType, long nextValue) {
+        this.accountType = accountType;
+        this.nextValue = nextValue;
+    }
+
+    // Getters and Setters
+    public AccountType getAccountType() {
+        return accountType;
+    }
+
+    public void setAccountType(AccountType accountType) {
+        this.accountType = accountType;
+    }
+
+    public long getNextValue() {
+        return nextValue;
+    }
+
+    public void setNextValue(long nextValue) {
+        this.nextValue = nextValue;
+    }
+}
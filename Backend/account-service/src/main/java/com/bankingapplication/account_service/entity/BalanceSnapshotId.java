@@ -0,0 +1,38 @@
+package com.bankingapplication.account_service.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class BalanceSnapshotId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long accountId;
+    private LocalDate snapshotDate;
+
+    // Constructors
+    public BalanceSnapshotId() {
+    }
+
+    public BalanceSnapshotId(Long accountId, LocalDate snapshotDate) {
+        this.accountId = accountId;
+        this.snapshotDate = snapshotDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BalanceSnapshotId that)) {
+            return false;
+        }
+        return Objects.equals(accountId, that.accountId) && Objects.equals(snapshotDate, that.snapshotDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(accountId, snapshotDate);
+    }
+}
@@ -0,0 +1,81 @@
+package com.bankingapplication.account_service.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+// Running total of one account's postings of one type on one business day.
+// Maintained in the same DB transaction as the posting so limit checks never scan transactions.
+@Entity
+@Table(name = "daily_transaction_totals")
+@IdClass(DailyTransactionTotalId.class)
+public class DailyTransactionTotal {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Id
+    @Column(name = "business_date")
+    private LocalDate businessDate;
+
+    @Id
+    @Column(name = "transaction_type")
+    @Enumerated(EnumType.STRING)
+    private TransactionType transactionType;
+
+    @Column(name = "total_amount", nullable = false)
+    private BigDecimal totalAmount;
+
+    // Constructors
+    public DailyTransactionTotal() {
+    }
+
+    public DailyTransactionTotal(Long accountId, LocalDate businessDate, TransactionType transactionType,
+                                 BigDecimal totalAmount) {
+        this.accountId = accountId;
+        this.businessDate = businessDate;
+        this.transactionType = transactionType;
+        this.totalAmount = totalAmount;
+    }
+
+    // Getters and Setters
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public LocalDate getBusinessDate() {
+        return businessDate;
+    }
+
+    public void setBusinessDate(LocalDate businessDate) {
+        this.businessDate = businessDate;
+    }
+
+    public TransactionType getTransactionType() {
+        return transactionType;
+    }
+
+    public void setTransactionType(TransactionType transactionType) {
+        this.transactionType = transactionType;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+}
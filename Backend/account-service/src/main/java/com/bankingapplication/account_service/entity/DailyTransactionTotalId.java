@@ -0,0 +1,42 @@
+package com.bankingapplication.account_service.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class DailyTransactionTotalId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long accountId;
+    private LocalDate businessDate;
+    private TransactionType transactionType;
+
+    // Constructors
+    public DailyTransactionTotalId() {
+    }
+
+    public DailyTransactionTotalId(Long accountId, LocalDate businessDate, TransactionType transactionType) {
+        this.accountId = accountId;
+        this.businessDate = businessDate;
+        this.transactionType = transactionType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DailyTransactionTotalId that)) {
+            return false;
+        }
+        return Objects.equals(accountId, that.accountId)
+                && Objects.equals(businessDate, that.businessDate)
+                && transactionType == that.transactionType;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(accountId, businessDate, transactionType);
+    }
+}
@@ -0,0 +1,76 @@
+package com.bankingapplication.account_service.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+// Quoted FX rate: units of quote currency per one unit of base currency. Postings never read this
+// table; FxRateService loads it into an in-memory FxRateTable.
+@Entity
+@Table(name = "fx_rates")
+@IdClass(FxRateId.class)
+public class FxRate {
+
+    @Id
+    @Column(name = "base_currency", length = 3)
+    private String baseCurrency;
+
+    @Id
+    @Column(name = "quote_currency", length = 3)
+    private String quoteCurrency;
+
+    @Column(nullable = false, precision = 20, scale = 10)
+    private BigDecimal rate;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public FxRate() {
+    }
+
+    public FxRate(String baseCurrency, String quoteCurrency, BigDecimal rate, LocalDateTime updatedAt) {
+        this.baseCurrency = baseCurrency;
+        this.quoteCurrency = quoteCurrency;
+        this.rate = rate;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public String getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    public void setBaseCurrency(String baseCurrency) {
+        this.baseCurrency = baseCurrency;
+    }
+
+    public String getQuoteCurrency() {
+        return quoteCurrency;
+    }
+
+    public void setQuoteCurrency(String quoteCurrency) {
+        this.quoteCurrency = quoteCurrency;
+    }
+
+    public BigDecimal getRate() {
+        return rate;
+    }
+
+    public void setRate(BigDecimal rate) {
+        this.rate = rate;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,37 @@
+package com.bankingapplication.account_service.entity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+public class FxRateId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String baseCurrency;
+    private String quoteCurrency;
+
+    // Constructors
+    public FxRateId() {
+    }
+
+    public FxRateId(String baseCurrency, String quoteCurrency) {
+        this.baseCurrency = baseCurrency;
+        this.quoteCurrency = quoteCurrency;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FxRateId that)) {
+            return false;
+        }
+        return Objects.equals(baseCurrency, that.baseCurrency) && Objects.equals(quoteCurrency, that.quoteCurrency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(baseCurrency, quoteCurrency);
+    }
+}
@@ -0,0 +1,8 @@
+package com.bankingapplication.account_service.entity;
+
+public enum HoldStatus {
+    ACTIVE,
+    CAPTURED,
+    RELEASED,
+    EXPIRED
+}
@@ -0,0 +1,114 @@
+package com.bankingapplication.account_service.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+// Progress of one account-id range of one day's interest accrual. Advanced in the same DB transaction
+// as the interest it covers, so a crashed or concurrent run resumes after the last committed account.
+@Entity
+@Table(name = "interest_accrual_checkpoints")
+@IdClass(InterestAccrualCheckpointId.class)
+public class InterestAccrualCheckpoint {
+
+    @Id
+    @Column(name = "business_date")
+    private LocalDate businessDate;
+
+    @Id
+    @Column(name = "partition_no")
+    private int partitionNo;
+
+    @Column(name = "last_account_id", nullable = false)
+    private long lastAccountId; // Accounts up to and including this id are done
+
+    @Column(name = "end_account_id", nullable = false)
+    private long endAccountId;
+
+    @Column(name = "accounts_processed", nullable = false)
+    private long accountsProcessed;
+
+    @Column(name = "interest_posted", nullable = false)
+    private BigDecimal interestPosted;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public InterestAccrualCheckpoint() {
+    }
+
+    // Getters and Setters
+    public LocalDate getBusinessDate() {
+        return businessDate;
+    }
+
+    public void setBusinessDate(LocalDate businessDate) {
+        this.businessDate = businessDate;
+    }
+
+    public int getPartitionNo() {
+        return partitionNo;
+    }
+
+    public void setPartitionNo(int partitionNo) {
+        this.partitionNo = partitionNo;
+    }
+
+    public long getLastAccountId() {
+        return lastAccountId;
+    }
+
+    public void setLastAccountId(long lastAccountId) {
+        this.lastAccountId = lastAccountId;
+    }
+
+    public long getEndAccountId() {
+        return endAccountId;
+    }
+
+    public void setEndAccountId(long endAccountId) {
+        this.endAccountId = endAccountId;
+    }
+
+    public long getAccountsProcessed() {
+        return accountsProcessed;
+    }
+
+    public void setAccountsProcessed(long accountsProcessed) {
+        this.accountsProcessed = accountsProcessed;
+    }
+
+    public BigDecimal getInterestPosted() {
+        return interestPosted;
+    }
+
+    public void setInterestPosted(BigDecimal interestPosted) {
+        this.interestPosted = interestPosted;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
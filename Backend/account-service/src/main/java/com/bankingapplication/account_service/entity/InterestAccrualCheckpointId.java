@@ -0,0 +1,38 @@
+package com.bankingapplication.account_service.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class InterestAccrualCheckpointId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private LocalDate businessDate;
+    private int partitionNo;
+
+    // Constructors
+    public InterestAccrualCheckpointId() {
+    }
+
+    public InterestAccrualCheckpointId(LocalDate businessDate, int partitionNo) {
+        this.businessDate = businessDate;
+        this.partitionNo = partitionNo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof InterestAccrualCheckpointId that)) {
+            return false;
+        }
+        return Objects.equals(businessDate, that.businessDate) && partitionNo == that.partitionNo;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(businessDate, partitionNo);
+    }
+}
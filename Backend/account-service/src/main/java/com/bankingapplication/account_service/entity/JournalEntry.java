@@ -0,0 +1,92 @@
+package com.bankingapplication.account_service.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+// Header of one append-only double-entry journal entry; its postings always sum to zero.
+// Rows are written by JournalService's single-statement insert, never updated.
+@Entity
+@Table(name = "journal_entries")
+public class JournalEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "journal_entry_seq")
+    @SequenceGenerator(name = "journal_entry_seq", sequenceName = "journal_entries_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "entry_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private TransactionType entryType;
+
+    @Column(name = "reference_number")
+    private String referenceNumber;
+
+    @Column
+    private String description;
+
+    @Column(name = "posted_at", nullable = false)
+    private LocalDateTime postedAt;
+
+    // Constructors
+    public JournalEntry() {
+    }
+
+    public JournalEntry(Long id, TransactionType entryType, String referenceNumber, String description,
+                        LocalDateTime postedAt) {
+        this.id = id;
+        this.entryType = entryType;
+        this.referenceNumber = referenceNumber;
+        this.description = description;
+        this.postedAt = postedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public TransactionType getEntryType() {
+        return entryType;
+    }
+
+    public void setEntryType(TransactionType entryType) {
+        this.entryType = entryType;
+    }
+
+    public String getReferenceNumber() {
+        return referenceNumber;
+    }
+
+    public void setReferenceNumber(String referenceNumber) {
+        this.referenceNumber = referenceNumber;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public LocalDateTime getPostedAt() {
+        return postedAt;
+    }
+
+    public void setPostedAt(LocalDateTime postedAt) {
+        this.postedAt = postedAt;
+    }
+}
@@ -0,0 +1,126 @@
+package com.bankingapplication.account_service.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+// One leg of a journal entry. Amounts are signed from the account's point of view, in its currency:
+// negative debits the balance, positive credits it. Clearing accounts (see JournalService) have
+// negative ids. History reads go through the covering index on (account_id, posted_at) created by
+// db/init/journal-indexes.sql.
+@Entity
+@Table(name = "journal_postings")
+@IdClass(JournalPostingId.class)
+public class JournalPosting {
+
+    @Id
+    @Column(name = "entry_id")
+    private Long entryId;
+
+    @Id
+    @Column(name = "leg")
+    private Integer leg;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "balance_after")
+    private BigDecimal balanceAfter; // Null on clearing account legs
+
+    @Column(name = "transaction_id")
+    private String transactionId; // Statement row in transactions for this leg
+
+    @Column(name = "booking_amount")
+    private BigDecimal bookingAmount; // Cross-currency legs only: the amount in the entry's currency
+
+    @Column(name = "posted_at", nullable = false)
+    private LocalDateTime postedAt;
+
+    // Constructors
+    public JournalPosting() {
+    }
+
+    public JournalPosting(Long entryId, Integer leg, Long accountId, BigDecimal amount, BigDecimal balanceAfter,
+                          String transactionId, LocalDateTime postedAt) {
+        this.entryId = entryId;
+        this.leg = leg;
+        this.accountId = accountId;
+        this.amount = amount;
+        this.balanceAfter = balanceAfter;
+        this.transactionId = transactionId;
+        this.postedAt = postedAt;
+    }
+
+    // Getters and Setters
+    public Long getEntryId() {
+        return entryId;
+    }
+
+    public void setEntryId(Long entryId) {
+        this.entryId = entryId;
+    }
+
+    public Integer getLeg() {
+        return leg;
+    }
+
+    public void setLeg(Integer leg) {
+        this.leg = leg;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public BigDecimal getBalanceAfter() {
+        return balanceAfter;
+    }
+
+    public void setBalanceAfter(BigDecimal balanceAfter) {
+        this.balanceAfter = balanceAfter;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public void setTransactionId(String transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    public LocalDateTime getPostedAt() {
+        return postedAt;
+    }
+
+    public void setPostedAt(LocalDateTime postedAt) {
+        this.postedAt = postedAt;
+    }
+
+    public BigDecimal getBookingAmount() {
+        return bookingAmount;
+    }
+
+    public void setBookingAmount(BigDecimal bookingAmount) {
+        this.bookingAmount = bookingAmount;
+    }
+}
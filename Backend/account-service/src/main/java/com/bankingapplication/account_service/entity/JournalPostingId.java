@@ -0,0 +1,37 @@
+package com.bankingapplication.account_service.entity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+public class JournalPostingId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long entryId;
+    private Integer leg;
+
+    // Constructors
+    public JournalPostingId() {
+    }
+
+    public JournalPostingId(Long entryId, Integer leg) {
+        this.entryId = entryId;
+        this.leg = leg;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JournalPostingId that)) {
+            return false;
+        }
+        return Objects.equals(entryId, that.entryId) && Objects.equals(leg, that.leg);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entryId, leg);
+    }
+}
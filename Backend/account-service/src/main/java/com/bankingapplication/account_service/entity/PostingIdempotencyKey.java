@@ -0,0 +1,60 @@
+package com.bankingapplication.account_service.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+// Client reference of a committed posting, claimed in the posting's own DB transaction.
+// The primary key makes a replay on any instance collide with the original.
+@Entity
+@Table(name = "posting_idempotency_keys")
+public class PostingIdempotencyKey {
+
+    @Id
+    @Column(name = "idempotency_key")
+    private String idempotencyKey;
+
+    @Column(name = "transaction_id", nullable = false)
+    private String transactionId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public PostingIdempotencyKey() {
+    }
+
+    public PostingIdempotencyKey(String idempotencyKey, String transactionId, LocalDateTime createdAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.transactionId = transactionId;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public void setTransactionId(String transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
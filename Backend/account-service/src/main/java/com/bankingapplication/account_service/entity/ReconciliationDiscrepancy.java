@@ -0,0 +1,137 @@
+package com.bankingapplication.account_service.entity;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "reconciliation_discrepancies")
+public class ReconciliationDiscrepancy {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reconciliation_discrepancy_seq")
+    @SequenceGenerator(name = "reconciliation_discrepancy_seq", sequenceName = "reconciliation_discrepancies_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "account_number")
+    private String accountNumber;
+
+    @Column(name = "discrepancy_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ReconciliationDiscrepancyType type;
+
+    @Column(name = "transaction_id")
+    private String transactionId; // Null for account-level findings
+
+    @Column(name = "expected_amount")
+    private BigDecimal expectedAmount;
+
+    @Column(name = "actual_amount")
+    private BigDecimal actualAmount;
+
+    @Column
+    private String detail;
+
+    // Constructors
+    public ReconciliationDiscrepancy() {
+    }
+
+    public ReconciliationDiscrepancy(Long accountId, String accountNumber, ReconciliationDiscrepancyType type,
+                                     String transactionId, BigDecimal expectedAmount, BigDecimal actualAmount,
+                                     String detail) {
+        this.accountId = accountId;
+        this.accountNumber = accountNumber;
+        this.type = type;
+        this.transactionId = transactionId;
+        this.expectedAmount = expectedAmount;
+        this.actualAmount = actualAmount;
+        this.detail = detail;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getRunId() {
+        return runId;
+    }
+
+    public void setRunId(Long runId) {
+        this.runId = runId;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public void setAccountNumber(String accountNumber) {
+        this.accountNumber = accountNumber;
+    }
+
+    public ReconciliationDiscrepancyType getType() {
+        return type;
+    }
+
+    public void setType(ReconciliationDiscrepancyType type) {
+        this.type = type;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public void setTransactionId(String transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    public BigDecimal getExpectedAmount() {
+        return expectedAmount;
+    }
+
+    public void setExpectedAmount(BigDecimal expectedAmount) {
+        this.expectedAmount = expectedAmount;
+    }
+
+    public BigDecimal getActualAmount() {
+        return actualAmount;
+    }
+
+    public void setActualAmount(BigDecimal actualAmount) {
+        this.actualAmount = actualAmount;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public void setDetail(String detail) {
+        this.detail = detail;
+    }
+}
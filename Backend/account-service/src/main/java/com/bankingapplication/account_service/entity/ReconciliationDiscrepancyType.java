@@ -0,0 +1,9 @@
+package com.bankingapplication.account_service.entity;
+
+public enum ReconciliationDiscrepancyType {
+    BALANCE_DRIFT,
+    BROKEN_BALANCE_CHAIN,
+    MISSING_JOURNAL_LEG,
+    MISSING_TRANSFER_LEG,
+    UNBALANCED_TRANSFER
+}
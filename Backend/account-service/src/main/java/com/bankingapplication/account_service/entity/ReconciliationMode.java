@@ -0,0 +1,6 @@
+package com.bankingapplication.account_service.entity;
+
+public enum ReconciliationMode {
+    FULL,
+    INCREMENTAL
+}
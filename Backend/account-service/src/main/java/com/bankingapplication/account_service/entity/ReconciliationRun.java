@@ -0,0 +1,133 @@
+package com.bankingapplication.account_service.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+// Header of one ledger reconciliation run; its findings are ReconciliationDiscrepancy rows.
+@Entity
+@Table(name = "reconciliation_runs")
+public class ReconciliationRun {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ReconciliationMode mode;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ReconciliationStatus status;
+
+    @Column(name = "covered_since")
+    private LocalDateTime coveredSince; // INCREMENTAL only: accounts touched at or after this time
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "accounts_checked", nullable = false)
+    private long accountsChecked;
+
+    @Column(name = "postings_checked", nullable = false)
+    private long postingsChecked;
+
+    @Column(name = "discrepancy_count", nullable = false)
+    private long discrepancyCount; // All findings, including any beyond the per-chunk storage cap
+
+    @Column(name = "failure_reason")
+    private String failureReason;
+
+    // Constructors
+    public ReconciliationRun() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ReconciliationMode getMode() {
+        return mode;
+    }
+
+    public void setMode(ReconciliationMode mode) {
+        this.mode = mode;
+    }
+
+    public ReconciliationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ReconciliationStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCoveredSince() {
+        return coveredSince;
+    }
+
+    public void setCoveredSince(LocalDateTime coveredSince) {
+        this.coveredSince = coveredSince;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public long getAccountsChecked() {
+        return accountsChecked;
+    }
+
+    public void setAccountsChecked(long accountsChecked) {
+        this.accountsChecked = accountsChecked;
+    }
+
+    public long getPostingsChecked() {
+        return postingsChecked;
+    }
+
+    public void setPostingsChecked(long postingsChecked) {
+        this.postingsChecked = postingsChecked;
+    }
+
+    public long getDiscrepancyCount() {
+        return discrepancyCount;
+    }
+
+    public void setDiscrepancyCount(long discrepancyCount) {
+        this.discrepancyCount = discrepancyCount;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public void setFailureReason(String failureReason) {
+        this.failureReason = failureReason;
+    }
+}
@@ -0,0 +1,203 @@
+package com.bankingapplication.account_service.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+// Recurring or future-dated transfer. next_execution_at only moves forward through a conditional
+// update, so an occurrence is advanced once even if two schedulers race on it.
+@Entity
+@Table(name = "standing_orders")
+public class StandingOrder {
+
+    @Id
+    @Column(name = "order_id")
+    private String orderId;
+
+    @Column(name = "source_account_number", nullable = false)
+    private String sourceAccountNumber;
+
+    @Column(name = "destination_account_number", nullable = false)
+    private String destinationAccountNumber;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    @Column
+    private String description;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private StandingOrderFrequency frequency;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private StandingOrderStatus status;
+
+    @Column(name = "first_execution_at", nullable = false)
+    private LocalDateTime firstExecutionAt;
+
+    @Column(name = "next_execution_at")
+    private LocalDateTime nextExecutionAt; // Null once the order is completed or cancelled
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Column(name = "execution_count", nullable = false)
+    private int executionCount;
+
+    @Column(name = "last_executed_at")
+    private LocalDateTime lastExecutedAt;
+
+    @Column(name = "last_transaction_id")
+    private String lastTransactionId;
+
+    @Column(name = "last_failure_reason")
+    private String lastFailureReason;
+
+    @Column(name = "created_by")
+    private String createdBy;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public StandingOrder() {
+    }
+
+    // Getters and Setters
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(String orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getSourceAccountNumber() {
+        return sourceAccountNumber;
+    }
+
+    public void setSourceAccountNumber(String sourceAccountNumber) {
+        this.sourceAccountNumber = sourceAccountNumber;
+    }
+
+    public String getDestinationAccountNumber() {
+        return destinationAccountNumber;
+    }
+
+    public void setDestinationAccountNumber(String destinationAccountNumber) {
+        this.destinationAccountNumber = destinationAccountNumber;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public StandingOrderFrequency getFrequency() {
+        return frequency;
+    }
+
+    public void setFrequency(StandingOrderFrequency frequency) {
+        this.frequency = frequency;
+    }
+
+    public StandingOrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(StandingOrderStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getFirstExecutionAt() {
+        return firstExecutionAt;
+    }
+
+    public void setFirstExecutionAt(LocalDateTime firstExecutionAt) {
+        this.firstExecutionAt = firstExecutionAt;
+    }
+
+    public LocalDateTime getNextExecutionAt() {
+        return nextExecutionAt;
+    }
+
+    public void setNextExecutionAt(LocalDateTime nextExecutionAt) {
+        this.nextExecutionAt = nextExecutionAt;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public int getExecutionCount() {
+        return executionCount;
+    }
+
+    public void setExecutionCount(int executionCount) {
+        this.executionCount = executionCount;
+    }
+
+    public LocalDateTime getLastExecutedAt() {
+        return lastExecutedAt;
+    }
+
+    public void setLastExecutedAt(LocalDateTime lastExecutedAt) {
+        this.lastExecutedAt = lastExecutedAt;
+    }
+
+    public String getLastTransactionId() {
+        return lastTransactionId;
+    }
+
+    public void setLastTransactionId(String lastTransactionId) {
+        this.lastTransactionId = lastTransactionId;
+    }
+
+    public String getLastFailureReason() {
+        return lastFailureReason;
+    }
+
+    public void setLastFailureReason(String lastFailureReason) {
+        this.lastFailureReason = lastFailureReason;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public void setCreatedBy(String createdBy) {
+        this.createdBy = createdBy;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
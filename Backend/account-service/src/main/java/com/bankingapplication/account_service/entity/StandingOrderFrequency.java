@@ -0,0 +1,24 @@
+package com.bankingapplication.account_service.entity;
+
+import java.time.LocalDateTime;
+
+public enum StandingOrderFrequency {
+    ONCE,
+    DAILY,
+    WEEKLY,
+    MONTHLY;
+
+    // Counted from the first execution so month-end dates don't drift (31 Jan -> 29 Feb -> 31 Mar)
+    public LocalDateTime occurrence(LocalDateTime firstExecutionAt, int n) {
+        switch (this) {
+            case DAILY:
+                return firstExecutionAt.plusDays(n);
+            case WEEKLY:
+                return firstExecutionAt.plusWeeks(n);
+            case MONTHLY:
+                return firstExecutionAt.plusMonths(n);
+            default:
+                return n == 0 ? firstExecutionAt : null;
+        }
+    }
+}
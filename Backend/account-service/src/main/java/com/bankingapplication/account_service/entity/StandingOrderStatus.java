@@ -0,0 +1,7 @@
+package com.bankingapplication.account_service.entity;
+
+public enum StandingOrderStatus {
+    ACTIVE,
+    COMPLETED,
+    CANCELLED
+}
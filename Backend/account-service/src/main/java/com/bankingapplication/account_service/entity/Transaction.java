@@ -14,16 +14,21 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 @Entity
 @Table(name = "transactions")
 public class Transaction {
 
+    // Pooled-lo sequence so inserts can be JDBC-batched (IDENTITY disables Hibernate batching)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
 
-    @Column(unique = true, nullable = false)
+    // Unique: db/init/transaction-ids.sql indexes it on the plain table; a partitioned table cannot
+    // hold a unique key without transaction_date, so there db/migration/V2's transaction_ids table does
+    @Column(nullable = false)
     private String transactionId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -59,6 +64,18 @@ public class Transaction {
     @Column(name = "balance_after_transaction")
     private BigDecimal balanceAfterTransaction;
 
+    @Column(name = "failure_reason")
+    private String failureReason; // Why an async posting ended FAILED or REJECTED
+
+    @Column(name = "retry_attempts")
+    private Integer retryAttempts; // Times the retry worker has claimed this row
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt; // PENDING/FAILED rows are not retried before this
+
+    @Column(name = "fx_rate", precision = 20, scale = 10)
+    private BigDecimal fxRate; // Source-to-destination rate on both legs of a cross-currency transfer
+
     @PrePersist
     protected void onCreate() {
         this.transactionDate = LocalDateTime.now();
@@ -185,4 +202,36 @@ public class Transaction {
     public void setBalanceAfterTransaction(BigDecimal balanceAfterTransaction) {
         this.balanceAfterTransaction = balanceAfterTransaction;
     }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public void setFailureReason(String failureReason) {
+        this.failureReason = failureReason;
+    }
+
+    public Integer getRetryAttempts() {
+        return retryAttempts;
+    }
+
+    public void setRetryAttempts(Integer retryAttempts) {
+        this.retryAttempts = retryAttempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public BigDecimal getFxRate() {
+        return fxRate;
+    }
+
+    public void setFxRate(BigDecimal fxRate) {
+        this.fxRate = fxRate;
+    }
 }
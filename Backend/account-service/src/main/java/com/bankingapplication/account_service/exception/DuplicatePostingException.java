@@ -0,0 +1,19 @@
+package com.bankingapplication.account_service.exception;
+
+// Thrown inside a posting transaction when its idempotency key was already claimed;
+// the caller answers with the original posting instead.
+public class DuplicatePostingException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String idempotencyKey;
+
+    public DuplicatePostingException(String idempotencyKey) {
+        super("Posting already processed for key " + idempotencyKey);
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+}
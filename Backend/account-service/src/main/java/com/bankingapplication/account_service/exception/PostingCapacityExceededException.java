@@ -0,0 +1,11 @@
+package com.bankingapplication.account_service.exception;
+
+// Posting work queues are full; clients should back off and retry
+public class PostingCapacityExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PostingCapacityExceededException(String message) {
+        super(message);
+    }
+}
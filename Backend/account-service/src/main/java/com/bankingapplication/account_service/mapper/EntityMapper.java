@@ -15,7 +15,7 @@ import com.bankingapplication.account_service.entity.Transaction;
 public class EntityMapper {
 
     public AccountDTO mapToAccountDTO(Account account) {
-        return new AccountDTO(
+        AccountDTO dto = new AccountDTO(
                 account.getId(),
                 account.getAccountNumber(),
                 account.getUserId(),
@@ -31,6 +31,9 @@ public class EntityMapper {
                 account.getOverdraftLimit(),
                 account.getMinimumBalance()
         );
+        dto.setHeldAmount(account.getHeldAmount());
+        dto.setAvailableBalance(account.getBalance() != null ? account.availableBalance() : null);
+        return dto;
     }
 
     public List<AccountDTO> mapToAccountDTOList(List<Account> accounts) {
@@ -54,7 +57,7 @@ public class EntityMapper {
     }
 
     public TransactionDTO mapToTransactionDTO(Transaction transaction) {
-        return new TransactionDTO(
+        TransactionDTO dto = new TransactionDTO(
                 transaction.getId(),
                 transaction.getTransactionId(),
                 transaction.getAccount() != null ? transaction.getAccount().getId() : null,
@@ -69,6 +72,9 @@ public class EntityMapper {
                 transaction.getTransactionDate(),
                 transaction.getBalanceAfterTransaction()
         );
+        dto.setFailureReason(transaction.getFailureReason());
+        dto.setFxRate(transaction.getFxRate());
+        return dto;
     }
 
     public List<TransactionDTO> mapToTransactionDTOList(List<Transaction> transactions) {
@@ -0,0 +1,22 @@
+package com.bankingapplication.account_service.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.bankingapplication.account_service.entity.AccountNumberCounter;
+import com.bankingapplication.account_service.entity.AccountType;
+
+public interface AccountNumberCounterRepository extends JpaRepository<AccountNumberCounter, AccountType> {
+
+    // Sequences start at 1; the row lock taken here serializes concurrent reservations
+    @Modifying
+    @Query(value = "INSERT INTO account_number_counters (account_type, next_value) VALUES (:accountType, 1 + :blockSize) "
+            + "ON CONFLICT (account_type) DO UPDATE SET next_value = account_number_counters.next_value + :blockSize",
+            nativeQuery = true)
+    int reserveBlock(@Param("accountType") String accountType, @Param("blockSize") long blockSize);
+
+    @Query(value = "SELECT next_value FROM account_number_counters WHERE account_type = :accountType", nativeQuery = true)
+    long findNextValue(@Param("accountType") String accountType);
+}
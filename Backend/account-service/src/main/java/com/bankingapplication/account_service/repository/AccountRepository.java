@@ -1,22 +1,62 @@
 package com.bankingapplication.account_service.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.bankingapplication.account_service.entity.Account;
 import com.bankingapplication.account_service.entity.AccountType;
 
+import jakarta.persistence.LockModeType;
+
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
     Optional<Account> findByAccountNumber(String accountNumber);
 
+    boolean existsByAccountNumber(String accountNumber);
+
+    // Rows are locked in ascending id order regardless of the order the caller lists them,
+    // so concurrent multi-account postings cannot deadlock in PostgreSQL
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.accountNumber IN :accountNumbers ORDER BY a.id")
+    List<Account> findAllByAccountNumberInForUpdate(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    @Query("SELECT a.accountType FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<AccountType> findAccountTypeByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    List<Account> findByAccountNumberIn(Collection<String> accountNumbers);
+
+    // Every chunkSize-th account id, i.e. the upper bounds of equal-sized keyset chunks (the last partial chunk excluded)
+    @Query(value = "SELECT c.id FROM (SELECT a.id, row_number() OVER (ORDER BY a.id) AS rn FROM accounts a) c "
+            + "WHERE c.rn % :chunkSize = 0 ORDER BY c.id", nativeQuery = true)
+    List<Long> findChunkBoundaries(@Param("chunkSize") int chunkSize);
+
+    @Query("SELECT MAX(a.id) FROM Account a")
+    Long findMaxId();
+
+    @Query("SELECT MIN(a.id) FROM Account a WHERE a.accountType = :accountType")
+    Long findMinIdByAccountType(@Param("accountType") AccountType accountType);
+
+    @Query("SELECT MAX(a.id) FROM Account a WHERE a.accountType = :accountType")
+    Long findMaxIdByAccountType(@Param("accountType") AccountType accountType);
+
+    // Interest accrual chunk: the next active accounts of a type after afterId within a partition, locked in id order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.accountType = :accountType AND a.isActive = true "
+            + "AND a.id > :afterId AND a.id <= :lastId ORDER BY a.id")
+    List<Account> findChunkForUpdate(@Param("accountType") AccountType accountType,
+                                     @Param("afterId") Long afterId,
+                                     @Param("lastId") Long lastId,
+                                     Pageable pageable);
+
     List<Account> findByUserId(String userId);
 
     Page<Account> findByUserId(String userId, Pageable pageable);
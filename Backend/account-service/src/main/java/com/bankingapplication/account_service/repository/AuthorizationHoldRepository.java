@@ -0,0 +1,35 @@
+package com.bankingapplication.account_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.bankingapplication.account_service.entity.AuthorizationHold;
+
+public interface AuthorizationHoldRepository extends JpaRepository<AuthorizationHold, String> {
+
+    List<AuthorizationHold> findByAccountNumberOrderByCreatedAtDesc(String accountNumber);
+
+    Optional<AuthorizationHold> findByHoldIdAndAccountNumber(String holdId, String accountNumber);
+
+    Optional<AuthorizationHold> findByAccountNumberAndReferenceNumber(String accountNumber, String referenceNumber);
+
+    // Expiry window load, keyset-paged on (expires_at, hold_id)
+    @Query("SELECT h FROM AuthorizationHold h WHERE h.status = com.bankingapplication.account_service.entity.HoldStatus.ACTIVE "
+            + "AND h.expiresAt < :until ORDER BY h.expiresAt, h.holdId")
+    List<AuthorizationHold> findExpiring(@Param("until") LocalDateTime until, Pageable pageable);
+
+    @Query("SELECT h FROM AuthorizationHold h WHERE h.status = com.bankingapplication.account_service.entity.HoldStatus.ACTIVE "
+            + "AND h.expiresAt < :until "
+            + "AND (h.expiresAt > :afterTime OR (h.expiresAt = :afterTime AND h.holdId > :afterId)) "
+            + "ORDER BY h.expiresAt, h.holdId")
+    List<AuthorizationHold> findExpiringAfter(@Param("until") LocalDateTime until,
+                                              @Param("afterTime") LocalDateTime afterTime,
+                                              @Param("afterId") String afterId,
+                                              Pageable pageable);
+}
@@ -0,0 +1,46 @@
+package com.bankingapplication.account_service.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.bankingapplication.account_service.entity.BalanceSnapshot;
+import com.bankingapplication.account_service.entity.BalanceSnapshotId;
+
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, BalanceSnapshotId> {
+
+    Optional<BalanceSnapshot> findTopByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(
+            Long accountId, LocalDate snapshotDate);
+
+    // Last account id of the next keyset chunk, or null when there are no more accounts
+    @Query(value = "SELECT MAX(c.id) FROM (SELECT a.id FROM accounts a WHERE a.id > :afterId ORDER BY a.id LIMIT :limit) c",
+            nativeQuery = true)
+    Long findChunkEnd(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    // Closing balance for accounts in (afterId, lastId]: the previous day's snapshot plus the signed sum of
+    // the day's postings. Without a previous snapshot (first run) every posting before the day end is summed.
+    @Modifying
+    @Query(value = "INSERT INTO balance_snapshots (account_id, snapshot_date, balance, created_at) "
+            + "SELECT a.id, :snapshotDate, COALESCE(prev.balance, 0) + COALESCE(postings.net, 0), LOCALTIMESTAMP "
+            + "FROM accounts a "
+            + "LEFT JOIN balance_snapshots prev ON prev.account_id = a.id AND prev.snapshot_date = :previousDate "
+            + "LEFT JOIN LATERAL (SELECT SUM(" + TransactionRepository.SIGNED_AMOUNT + ") AS net FROM transactions t "
+            + "    WHERE t.account_id = a.id AND t.transaction_date < :dayEnd "
+            + "    AND (prev.account_id IS NULL OR t.transaction_date >= :dayStart) "
+            + "    AND (t.transaction_status IS NULL OR t.transaction_status = 'COMPLETED')) postings ON true "
+            + "WHERE a.id > :afterId AND a.id <= :lastId AND (a.created_at IS NULL OR a.created_at < :dayEnd) "
+            + "ON CONFLICT (account_id, snapshot_date) "
+            + "DO UPDATE SET balance = EXCLUDED.balance, created_at = EXCLUDED.created_at",
+            nativeQuery = true)
+    int snapshotChunk(@Param("snapshotDate") LocalDate snapshotDate,
+                      @Param("previousDate") LocalDate previousDate,
+                      @Param("dayStart") LocalDateTime dayStart,
+                      @Param("dayEnd") LocalDateTime dayEnd,
+                      @Param("afterId") long afterId,
+                      @Param("lastId") long lastId);
+}
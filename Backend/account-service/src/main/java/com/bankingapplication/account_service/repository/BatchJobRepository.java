@@ -0,0 +1,34 @@
+package com.bankingapplication.account_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bankingapplication.account_service.entity.BatchJob;
+import com.bankingapplication.account_service.entity.BatchJobStatus;
+
+public interface BatchJobRepository extends JpaRepository<BatchJob, String> {
+
+    // Heartbeat for the jobs this instance is running or has queued
+    @Transactional
+    @Modifying
+    @Query("UPDATE BatchJob j SET j.updatedAt = :now WHERE j.jobId IN :jobIds AND j.status IN :statuses")
+    int touch(@Param("jobIds") Collection<String> jobIds,
+              @Param("statuses") Collection<BatchJobStatus> statuses,
+              @Param("now") LocalDateTime now);
+
+    // Fails unfinished jobs whose owner stopped sending heartbeats, e.g. because the instance died
+    @Transactional
+    @Modifying
+    @Query("UPDATE BatchJob j SET j.status = :failed, j.completedAt = :now, j.updatedAt = :now "
+            + "WHERE j.status IN :statuses AND COALESCE(j.updatedAt, j.createdAt) < :staleBefore")
+    int failStale(@Param("statuses") Collection<BatchJobStatus> statuses,
+                  @Param("failed") BatchJobStatus failed,
+                  @Param("staleBefore") LocalDateTime staleBefore,
+                  @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,66 @@
+package com.bankingapplication.account_service.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.bankingapplication.account_service.entity.DailyTransactionTotal;
+import com.bankingapplication.account_service.entity.DailyTransactionTotalId;
+
+public interface DailyTransactionTotalRepository extends JpaRepository<DailyTransactionTotal, DailyTransactionTotalId> {
+
+    List<DailyTransactionTotal> findByAccountIdAndBusinessDate(Long accountId, LocalDate businessDate);
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_transaction_totals (account_id, business_date, transaction_type, total_amount) "
+            + "VALUES (:accountId, :businessDate, :transactionType, :amount) "
+            + "ON CONFLICT (account_id, business_date, transaction_type) "
+            + "DO UPDATE SET total_amount = daily_transaction_totals.total_amount + EXCLUDED.total_amount",
+            nativeQuery = true)
+    int addToTotal(@Param("accountId") Long accountId,
+                   @Param("businessDate") LocalDate businessDate,
+                   @Param("transactionType") String transactionType,
+                   @Param("amount") BigDecimal amount);
+
+    // Bumps @Version on every account whose totals for the day may be cached anywhere, so every instance's
+    // cached entry stops matching. Rows are locked in id order, as postings lock them, so this cannot deadlock
+    // with a posting
+    @Modifying
+    @Query(value = "UPDATE accounts a SET version = a.version + 1 "
+            + "FROM (SELECT id FROM accounts WHERE id IN ("
+            + "    SELECT account_id FROM daily_transaction_totals WHERE business_date = :businessDate "
+            + "    UNION SELECT account_id FROM transactions WHERE transaction_date >= :dayStart AND transaction_date < :dayEnd) "
+            + "  ORDER BY id FOR UPDATE) locked "
+            + "WHERE a.id = locked.id",
+            nativeQuery = true)
+    int bumpAccountVersionsFor(@Param("businessDate") LocalDate businessDate,
+                               @Param("dayStart") LocalDateTime dayStart,
+                               @Param("dayEnd") LocalDateTime dayEnd);
+
+    // Conflicts with the row locks every posting takes on the table, and not with plain reads
+    @Modifying
+    @Query(value = "LOCK TABLE daily_transaction_totals IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    int lockAgainstPostings();
+
+    @Modifying
+    @Query(value = "DELETE FROM daily_transaction_totals WHERE business_date >= :fromDate AND business_date <= :toDate",
+            nativeQuery = true)
+    int deleteByBusinessDateBetween(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_transaction_totals (account_id, business_date, transaction_type, total_amount) "
+            + "SELECT t.account_id, CAST(t.transaction_date AS DATE), t.transaction_type, SUM(t.amount) "
+            + "FROM transactions t WHERE t.transaction_date >= :start AND t.transaction_date < :end "
+            + "AND (t.transaction_status IS NULL OR t.transaction_status = 'COMPLETED') "
+            + "GROUP BY t.account_id, CAST(t.transaction_date AS DATE), t.transaction_type "
+            + "ON CONFLICT (account_id, business_date, transaction_type) "
+            + "DO UPDATE SET total_amount = EXCLUDED.total_amount",
+            nativeQuery = true)
+    int rebuildFromTransactions(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+}
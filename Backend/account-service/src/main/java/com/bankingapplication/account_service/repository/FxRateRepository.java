@@ -0,0 +1,9 @@
+package com.bankingapplication.account_service.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.bankingapplication.account_service.entity.FxRate;
+import com.bankingapplication.account_service.entity.FxRateId;
+
+public interface FxRateRepository extends JpaRepository<FxRate, FxRateId> {
+}
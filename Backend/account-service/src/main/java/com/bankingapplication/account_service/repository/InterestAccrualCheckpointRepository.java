@@ -0,0 +1,45 @@
+package com.bankingapplication.account_service.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.bankingapplication.account_service.entity.InterestAccrualCheckpoint;
+import com.bankingapplication.account_service.entity.InterestAccrualCheckpointId;
+
+import jakarta.persistence.LockModeType;
+
+public interface InterestAccrualCheckpointRepository
+        extends JpaRepository<InterestAccrualCheckpoint, InterestAccrualCheckpointId> {
+
+    List<InterestAccrualCheckpoint> findByBusinessDateOrderByPartitionNo(LocalDate businessDate);
+
+    // Transaction-scoped: serializes the creation of a date's partitions across threads and instances
+    @Query(value = "SELECT true FROM (SELECT pg_advisory_xact_lock(hashtext('interest-accrual:' || CAST(:businessDate AS text)))) AS l",
+            nativeQuery = true)
+    Boolean lockBusinessDate(@Param("businessDate") LocalDate businessDate);
+
+    // The first run for a date fixes the partition bounds; later or concurrent runs keep them
+    @Modifying
+    @Query(value = "INSERT INTO interest_accrual_checkpoints (business_date, partition_no, last_account_id, "
+            + "end_account_id, accounts_processed, interest_posted, completed, updated_at) "
+            + "VALUES (:businessDate, :partitionNo, :lastAccountId, :endAccountId, 0, 0, false, LOCALTIMESTAMP) "
+            + "ON CONFLICT (business_date, partition_no) DO NOTHING",
+            nativeQuery = true)
+    int createPartition(@Param("businessDate") LocalDate businessDate,
+                        @Param("partitionNo") int partitionNo,
+                        @Param("lastAccountId") long lastAccountId,
+                        @Param("endAccountId") long endAccountId);
+
+    // Serializes chunks of the same partition across threads and instances
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM InterestAccrualCheckpoint c WHERE c.businessDate = :businessDate AND c.partitionNo = :partitionNo")
+    Optional<InterestAccrualCheckpoint> findForUpdate(@Param("businessDate") LocalDate businessDate,
+                                                      @Param("partitionNo") int partitionNo);
+}
@@ -0,0 +1,24 @@
+package com.bankingapplication.account_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.bankingapplication.account_service.dto.JournalPostingDTO;
+import com.bankingapplication.account_service.entity.JournalPosting;
+import com.bankingapplication.account_service.entity.JournalPostingId;
+
+public interface JournalPostingRepository extends JpaRepository<JournalPosting, JournalPostingId> {
+
+    // Selects only indexed columns so PostgreSQL can answer from the covering index
+    @Query("SELECT new com.bankingapplication.account_service.dto.JournalPostingDTO("
+            + "p.entryId, p.leg, p.amount, p.balanceAfter, p.transactionId, p.postedAt) "
+            + "FROM JournalPosting p WHERE p.accountId = :accountId "
+            + "AND p.postedAt >= :startDate AND p.postedAt < :endDate ORDER BY p.postedAt, p.entryId")
+    List<JournalPostingDTO> findPostings(@Param("accountId") Long accountId,
+                                         @Param("startDate") LocalDateTime startDate,
+                                         @Param("endDate") LocalDateTime endDate);
+}
@@ -0,0 +1,26 @@
+package com.bankingapplication.account_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.bankingapplication.account_service.entity.PostingIdempotencyKey;
+
+public interface PostingIdempotencyKeyRepository extends JpaRepository<PostingIdempotencyKey, String> {
+
+    // Returns 0 when the key exists; waits for an uncommitted claim of the same key to finish first
+    @Modifying
+    @Query(value = "INSERT INTO posting_idempotency_keys (idempotency_key, transaction_id, created_at) "
+            + "VALUES (:idempotencyKey, :transactionId, :createdAt) ON CONFLICT (idempotency_key) DO NOTHING",
+            nativeQuery = true)
+    int claim(@Param("idempotencyKey") String idempotencyKey,
+              @Param("transactionId") String transactionId,
+              @Param("createdAt") LocalDateTime createdAt);
+
+    @Query("SELECT k.transactionId FROM PostingIdempotencyKey k WHERE k.idempotencyKey = :idempotencyKey")
+    Optional<String> findTransactionIdByKey(@Param("idempotencyKey") String idempotencyKey);
+}
@@ -0,0 +1,19 @@
+package com.bankingapplication.account_service.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.bankingapplication.account_service.dto.ReconciliationDiscrepancyDTO;
+import com.bankingapplication.account_service.entity.ReconciliationDiscrepancy;
+
+public interface ReconciliationDiscrepancyRepository extends JpaRepository<ReconciliationDiscrepancy, Long> {
+
+    @Query(value = "SELECT new com.bankingapplication.account_service.dto.ReconciliationDiscrepancyDTO("
+            + "d.accountNumber, d.type, d.transactionId, d.expectedAmount, d.actualAmount, d.detail) "
+            + "FROM ReconciliationDiscrepancy d WHERE d.runId = :runId ORDER BY d.id",
+            countQuery = "SELECT COUNT(d) FROM ReconciliationDiscrepancy d WHERE d.runId = :runId")
+    Page<ReconciliationDiscrepancyDTO> findByRunId(@Param("runId") Long runId, Pageable pageable);
+}
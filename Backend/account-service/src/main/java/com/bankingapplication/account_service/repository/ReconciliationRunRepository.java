@@ -0,0 +1,13 @@
+package com.bankingapplication.account_service.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.bankingapplication.account_service.entity.ReconciliationRun;
+import com.bankingapplication.account_service.entity.ReconciliationStatus;
+
+public interface ReconciliationRunRepository extends JpaRepository<ReconciliationRun, Long> {
+
+    Optional<ReconciliationRun> findTopByStatusOrderByStartedAtDesc(ReconciliationStatus status);
+}
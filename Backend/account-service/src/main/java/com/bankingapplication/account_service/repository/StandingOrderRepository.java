@@ -0,0 +1,52 @@
+package com.bankingapplication.account_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bankingapplication.account_service.entity.StandingOrder;
+import com.bankingapplication.account_service.entity.StandingOrderStatus;
+
+public interface StandingOrderRepository extends JpaRepository<StandingOrder, String> {
+
+    List<StandingOrder> findBySourceAccountNumberOrderByCreatedAtDesc(String sourceAccountNumber);
+
+    Optional<StandingOrder> findByOrderIdAndSourceAccountNumber(String orderId, String sourceAccountNumber);
+
+    // Scheduler window load, keyset-paged on (next_execution_at, order_id)
+    @Query("SELECT o FROM StandingOrder o WHERE o.status = com.bankingapplication.account_service.entity.StandingOrderStatus.ACTIVE "
+            + "AND o.nextExecutionAt < :until ORDER BY o.nextExecutionAt, o.orderId")
+    List<StandingOrder> findDue(@Param("until") LocalDateTime until, Pageable pageable);
+
+    @Query("SELECT o FROM StandingOrder o WHERE o.status = com.bankingapplication.account_service.entity.StandingOrderStatus.ACTIVE "
+            + "AND o.nextExecutionAt < :until "
+            + "AND (o.nextExecutionAt > :afterTime OR (o.nextExecutionAt = :afterTime AND o.orderId > :afterId)) "
+            + "ORDER BY o.nextExecutionAt, o.orderId")
+    List<StandingOrder> findDueAfter(@Param("until") LocalDateTime until,
+                                     @Param("afterTime") LocalDateTime afterTime,
+                                     @Param("afterId") String afterId,
+                                     Pageable pageable);
+
+    // Moves an active order past the occurrence it was scheduled for; 0 if another run already did
+    @Transactional
+    @Modifying
+    @Query("UPDATE StandingOrder o SET o.nextExecutionAt = :next, o.status = :status, "
+            + "o.executionCount = o.executionCount + 1, o.lastExecutedAt = :executedAt, "
+            + "o.lastTransactionId = :transactionId, o.lastFailureReason = :failureReason "
+            + "WHERE o.orderId = :orderId AND o.nextExecutionAt = :scheduledAt "
+            + "AND o.status = com.bankingapplication.account_service.entity.StandingOrderStatus.ACTIVE")
+    int advance(@Param("orderId") String orderId,
+                @Param("scheduledAt") LocalDateTime scheduledAt,
+                @Param("next") LocalDateTime next,
+                @Param("status") StandingOrderStatus status,
+                @Param("executedAt") LocalDateTime executedAt,
+                @Param("transactionId") String transactionId,
+                @Param("failureReason") String failureReason);
+}
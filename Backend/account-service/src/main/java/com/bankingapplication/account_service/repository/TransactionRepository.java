@@ -8,15 +8,22 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.bankingapplication.account_service.dto.TransactionDTO;
 import com.bankingapplication.account_service.entity.Transaction;
 import com.bankingapplication.account_service.entity.TransactionStatus;
 import com.bankingapplication.account_service.entity.TransactionType;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
+    // A statement row's effect on its account, signed as ReconciliationService.signedAmount does
+    String SIGNED_AMOUNT = "CASE WHEN t.transaction_type IN ('WITHDRAWAL', 'TRANSFER', 'PAYMENT', 'FEE') "
+            + "THEN -t.amount ELSE t.amount END";
+
     Optional<Transaction> findByTransactionId(String transactionId);
 
     List<Transaction> findByAccountId(Long accountId);
@@ -39,10 +46,96 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
+    // History reads: TransactionDTO rows straight from one joined SELECT, so no entity is hydrated,
+    // tracked or lazily joined to its account afterwards
+    String HISTORY_SELECT = "SELECT new com.bankingapplication.account_service.dto.TransactionDTO("
+            + "t.id, t.transactionId, a.id, a.accountNumber, t.amount, t.transactionType, t.status, "
+            + "t.sourceAccountNumber, t.destinationAccountNumber, t.referenceNumber, t.description, "
+            + "t.transactionDate, t.balanceAfterTransaction, t.failureReason, t.fxRate) "
+            + "FROM Transaction t JOIN t.account a WHERE a.accountNumber = :accountNumber ";
+
+    @Query(HISTORY_SELECT)
+    List<TransactionDTO> findHistoryByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    // One or two statements: Spring Data skips the COUNT when a short page already tells the total (a
+    // first page, or any non-empty last page) and runs it for a full page or an empty page past the end
+    @Query(value = HISTORY_SELECT,
+            countQuery = "SELECT COUNT(t) FROM Transaction t WHERE t.account.accountNumber = :accountNumber")
+    Page<TransactionDTO> findHistoryByAccountNumber(@Param("accountNumber") String accountNumber, Pageable pageable);
+
+    @Query(HISTORY_SELECT + "AND t.transactionDate >= :startDate AND t.transactionDate <= :endDate")
+    List<TransactionDTO> findHistoryByAccountNumberAndDateRange(@Param("accountNumber") String accountNumber,
+                                                                @Param("startDate") LocalDateTime startDate,
+                                                                @Param("endDate") LocalDateTime endDate);
+
+    // Keyset-paged history, newest first; both read the (account_id, transaction_date, id) index backwards
+    // and never count
+    @Query(HISTORY_SELECT + "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionDTO> findHistoryPage(@Param("accountNumber") String accountNumber, Pageable pageable);
+
+    @Query(HISTORY_SELECT
+            + "AND (t.transactionDate < :beforeDate OR (t.transactionDate = :beforeDate AND t.id < :beforeId)) "
+            + "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionDTO> findHistoryPageBefore(@Param("accountNumber") String accountNumber,
+                                               @Param("beforeDate") LocalDateTime beforeDate,
+                                               @Param("beforeId") Long beforeId,
+                                               Pageable pageable);
+
     Page<Transaction> findByAccountIdAndTransactionType(
             Long accountId, TransactionType transactionType, Pageable pageable);
 
-    List<Transaction> findByStatus(TransactionStatus status);
+    // Net effect of the account's completed postings in [from, to), empty when there are none; the range
+    // uses the (account_id, transaction_date, id) index. Summed rather than read from balance_after_transaction,
+    // which concurrent postings and backdated rows can leave out of order.
+    @Query(value = "SELECT SUM(" + SIGNED_AMOUNT + ") FROM transactions t "
+            + "WHERE t.account_id = :accountId AND t.transaction_date >= :from AND t.transaction_date < :to "
+            + "AND (t.transaction_status IS NULL OR t.transaction_status = 'COMPLETED')",
+            nativeQuery = true)
+    Optional<BigDecimal> sumPostingsBetween(@Param("accountId") Long accountId,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+
+    // Retry worker claim: due PENDING/FAILED rows, skipping rows another instance has locked.
+    // Must run in the same transaction as leaseRetryCandidates.
+    @Query(value = "SELECT t.id AS id, t.transaction_id AS transactionId, t.transaction_type AS transactionType, "
+            + "a.account_number AS accountNumber, t.destination_account_number AS destinationAccountNumber, "
+            + "t.amount AS amount, t.description AS description, t.reference_number AS referenceNumber, "
+            + "COALESCE(t.retry_attempts, 0) AS retryAttempts "
+            + "FROM transactions t JOIN accounts a ON a.id = t.account_id "
+            + "WHERE t.transaction_status IN ('PENDING', 'FAILED') "
+            + "AND (t.next_attempt_at IS NULL OR t.next_attempt_at <= LOCALTIMESTAMP) "
+            + "AND COALESCE(t.retry_attempts, 0) < :maxAttempts "
+            + "ORDER BY t.next_attempt_at NULLS FIRST LIMIT :limit "
+            + "FOR UPDATE OF t SKIP LOCKED",
+            nativeQuery = true)
+    List<RetryCandidate> findRetryCandidates(@Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    // Pushes next_attempt_at out by the exponential backoff for the attempt being made, which also
+    // keeps other instances off the rows while this one works on them
+    @Modifying
+    @Query(value = "UPDATE transactions SET retry_attempts = COALESCE(retry_attempts, 0) + 1, "
+            + "next_attempt_at = LOCALTIMESTAMP + make_interval(secs => "
+            + "LEAST(:baseSeconds * power(2, COALESCE(retry_attempts, 0)), :maxSeconds)) "
+            + "WHERE id IN (:ids)",
+            nativeQuery = true)
+    int leaseRetryCandidates(@Param("ids") List<Long> ids,
+                             @Param("baseSeconds") double baseSeconds,
+                             @Param("maxSeconds") double maxSeconds);
+
+    @Query(value = "SELECT MIN(COALESCE(t.next_attempt_at, t.transaction_date)) FROM transactions t "
+            + "WHERE t.transaction_status IN ('PENDING', 'FAILED') AND COALESCE(t.retry_attempts, 0) < :maxAttempts",
+            nativeQuery = true)
+    LocalDateTime findOldestRetryDue(@Param("maxAttempts") int maxAttempts);
+
+    // Async postings: settle a row that has not completed yet; returns 0 if it already completed
+    @Transactional
+    @Modifying
+    @Query("UPDATE Transaction t SET t.status = :status, t.failureReason = :reason "
+            + "WHERE t.transactionId = :transactionId "
+            + "AND t.status <> com.bankingapplication.account_service.entity.TransactionStatus.COMPLETED")
+    int markUnfinished(@Param("transactionId") String transactionId,
+                       @Param("status") TransactionStatus status,
+                       @Param("reason") String reason);
 
     @Query("SELECT SUM(t.amount) FROM Transaction t WHERE t.account.id = :accountId AND t.transactionType = :type AND t.transactionDate >= :startDate AND t.transactionDate <= :endDate")
     BigDecimal sumAmountByAccountAndTypeAndDateRange(
@@ -50,4 +143,24 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("type") TransactionType type,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
+
+    interface RetryCandidate {
+        Long getId();
+
+        String getTransactionId();
+
+        String getTransactionType();
+
+        String getAccountNumber();
+
+        String getDestinationAccountNumber();
+
+        BigDecimal getAmount();
+
+        String getDescription();
+
+        String getReferenceNumber();
+
+        Integer getRetryAttempts();
+    }
 }
@@ -5,6 +5,7 @@ import org.springframework.stereotype.Service;
 import com.bankingapplication.account_service.entity.Account;
 import com.bankingapplication.account_service.repository.AccountRepository;
 import com.bankingapplication.account_service.security.UserPrincipal;
+import com.bankingapplication.account_service.util.AccountNumberGenerator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,9 +16,11 @@ public class AccountAuthorizationService {
     private static final Logger log = LoggerFactory.getLogger(AccountAuthorizationService.class);
 
     private final AccountRepository accountRepository;
+    private final AccountNumberGenerator accountNumberGenerator;
 
-    public AccountAuthorizationService(AccountRepository accountRepository) {
+    public AccountAuthorizationService(AccountRepository accountRepository, AccountNumberGenerator accountNumberGenerator) {
         this.accountRepository = accountRepository;
+        this.accountNumberGenerator = accountNumberGenerator;
     }
 
     public boolean hasAccountAccess(UserPrincipal userPrincipal, String accountNumber) {
@@ -26,6 +29,11 @@ public class AccountAuthorizationService {
             return true;
         }
 
+        // Malformed numbers cannot belong to anyone, skip the lookup
+        if (!accountNumberGenerator.validateAccountNumber(accountNumber)) {
+            return false;
+        }
+
         // Check if the account belongs to the user
         return accountRepository.findByAccountNumber(accountNumber)
                 .map(account -> account.getUserId().equals(userPrincipal.getUsername()))
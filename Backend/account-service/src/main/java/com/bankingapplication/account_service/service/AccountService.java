@@ -1,9 +1,6 @@
 package com.bankingapplication.account_service.service;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -38,13 +35,18 @@ public class AccountService {
     private final TransactionRepository transactionRepository;
     private final EntityMapper entityMapper;
     private final AccountNumberGenerator accountNumberGenerator;
+    private final DailyLimitService dailyLimitService;
+    private final JournalService journalService;
 
     public AccountService(AccountRepository accountRepository, TransactionRepository transactionRepository,
-                          EntityMapper entityMapper, AccountNumberGenerator accountNumberGenerator) {
+                          EntityMapper entityMapper, AccountNumberGenerator accountNumberGenerator,
+                          DailyLimitService dailyLimitService, JournalService journalService) {
         this.accountRepository = accountRepository;
         this.transactionRepository = transactionRepository;
         this.entityMapper = entityMapper;
         this.accountNumberGenerator = accountNumberGenerator;
+        this.dailyLimitService = dailyLimitService;
+        this.journalService = journalService;
     }
 
     @Transactional
@@ -90,6 +92,7 @@ public class AccountService {
 
     public AccountDTO getAccountByNumber(String accountNumber) {
         log.info("Fetching account with account number: {}", accountNumber);
+        accountNumberGenerator.requireValidAccountNumber(accountNumber);
         Account account = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new ResourceNotFoundException("Account", "account number", accountNumber));
 
@@ -107,12 +110,13 @@ public class AccountService {
         Pageable pageable = PaginationUtil.createPageable(page, size, sortBy, direction);
         Page<Account> accountPage = accountRepository.findByUserId(userId, pageable);
 
-        return PaginationUtil.createPageResponse(accountPage);
+        return PaginationUtil.createPageResponse(accountPage.map(entityMapper::mapToAccountDTO));
     }
 
     @Transactional
     public AccountDTO updateAccountStatus(String accountNumber, boolean isActive) {
         log.info("Updating account status for account: {}", accountNumber);
+        accountNumberGenerator.requireValidAccountNumber(accountNumber);
         Account account = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new ResourceNotFoundException("Account", "account number", accountNumber));
 
@@ -166,6 +170,9 @@ public class AccountService {
 
             log.debug("Built transaction: {}", transaction);
             Transaction savedTransaction = transactionRepository.save(transaction);
+            journalService.postExternal(TransactionType.DEPOSIT, null, "Initial deposit", JournalService.CASH_CLEARING_ACCOUNT_ID,
+                    new JournalService.Leg(account.getId(), amount, amount, transactionId));
+            dailyLimitService.record(account, TransactionType.DEPOSIT, amount);
             log.info("Initial deposit transaction created for account: {}, transaction ID: {}",
                     account.getAccountNumber(), savedTransaction.getTransactionId());
         } catch (Exception e) {
@@ -175,12 +182,6 @@ public class AccountService {
     }
 
     public BigDecimal getDailyTransactionTotal(Long accountId, TransactionType type) {
-        LocalDateTime startOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-        LocalDateTime endOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
-
-        BigDecimal total = transactionRepository.sumAmountByAccountAndTypeAndDateRange(
-                accountId, type, startOfDay, endOfDay);
-
-        return total != null ? total : BigDecimal.ZERO;
+        return dailyLimitService.getDailyTotal(accountId, type);
     }
 }
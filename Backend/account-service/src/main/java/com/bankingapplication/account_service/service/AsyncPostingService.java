@@ -0,0 +1,220 @@
+package com.bankingapplication.account_service.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.bankingapplication.account_service.concurrency.GroupCommitExecutor;
+import com.bankingapplication.account_service.dto.TransactionDTO;
+import com.bankingapplication.account_service.dto.request.DepositRequest;
+import com.bankingapplication.account_service.dto.request.TransferRequest;
+import com.bankingapplication.account_service.dto.request.WithdrawalRequest;
+import com.bankingapplication.account_service.entity.Account;
+import com.bankingapplication.account_service.entity.Transaction;
+import com.bankingapplication.account_service.entity.TransactionStatus;
+import com.bankingapplication.account_service.entity.TransactionType;
+import com.bankingapplication.account_service.exception.InvalidOperationException;
+import com.bankingapplication.account_service.exception.PostingCapacityExceededException;
+import com.bankingapplication.account_service.exception.ResourceNotFoundException;
+import com.bankingapplication.account_service.mapper.EntityMapper;
+import com.bankingapplication.account_service.repository.AccountRepository;
+import com.bankingapplication.account_service.repository.TransactionRepository;
+import com.bankingapplication.account_service.util.AccountNumberGenerator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Accept-now, post-later mode for deposits, withdrawals and transfers. Accepting a posting writes a
+ * PENDING statement row and hands it to a bounded queue; virtual-thread workers drain the queue
+ * through TransactionService.completePending, which fills in the same row as COMPLETED or settles
+ * it as REJECTED/FAILED with a reason. A full queue is refused with 429 rather than buffered.
+ *
+ * The queue is in memory: postings still queued when the instance stops stay PENDING in the
+ * database, and PostingRetryWorker picks them up once the pending grace period has passed.
+ */
+@Service
+public class AsyncPostingService {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncPostingService.class);
+
+    private final TransactionService transactionService;
+    private final IdempotencyService idempotencyService;
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final EntityMapper entityMapper;
+    private final BlockingQueue<Accepted> queue;
+    private final Duration pendingGrace;
+    private final List<Thread> workers = new ArrayList<>();
+    private final Counter acceptedPostings;
+    private final Counter refusedPostings;
+    private final Timer queueWait;
+    private volatile boolean running = true;
+
+    public AsyncPostingService(TransactionService transactionService, IdempotencyService idempotencyService,
+                               AccountRepository accountRepository, TransactionRepository transactionRepository,
+                               AccountNumberGenerator accountNumberGenerator, EntityMapper entityMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.posting.async.workers:16}") int workerCount,
+                               @Value("${app.posting.async.queue-capacity:10000}") int queueCapacity,
+                               @Value("${app.posting.retry.pending-grace:1m}") Duration pendingGrace) {
+        this.transactionService = transactionService;
+        this.idempotencyService = idempotencyService;
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.accountNumberGenerator = accountNumberGenerator;
+        this.entityMapper = entityMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.pendingGrace = pendingGrace;
+
+        Gauge.builder("banking.posting.async.queue.depth", queue, BlockingQueue::size)
+                .description("Accepted async postings waiting for a worker")
+                .register(meterRegistry);
+        this.acceptedPostings = Counter.builder("banking.posting.async.requests")
+                .description("Async posting requests")
+                .tag("outcome", "accepted")
+                .register(meterRegistry);
+        this.refusedPostings = Counter.builder("banking.posting.async.requests")
+                .description("Async posting requests")
+                .tag("outcome", "refused")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("banking.posting.async.queue.wait")
+                .description("Time an accepted posting waits before a worker picks it up")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        // Workers spend nearly all their time blocked on locks and JDBC, so virtual threads are cheap
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual().name("async-posting-" + i).start(this::drain));
+        }
+    }
+
+    public TransactionDTO acceptDeposit(DepositRequest request) {
+        return accept(new QueuedPosting(null, TransactionType.DEPOSIT, request.getAccountNumber(), null,
+                request.getAmount(), request.getDescription(), request.getReferenceNumber()), "deposit", "Deposit");
+    }
+
+    public TransactionDTO acceptWithdrawal(WithdrawalRequest request) {
+        return accept(new QueuedPosting(null, TransactionType.WITHDRAWAL, request.getAccountNumber(), null,
+                request.getAmount(), request.getDescription(), request.getReferenceNumber()), "withdrawal", "Withdrawal");
+    }
+
+    public TransactionDTO acceptTransfer(TransferRequest request) {
+        accountNumberGenerator.requireValidAccountNumber(request.getDestinationAccountNumber());
+        // Reject up front what the worker would reject anyway, instead of accepting a PENDING transfer bound to fail
+        if (request.getSourceAccountNumber().equals(request.getDestinationAccountNumber())) {
+            throw new InvalidOperationException("Source and destination accounts must be different");
+        }
+        if (!accountRepository.existsByAccountNumber(request.getDestinationAccountNumber())) {
+            throw new ResourceNotFoundException("Account", "accountNumber", request.getDestinationAccountNumber());
+        }
+        return accept(new QueuedPosting(null, TransactionType.TRANSFER, request.getSourceAccountNumber(),
+                request.getDestinationAccountNumber(), request.getAmount(), request.getDescription(),
+                request.getReferenceNumber()), "transfer", "Transfer to " + request.getDestinationAccountNumber());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    private TransactionDTO accept(QueuedPosting posting, String operation, String defaultDescription) {
+        accountNumberGenerator.requireValidAccountNumber(posting.accountNumber());
+
+        // A replay of a posting that already completed gets the original, not a new PENDING row
+        String idempotencyKey = idempotencyService.key(operation, posting.accountNumber(), posting.referenceNumber());
+        if (idempotencyKey != null) {
+            TransactionDTO recent = idempotencyService.findRecent(idempotencyKey);
+            if (recent != null) {
+                return recent;
+            }
+        }
+
+        if (queue.remainingCapacity() == 0) {
+            refusedPostings.increment();
+            throw new PostingCapacityExceededException("Async posting queue is full, retry later");
+        }
+
+        Account account = accountRepository.findByAccountNumber(posting.accountNumber())
+                .orElseThrow(() -> new ResourceNotFoundException("Account", "accountNumber", posting.accountNumber()));
+
+        Transaction transaction = new Transaction();
+        transaction.setTransactionId(accountNumberGenerator.generateTransactionId());
+        transaction.setAccount(account);
+        transaction.setAmount(posting.amount());
+        transaction.setTransactionType(posting.type());
+        transaction.setStatus(TransactionStatus.PENDING);
+        // Hidden from PostingRetryWorker while the in-memory queue should still get to it
+        transaction.setRetryAttempts(0);
+        transaction.setNextAttemptAt(LocalDateTime.now().plus(pendingGrace));
+        transaction.setDescription(posting.description() != null ? posting.description() : defaultDescription);
+        transaction.setReferenceNumber(posting.referenceNumber());
+        if (posting.type() == TransactionType.TRANSFER) {
+            transaction.setSourceAccountNumber(posting.accountNumber());
+            transaction.setDestinationAccountNumber(posting.destinationAccountNumber());
+        }
+        Transaction saved = transactionRepository.save(transaction);
+
+        QueuedPosting queued = posting.withTransactionId(saved.getTransactionId());
+        if (!queue.offer(new Accepted(queued, System.nanoTime()))) {
+            // Lost the last slot to another request between the capacity check and here
+            transactionRepository.delete(saved);
+            refusedPostings.increment();
+            throw new PostingCapacityExceededException("Async posting queue is full, retry later");
+        }
+
+        acceptedPostings.increment();
+        log.debug("Accepted async {} {} for account {}", operation, saved.getTransactionId(), posting.accountNumber());
+        return entityMapper.mapToTransactionDTO(saved);
+    }
+
+    private void drain() {
+        while (running) {
+            Accepted accepted;
+            try {
+                accepted = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queueWait.record(System.nanoTime() - accepted.acceptedAt(), TimeUnit.NANOSECONDS);
+            try {
+                transactionService.completePending(accepted.posting());
+            } catch (RuntimeException e) {
+                // completePending has already recorded the outcome on the row
+                if (GroupCommitExecutor.isBusinessRejection(e)) {
+                    log.info("Async posting {} rejected: {}", accepted.posting().transactionId(), e.getMessage());
+                } else {
+                    log.error("Async posting {} failed", accepted.posting().transactionId(), e);
+                }
+            }
+        }
+    }
+
+    public record QueuedPosting(String transactionId, TransactionType type, String accountNumber,
+                                String destinationAccountNumber, BigDecimal amount, String description,
+                                String referenceNumber) {
+
+        QueuedPosting withTransactionId(String id) {
+            return new QueuedPosting(id, type, accountNumber, destinationAccountNumber, amount, description, referenceNumber);
+        }
+    }
+
+    private record Accepted(QueuedPosting posting, long acceptedAt) {
+    }
+}
@@ -0,0 +1,254 @@
+package com.bankingapplication.account_service.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bankingapplication.account_service.concurrency.PostingExecutor;
+import com.bankingapplication.account_service.dto.AuthorizationHoldDTO;
+import com.bankingapplication.account_service.dto.request.HoldCaptureRequest;
+import com.bankingapplication.account_service.dto.request.HoldRequest;
+import com.bankingapplication.account_service.entity.Account;
+import com.bankingapplication.account_service.entity.AuthorizationHold;
+import com.bankingapplication.account_service.entity.HoldStatus;
+import com.bankingapplication.account_service.entity.Transaction;
+import com.bankingapplication.account_service.entity.TransactionStatus;
+import com.bankingapplication.account_service.entity.TransactionType;
+import com.bankingapplication.account_service.exception.InsufficientBalanceException;
+import com.bankingapplication.account_service.exception.InvalidOperationException;
+import com.bankingapplication.account_service.exception.ResourceNotFoundException;
+import com.bankingapplication.account_service.repository.AccountRepository;
+import com.bankingapplication.account_service.repository.AuthorizationHoldRepository;
+import com.bankingapplication.account_service.repository.TransactionRepository;
+import com.bankingapplication.account_service.util.AccountNumberGenerator;
+import com.bankingapplication.account_service.util.SnowflakeIdGenerator;
+
+/**
+ * Places, captures and releases authorization holds. Every change runs through the PostingExecutor
+ * with the account row locked, and moves accounts.held_amount together with the hold row, so the
+ * available balance (balance + overdraft - held) that every debit checks never needs a SUM over the
+ * holds table and stays correct across instances.
+ */
+@Service
+public class AuthorizationHoldService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthorizationHoldService.class);
+
+    private final AuthorizationHoldRepository authorizationHoldRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final PostingExecutor postingExecutor;
+    private final DailyLimitService dailyLimitService;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final JournalService journalService;
+    private final Duration defaultExpiry;
+    private final Duration maxExpiry;
+
+    public AuthorizationHoldService(AuthorizationHoldRepository authorizationHoldRepository, AccountRepository accountRepository,
+                                    TransactionRepository transactionRepository, PostingExecutor postingExecutor,
+                                    DailyLimitService dailyLimitService, AccountNumberGenerator accountNumberGenerator,
+                                    SnowflakeIdGenerator snowflakeIdGenerator, JournalService journalService,
+                                    @Value("${app.holds.default-expiry:7d}") Duration defaultExpiry,
+                                    @Value("${app.holds.max-expiry:30d}") Duration maxExpiry) {
+        this.authorizationHoldRepository = authorizationHoldRepository;
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.postingExecutor = postingExecutor;
+        this.dailyLimitService = dailyLimitService;
+        this.accountNumberGenerator = accountNumberGenerator;
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+        this.journalService = journalService;
+        this.defaultExpiry = defaultExpiry;
+        this.maxExpiry = maxExpiry;
+    }
+
+    // A repeated reference number returns the hold it already placed
+    public AuthorizationHoldDTO placeHold(HoldRequest request) {
+        accountNumberGenerator.requireValidAccountNumber(request.getAccountNumber());
+        Duration expiry = request.getExpiresInMinutes() != null
+                ? Duration.ofMinutes(request.getExpiresInMinutes()) : defaultExpiry;
+        if (expiry.compareTo(maxExpiry) > 0) {
+            throw new InvalidOperationException("Hold expiry must not exceed " + maxExpiry.toMinutes() + " minutes");
+        }
+
+        return postingExecutor.execute("hold", List.of(request.getAccountNumber()), () -> {
+            Account account = lockAccount(request.getAccountNumber());
+            if (request.getReferenceNumber() != null) {
+                Optional<AuthorizationHold> existing = authorizationHoldRepository
+                        .findByAccountNumberAndReferenceNumber(request.getAccountNumber(), request.getReferenceNumber());
+                if (existing.isPresent()) {
+                    return toDTO(existing.get());
+                }
+            }
+            if (!account.isActive()) {
+                throw new InvalidOperationException("Cannot place a hold on an inactive account");
+            }
+            if (account.availableBalance().compareTo(request.getAmount()) < 0) {
+                throw new InsufficientBalanceException("Insufficient available balance for hold");
+            }
+
+            account.setHeldAmount(account.getHeldAmount().add(request.getAmount()));
+            accountRepository.save(account);
+
+            // Whole seconds, so the expiry compares equal after a round trip through the database
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+            AuthorizationHold hold = new AuthorizationHold();
+            hold.setHoldId("HLD" + String.format("%016X", snowflakeIdGenerator.nextId()));
+            hold.setAccountId(account.getId());
+            hold.setAccountNumber(account.getAccountNumber());
+            hold.setAmount(request.getAmount());
+            hold.setStatus(HoldStatus.ACTIVE);
+            hold.setReferenceNumber(request.getReferenceNumber());
+            hold.setDescription(request.getDescription());
+            hold.setCreatedAt(now);
+            hold.setExpiresAt(now.plus(expiry));
+
+            AuthorizationHold saved = authorizationHoldRepository.save(hold);
+            log.info("Placed hold {} of {} on account {}", saved.getHoldId(), saved.getAmount(), saved.getAccountNumber());
+            return toDTO(saved);
+        });
+    }
+
+    // Debits up to the held amount as a PAYMENT and frees the rest of the hold
+    public AuthorizationHoldDTO captureHold(String accountNumber, String holdId, HoldCaptureRequest request) {
+        accountNumberGenerator.requireValidAccountNumber(accountNumber);
+        return postingExecutor.execute("hold-capture", List.of(accountNumber), () -> {
+            Account account = lockAccount(accountNumber);
+            AuthorizationHold hold = findActiveHold(accountNumber, holdId);
+            if (!account.isActive()) {
+                throw new InvalidOperationException("Cannot capture a hold on an inactive account");
+            }
+            // Same cut-off as expire(): an expired hold is left for the expiry scheduler to release
+            if (!hold.getExpiresAt().isAfter(LocalDateTime.now())) {
+                throw new InvalidOperationException("Hold " + holdId + " expired at " + hold.getExpiresAt());
+            }
+            BigDecimal amount = request != null && request.getAmount() != null ? request.getAmount() : hold.getAmount();
+            if (amount.compareTo(hold.getAmount()) > 0) {
+                throw new InvalidOperationException("Capture amount exceeds the held amount of " + hold.getAmount());
+            }
+
+            BigDecimal newBalance = account.getBalance().subtract(amount);
+            account.setBalance(newBalance);
+            account.setHeldAmount(account.getHeldAmount().subtract(hold.getAmount()));
+            accountRepository.save(account);
+
+            Transaction transaction = new Transaction();
+            transaction.setTransactionId(accountNumberGenerator.generateTransactionId());
+            transaction.setAccount(account);
+            transaction.setAmount(amount);
+            transaction.setTransactionType(TransactionType.PAYMENT);
+            transaction.setStatus(TransactionStatus.COMPLETED);
+            transaction.setDescription(request != null && request.getDescription() != null ? request.getDescription()
+                    : hold.getDescription() != null ? hold.getDescription() : "Capture of hold " + holdId);
+            transaction.setReferenceNumber(hold.getReferenceNumber() != null ? hold.getReferenceNumber() : holdId);
+            transaction.setBalanceAfterTransaction(newBalance);
+            transactionRepository.save(transaction);
+            journalService.postExternal(TransactionType.PAYMENT, transaction.getReferenceNumber(), transaction.getDescription(),
+                    JournalService.CARD_SETTLEMENT_ACCOUNT_ID,
+                    new JournalService.Leg(account.getId(), amount.negate(), newBalance, transaction.getTransactionId()));
+            dailyLimitService.record(account, TransactionType.PAYMENT, amount);
+
+            hold.setStatus(HoldStatus.CAPTURED);
+            hold.setCapturedAmount(amount);
+            hold.setResolvedAt(LocalDateTime.now());
+            hold.setTransactionId(transaction.getTransactionId());
+            log.info("Captured {} of hold {} on account {}, new balance: {}", amount, holdId, accountNumber, newBalance);
+            return toDTO(authorizationHoldRepository.save(hold));
+        });
+    }
+
+    public AuthorizationHoldDTO releaseHold(String accountNumber, String holdId) {
+        accountNumberGenerator.requireValidAccountNumber(accountNumber);
+        return postingExecutor.execute("hold-release", List.of(accountNumber), () -> {
+            Account account = lockAccount(accountNumber);
+            AuthorizationHold hold = findActiveHold(accountNumber, holdId);
+            resolve(account, hold, HoldStatus.RELEASED);
+            log.info("Released hold {} on account {}", holdId, accountNumber);
+            return toDTO(hold);
+        });
+    }
+
+    // Called by the HoldExpiryScheduler; a hold captured or released meanwhile is left alone
+    public boolean expire(String accountNumber, String holdId) {
+        return postingExecutor.execute("hold-expiry", List.of(accountNumber), () -> {
+            Account account = lockAccount(accountNumber);
+            AuthorizationHold hold = authorizationHoldRepository.findById(holdId).orElse(null);
+            if (hold == null || hold.getStatus() != HoldStatus.ACTIVE || hold.getExpiresAt().isAfter(LocalDateTime.now())) {
+                return false;
+            }
+            resolve(account, hold, HoldStatus.EXPIRED);
+            log.info("Hold {} on account {} expired", holdId, accountNumber);
+            return true;
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public List<AuthorizationHoldDTO> getHoldsByAccountNumber(String accountNumber) {
+        accountNumberGenerator.requireValidAccountNumber(accountNumber);
+        return authorizationHoldRepository.findByAccountNumberOrderByCreatedAtDesc(accountNumber).stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public AuthorizationHoldDTO getHold(String accountNumber, String holdId) {
+        accountNumberGenerator.requireValidAccountNumber(accountNumber);
+        return toDTO(findHold(accountNumber, holdId));
+    }
+
+    private void resolve(Account account, AuthorizationHold hold, HoldStatus status) {
+        account.setHeldAmount(account.getHeldAmount().subtract(hold.getAmount()));
+        accountRepository.save(account);
+        hold.setStatus(status);
+        hold.setResolvedAt(LocalDateTime.now());
+        authorizationHoldRepository.save(hold);
+    }
+
+    private Account lockAccount(String accountNumber) {
+        List<Account> locked = accountRepository.findAllByAccountNumberInForUpdate(List.of(accountNumber));
+        if (locked.isEmpty()) {
+            throw new ResourceNotFoundException("Account", "account number", accountNumber);
+        }
+        return locked.get(0);
+    }
+
+    // Read after the account row is locked, so the status cannot change underneath
+    private AuthorizationHold findActiveHold(String accountNumber, String holdId) {
+        AuthorizationHold hold = findHold(accountNumber, holdId);
+        if (hold.getStatus() != HoldStatus.ACTIVE) {
+            throw new InvalidOperationException("Hold " + holdId + " is already " + hold.getStatus());
+        }
+        return hold;
+    }
+
+    private AuthorizationHold findHold(String accountNumber, String holdId) {
+        return authorizationHoldRepository.findByHoldIdAndAccountNumber(holdId, accountNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Hold", "id", holdId));
+    }
+
+    private AuthorizationHoldDTO toDTO(AuthorizationHold hold) {
+        AuthorizationHoldDTO dto = new AuthorizationHoldDTO();
+        dto.setHoldId(hold.getHoldId());
+        dto.setAccountNumber(hold.getAccountNumber());
+        dto.setAmount(hold.getAmount());
+        dto.setCapturedAmount(hold.getCapturedAmount());
+        dto.setStatus(hold.getStatus());
+        dto.setReferenceNumber(hold.getReferenceNumber());
+        dto.setDescription(hold.getDescription());
+        dto.setCreatedAt(hold.getCreatedAt());
+        dto.setExpiresAt(hold.getExpiresAt());
+        dto.setResolvedAt(hold.getResolvedAt());
+        dto.setTransactionId(hold.getTransactionId());
+        return dto;
+    }
+}
@@ -0,0 +1,154 @@
+package com.bankingapplication.account_service.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bankingapplication.account_service.concurrency.ClusterJobLock;
+import com.bankingapplication.account_service.entity.Account;
+import com.bankingapplication.account_service.entity.BalanceSnapshot;
+import com.bankingapplication.account_service.exception.InvalidOperationException;
+import com.bankingapplication.account_service.exception.ResourceNotFoundException;
+import com.bankingapplication.account_service.repository.AccountRepository;
+import com.bankingapplication.account_service.repository.BalanceSnapshotRepository;
+import com.bankingapplication.account_service.repository.TransactionRepository;
+import com.bankingapplication.account_service.util.AccountNumberGenerator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * End-of-day balance snapshots: one row per account per day holding the closing balance. The job
+ * walks the accounts in keyset chunks, each chunk a single INSERT ... SELECT upsert in its own
+ * transaction, so re-running a day (or resuming after a crash) simply rewrites the same rows. A day
+ * is computed from the previous day's snapshot plus the signed sum of that day's postings; an account
+ * without a previous snapshot sums all its postings before the day end. Amounts are summed rather than
+ * taking balance_after_transaction from the last row, which need not be the last posting applied.
+ *
+ * The balance as of a date is then the latest snapshot on or before it plus the postings since,
+ * i.e. two indexed lookups instead of a scan over the account's whole history.
+ */
+@Service
+public class BalanceSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceSnapshotService.class);
+
+    // Lower bound for the posting lookup when an account has no snapshot yet
+    private static final LocalDateTime BEGINNING = LocalDate.of(1970, 1, 1).atStartOfDay();
+
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final ClusterJobLock clusterJobLock;
+    private final Counter snapshotRows;
+
+    public BalanceSnapshotService(BalanceSnapshotRepository balanceSnapshotRepository, AccountRepository accountRepository,
+                                  TransactionRepository transactionRepository, AccountNumberGenerator accountNumberGenerator,
+                                  PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                  ClusterJobLock clusterJobLock,
+                                  @Value("${app.balance-snapshots.chunk-size:5000}") int chunkSize) {
+        this.balanceSnapshotRepository = balanceSnapshotRepository;
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.accountNumberGenerator = accountNumberGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.clusterJobLock = clusterJobLock;
+
+        this.snapshotRows = Counter.builder("banking.balance-snapshots.rows")
+                .description("Account balance snapshot rows written")
+                .register(meterRegistry);
+    }
+
+    // Snapshots the day that just ended; "-" as the cron turns the nightly run off
+    @Scheduled(cron = "${app.balance-snapshots.nightly-cron:0 10 0 * * *}")
+    public void snapshotNightly() {
+        clusterJobLock.runExclusively("balance-snapshots", () -> snapshot(LocalDate.now().minusDays(1)));
+    }
+
+    // Writes (or rewrites) the closing balance of every account that existed at the end of the date
+    public Map<String, Object> snapshot(LocalDate snapshotDate) {
+        if (!snapshotDate.isBefore(LocalDate.now())) {
+            throw new InvalidOperationException("Only days that have ended can be snapshotted: " + snapshotDate);
+        }
+        long started = System.nanoTime();
+        LocalDateTime dayStart = snapshotDate.atStartOfDay();
+        LocalDateTime dayEnd = snapshotDate.plusDays(1).atStartOfDay();
+        LocalDate previousDate = snapshotDate.minusDays(1);
+
+        long afterId = 0;
+        long written = 0;
+        int chunks = 0;
+        while (true) {
+            Long lastId = balanceSnapshotRepository.findChunkEnd(afterId, chunkSize);
+            if (lastId == null) {
+                break;
+            }
+            long from = afterId;
+            Integer rows = transactionTemplate.execute(status ->
+                    balanceSnapshotRepository.snapshotChunk(snapshotDate, previousDate, dayStart, dayEnd, from, lastId));
+            afterId = lastId;
+            written += rows;
+            chunks++;
+            snapshotRows.increment(rows);
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        log.info("Balance snapshot for {} wrote {} rows in {} chunks in {}", snapshotDate, written, chunks, elapsed);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("snapshotDate", snapshotDate);
+        summary.put("accounts", written);
+        summary.put("chunks", chunks);
+        summary.put("elapsedMillis", elapsed.toMillis());
+        return summary;
+    }
+
+    // Closing balance of the account at the end of asOfDate
+    @Transactional(readOnly = true)
+    public Map<String, Object> getBalanceAsOf(String accountNumber, LocalDate asOfDate) {
+        accountNumberGenerator.requireValidAccountNumber(accountNumber);
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Account", "accountNumber", accountNumber));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("accountNumber", accountNumber);
+        result.put("asOfDate", asOfDate);
+        if (!asOfDate.isBefore(LocalDate.now())) {
+            // The day has not ended yet, so the live balance is the answer
+            result.put("balance", account.getBalance());
+            result.put("snapshotDate", null);
+            result.put("source", "CURRENT");
+            return result;
+        }
+
+        Optional<BalanceSnapshot> snapshot = balanceSnapshotRepository
+                .findTopByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(account.getId(), asOfDate);
+        LocalDateTime from = snapshot.map(s -> s.getSnapshotDate().plusDays(1).atStartOfDay()).orElse(BEGINNING);
+        Optional<BigDecimal> postings = transactionRepository.sumPostingsBetween(account.getId(), from,
+                asOfDate.plusDays(1).atStartOfDay());
+
+        BigDecimal balance = snapshot.map(BalanceSnapshot::getBalance).orElse(BigDecimal.ZERO)
+                .add(postings.orElse(BigDecimal.ZERO));
+        result.put("balance", balance);
+        result.put("snapshotDate", snapshot.map(BalanceSnapshot::getSnapshotDate).orElse(null));
+        result.put("source", postings.isPresent() ? "POSTINGS" : snapshot.isPresent() ? "SNAPSHOT" : "NONE");
+        return result;
+    }
+}
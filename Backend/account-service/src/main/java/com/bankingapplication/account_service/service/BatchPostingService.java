@@ -0,0 +1,458 @@
+package com.bankingapplication.account_service.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.bankingapplication.account_service.concurrency.GroupCommitExecutor;
+import com.bankingapplication.account_service.concurrency.PostingExecutor;
+import com.bankingapplication.account_service.dto.BatchItemResultDTO;
+import com.bankingapplication.account_service.dto.BatchJobDTO;
+import com.bankingapplication.account_service.dto.TransactionDTO;
+import com.bankingapplication.account_service.dto.request.BatchItemRequest;
+import com.bankingapplication.account_service.dto.request.DepositRequest;
+import com.bankingapplication.account_service.dto.request.TransferRequest;
+import com.bankingapplication.account_service.entity.Account;
+import com.bankingapplication.account_service.entity.BatchJob;
+import com.bankingapplication.account_service.entity.BatchJobStatus;
+import com.bankingapplication.account_service.entity.TransactionStatus;
+import com.bankingapplication.account_service.entity.TransactionType;
+import com.bankingapplication.account_service.exception.InvalidOperationException;
+import com.bankingapplication.account_service.exception.PostingCapacityExceededException;
+import com.bankingapplication.account_service.exception.ResourceNotFoundException;
+import com.bankingapplication.account_service.repository.AccountRepository;
+import com.bankingapplication.account_service.repository.BatchJobRepository;
+import com.bankingapplication.account_service.util.AccountNumberGenerator;
+import com.bankingapplication.account_service.util.SnowflakeIdGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bulk deposits and transfers. Items are checked in parallel against one read of all the accounts
+ * involved, then posted in chunks: each chunk locks its accounts once and applies its items in one
+ * DB transaction through the same TransactionService rules, so the statement rows and balance
+ * updates go out as JDBC batches. An item rejected by a business rule only fails itself; a chunk
+ * that fails for any other reason is replayed item by item with the normal retrying path.
+ *
+ * Batches above the async threshold are persisted as a batch job, items included, and run on a small
+ * bounded pool. Every item of such a batch needs a reference number, so a job that fails, or is failed
+ * because its instance stopped sending heartbeats, can simply be resubmitted: items already posted
+ * answer with their original transaction instead of posting twice.
+ */
+@Service
+public class BatchPostingService {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchPostingService.class);
+
+    private final TransactionService transactionService;
+    private final IdempotencyService idempotencyService;
+    private final PostingExecutor postingExecutor;
+    private final AccountRepository accountRepository;
+    private final BatchJobRepository batchJobRepository;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final ObjectMapper objectMapper;
+    private final int maxItems;
+    private final int chunkSize;
+    private final int asyncThreshold;
+    private final Duration staleAfter;
+    private final ThreadPoolExecutor jobExecutor;
+    // Jobs queued or running on this instance, kept alive by the heartbeat
+    private final Set<String> ownedJobs = ConcurrentHashMap.newKeySet();
+    private final Timer chunkTimer;
+    private final Counter completedItems;
+    private final Counter failedItems;
+
+    public BatchPostingService(TransactionService transactionService, IdempotencyService idempotencyService,
+                               PostingExecutor postingExecutor, AccountRepository accountRepository,
+                               BatchJobRepository batchJobRepository, AccountNumberGenerator accountNumberGenerator,
+                               SnowflakeIdGenerator snowflakeIdGenerator, ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.batch.max-items:10000}") int maxItems,
+                               @Value("${app.batch.chunk-size:100}") int chunkSize,
+                               @Value("${app.batch.async-threshold:500}") int asyncThreshold,
+                               @Value("${app.batch.workers:2}") int workers,
+                               @Value("${app.batch.queue-capacity:20}") int queueCapacity,
+                               @Value("${app.batch.stale-after:5m}") Duration staleAfter) {
+        this.transactionService = transactionService;
+        this.idempotencyService = idempotencyService;
+        this.postingExecutor = postingExecutor;
+        this.accountRepository = accountRepository;
+        this.batchJobRepository = batchJobRepository;
+        this.accountNumberGenerator = accountNumberGenerator;
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+        this.objectMapper = objectMapper;
+        this.maxItems = maxItems;
+        this.chunkSize = chunkSize;
+        this.asyncThreshold = asyncThreshold;
+        this.staleAfter = staleAfter;
+        this.jobExecutor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("batch-posting-", 0).daemon().factory());
+
+        this.chunkTimer = Timer.builder("banking.batch.chunk")
+                .description("Time to post one chunk of a batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.completedItems = Counter.builder("banking.batch.items")
+                .description("Batch items processed")
+                .tag("outcome", "completed")
+                .register(meterRegistry);
+        this.failedItems = Counter.builder("banking.batch.items")
+                .description("Batch items processed")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+    }
+
+    public BatchJobDTO submit(List<BatchItemRequest> items, String requestedBy) {
+        if (items.size() > maxItems) {
+            throw new InvalidOperationException("A batch may contain at most " + maxItems + " items");
+        }
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        if (items.size() <= asyncThreshold) {
+            List<BatchItemResultDTO> results = process(items, null);
+            return summarize(null, BatchJobStatus.COMPLETED, results, createdAt, LocalDateTime.now());
+        }
+
+        for (int i = 0; i < items.size(); i++) {
+            String reference = items.get(i).getReferenceNumber();
+            if (reference == null || reference.isBlank()) {
+                throw new InvalidOperationException("Item " + i + " has no reference number; every item of a batch above "
+                        + asyncThreshold + " items needs one so the batch can be safely resubmitted");
+            }
+        }
+
+        String jobId = "BATCH" + String.format("%016X", snowflakeIdGenerator.nextId());
+        List<BatchItemRequest> snapshot = List.copyOf(items);
+        BatchJob job = new BatchJob(jobId, BatchJobStatus.QUEUED, items.size(), requestedBy, createdAt);
+        try {
+            job.setItems(objectMapper.writeValueAsString(snapshot));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the items of batch job " + jobId, e);
+        }
+        job = batchJobRepository.save(job);
+        ownedJobs.add(jobId);
+        try {
+            jobExecutor.execute(() -> runJob(jobId, snapshot));
+        } catch (RejectedExecutionException e) {
+            ownedJobs.remove(jobId);
+            batchJobRepository.delete(job);
+            throw new PostingCapacityExceededException("Too many batch jobs in progress, retry later");
+        }
+
+        log.info("Queued batch job {} with {} items for {}", jobId, items.size(), requestedBy);
+        return toDTO(job, null);
+    }
+
+    public BatchJobDTO getJob(String jobId) {
+        BatchJob job = batchJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Batch job", "id", jobId));
+        return toDTO(job, readResults(job));
+    }
+
+    // Jobs left QUEUED or RUNNING by an instance that went away would otherwise be polled forever
+    @EventListener(ApplicationReadyEvent.class)
+    public void failStaleJobs() {
+        int failed = batchJobRepository.failStale(List.of(BatchJobStatus.QUEUED, BatchJobStatus.RUNNING),
+                BatchJobStatus.FAILED, LocalDateTime.now().minus(staleAfter), LocalDateTime.now());
+        if (failed > 0) {
+            log.warn("Marked {} batch jobs without a heartbeat for {} as failed", failed, staleAfter);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.batch.heartbeat-interval:30s}")
+    public void heartbeat() {
+        try {
+            if (!ownedJobs.isEmpty()) {
+                batchJobRepository.touch(Set.copyOf(ownedJobs), List.of(BatchJobStatus.QUEUED, BatchJobStatus.RUNNING),
+                        LocalDateTime.now());
+            }
+            failStaleJobs();
+        } catch (RuntimeException e) {
+            log.error("Batch job heartbeat failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdown();
+    }
+
+    private void runJob(String jobId, List<BatchItemRequest> items) {
+        updateJob(jobId, job -> job.setStatus(BatchJobStatus.RUNNING));
+        try {
+            List<BatchItemResultDTO> results = process(items, jobId);
+            String json = objectMapper.writeValueAsString(results);
+            updateJob(jobId, job -> {
+                job.setStatus(BatchJobStatus.COMPLETED);
+                job.setSucceededItems(count(results, TransactionStatus.COMPLETED));
+                job.setFailedItems(count(results, TransactionStatus.FAILED));
+                job.setCompletedAt(LocalDateTime.now());
+                job.setResults(json);
+            });
+            log.info("Batch job {} completed", jobId);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("Batch job {} failed", jobId, e);
+            updateJob(jobId, job -> {
+                job.setStatus(BatchJobStatus.FAILED);
+                job.setCompletedAt(LocalDateTime.now());
+            });
+        } finally {
+            ownedJobs.remove(jobId);
+        }
+    }
+
+    private List<BatchItemResultDTO> process(List<BatchItemRequest> items, String jobId) {
+        BatchItemResultDTO[] results = new BatchItemResultDTO[items.size()];
+
+        // One read for every account in the batch, then stateless checks in parallel
+        Set<String> accountNumbers = new HashSet<>();
+        for (BatchItemRequest item : items) {
+            accountNumbers.add(item.getAccountNumber());
+            if (item.getDestinationAccountNumber() != null) {
+                accountNumbers.add(item.getDestinationAccountNumber());
+            }
+        }
+        Map<String, Account> accounts = accountRepository.findByAccountNumberIn(accountNumbers).stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+        IntStream.range(0, items.size()).parallel().forEach(i -> {
+            String error = validate(items.get(i), accounts);
+            if (error != null) {
+                results[i] = BatchItemResultDTO.failed(i, error);
+            }
+        });
+
+        List<PendingItem> chunk = new ArrayList<>(chunkSize);
+        for (int i = 0; i < items.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            chunk.add(new PendingItem(i, items.get(i), idempotencyKey(items.get(i))));
+            if (chunk.size() == chunkSize) {
+                postChunk(chunk, results);
+                chunk.clear();
+                reportProgress(jobId, results);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            postChunk(chunk, results);
+        }
+
+        for (BatchItemResultDTO result : results) {
+            (result.getStatus() == TransactionStatus.COMPLETED ? completedItems : failedItems).increment();
+        }
+        return Arrays.asList(results);
+    }
+
+    private void postChunk(List<PendingItem> chunk, BatchItemResultDTO[] results) {
+        List<PendingItem> toPost = new ArrayList<>(chunk.size());
+        Set<String> accountNumbers = new HashSet<>();
+        for (PendingItem pending : chunk) {
+            TransactionDTO recent = pending.key != null ? idempotencyService.findRecent(pending.key) : null;
+            if (recent != null) {
+                results[pending.index] = BatchItemResultDTO.completed(pending.index, recent);
+                continue;
+            }
+            toPost.add(pending);
+            accountNumbers.add(pending.item.getAccountNumber());
+            if (pending.item.getType() == TransactionType.TRANSFER) {
+                accountNumbers.add(pending.item.getDestinationAccountNumber());
+            }
+        }
+        if (toPost.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            postingExecutor.executeLockedBatch(accountNumbers, () -> toPost.forEach(this::apply));
+        } catch (RuntimeException e) {
+            log.warn("Batch chunk of {} items rolled back, posting them individually: {}", toPost.size(), e.getMessage());
+            toPost.forEach(pending -> results[pending.index] = postIndividually(pending));
+            return;
+        }
+        chunkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        for (PendingItem pending : toPost) {
+            results[pending.index] = complete(pending);
+        }
+    }
+
+    // Runs inside the chunk transaction; only business rejections are contained here
+    private void apply(PendingItem pending) {
+        try {
+            pending.result = pending.item.getType() == TransactionType.DEPOSIT
+                    ? transactionService.applyDeposit(toDepositRequest(pending.item), pending.key, null)
+                    : transactionService.applyTransfer(toTransferRequest(pending.item), pending.key, null);
+        } catch (RuntimeException e) {
+            if (!GroupCommitExecutor.isBusinessRejection(e)) {
+                throw e;
+            }
+            pending.rejection = e;
+        }
+    }
+
+    private BatchItemResultDTO complete(PendingItem pending) {
+        if (pending.rejection == null) {
+            if (pending.key != null) {
+                idempotencyService.remember(pending.key, pending.result);
+            }
+            return BatchItemResultDTO.completed(pending.index, pending.result);
+        }
+        // A replayed reference (or a replay that now fails the checks) answers with the original posting
+        if (pending.key != null) {
+            TransactionDTO original = idempotencyService.findOriginal(pending.key).orElse(null);
+            if (original != null) {
+                return BatchItemResultDTO.completed(pending.index, original);
+            }
+        }
+        return BatchItemResultDTO.failed(pending.index, pending.rejection.getMessage());
+    }
+
+    private BatchItemResultDTO postIndividually(PendingItem pending) {
+        try {
+            TransactionDTO result = pending.item.getType() == TransactionType.DEPOSIT
+                    ? transactionService.deposit(toDepositRequest(pending.item))
+                    : transactionService.transfer(toTransferRequest(pending.item));
+            return BatchItemResultDTO.completed(pending.index, result);
+        } catch (RuntimeException e) {
+            return BatchItemResultDTO.failed(pending.index, e.getMessage());
+        }
+    }
+
+    private String validate(BatchItemRequest item, Map<String, Account> accounts) {
+        if (item.getType() != TransactionType.DEPOSIT && item.getType() != TransactionType.TRANSFER) {
+            return "Only DEPOSIT and TRANSFER items are supported";
+        }
+        String error = validateAccount(item.getAccountNumber(), accounts);
+        if (error != null || item.getType() == TransactionType.DEPOSIT) {
+            return error;
+        }
+
+        if (item.getDestinationAccountNumber() == null) {
+            return "Destination account number is required for transfers";
+        }
+        if (item.getDestinationAccountNumber().equals(item.getAccountNumber())) {
+            return "Source and destination accounts must be different";
+        }
+        return validateAccount(item.getDestinationAccountNumber(), accounts);
+    }
+
+    private String validateAccount(String accountNumber, Map<String, Account> accounts) {
+        if (!accountNumberGenerator.validateAccountNumber(accountNumber)) {
+            return "Invalid account number: " + accountNumber;
+        }
+        Account account = accounts.get(accountNumber);
+        if (account == null) {
+            return "Account not found with account number: " + accountNumber;
+        }
+        if (!account.isActive()) {
+            return "Account " + accountNumber + " is inactive";
+        }
+        return null;
+    }
+
+    private String idempotencyKey(BatchItemRequest item) {
+        String operation = item.getType() == TransactionType.DEPOSIT ? "deposit" : "transfer";
+        return idempotencyService.key(operation, item.getAccountNumber(), item.getReferenceNumber());
+    }
+
+    private void reportProgress(String jobId, BatchItemResultDTO[] results) {
+        if (jobId == null) {
+            return;
+        }
+        List<BatchItemResultDTO> done = Arrays.stream(results).filter(Objects::nonNull).toList();
+        updateJob(jobId, job -> {
+            job.setSucceededItems(count(done, TransactionStatus.COMPLETED));
+            job.setFailedItems(count(done, TransactionStatus.FAILED));
+        });
+    }
+
+    private void updateJob(String jobId, Consumer<BatchJob> update) {
+        batchJobRepository.findById(jobId).ifPresent(job -> {
+            update.accept(job);
+            job.setUpdatedAt(LocalDateTime.now());
+            batchJobRepository.save(job);
+        });
+    }
+
+    private List<BatchItemResultDTO> readResults(BatchJob job) {
+        if (job.getResults() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(job.getResults(), new TypeReference<List<BatchItemResultDTO>>() { });
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable results for batch job " + job.getJobId(), e);
+        }
+    }
+
+    private static int count(List<BatchItemResultDTO> results, TransactionStatus status) {
+        return (int) results.stream().filter(result -> result.getStatus() == status).count();
+    }
+
+    private BatchJobDTO toDTO(BatchJob job, List<BatchItemResultDTO> results) {
+        return new BatchJobDTO(job.getJobId(), job.getStatus(), job.getTotalItems(), job.getSucceededItems(),
+                job.getFailedItems(), job.getCreatedAt(), job.getCompletedAt(), results);
+    }
+
+    private static BatchJobDTO summarize(String jobId, BatchJobStatus status, List<BatchItemResultDTO> results,
+                                         LocalDateTime createdAt, LocalDateTime completedAt) {
+        return new BatchJobDTO(jobId, status, results.size(), count(results, TransactionStatus.COMPLETED),
+                count(results, TransactionStatus.FAILED), createdAt, completedAt, results);
+    }
+
+    private static DepositRequest toDepositRequest(BatchItemRequest item) {
+        return new DepositRequest(item.getAccountNumber(), item.getAmount(), item.getDescription(), item.getReferenceNumber());
+    }
+
+    private static TransferRequest toTransferRequest(BatchItemRequest item) {
+        return new TransferRequest(item.getAccountNumber(), item.getDestinationAccountNumber(), item.getAmount(),
+                item.getDescription(), item.getReferenceNumber());
+    }
+
+    private static final class PendingItem {
+
+        private final int index;
+        private final BatchItemRequest item;
+        private final String key;
+        private TransactionDTO result;
+        private RuntimeException rejection;
+
+        PendingItem(int index, BatchItemRequest item, String key) {
+            this.index = index;
+            this.item = item;
+            this.key = key;
+        }
+    }
+}
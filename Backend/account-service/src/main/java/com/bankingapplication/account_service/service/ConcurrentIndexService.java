@@ -0,0 +1,126 @@
+package com.bankingapplication.account_service.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.bankingapplication.account_service.concurrency.ClusterJobLock;
+
+/**
+ * Builds the indexes under {@code db/indexes} (one {@code CREATE INDEX CONCURRENTLY IF NOT EXISTS}
+ * per file) on tables that may already be large, so a first deploy never blocks writes for the whole
+ * build the way a plain CREATE INDEX in db/init would. The builds run in the background once the
+ * application is ready, on one instance at a time, each statement on its own autocommit connection
+ * (CONCURRENTLY cannot run inside a transaction) and without the pool's lock_timeout, since a
+ * concurrent build waits for every transaction already open on the table.
+ *
+ * An index that exists and is valid is left alone, so later starts cost one catalog lookup per file.
+ * A build that died half way leaves an invalid index behind; it is dropped and built again. Partitioned
+ * tables cannot be indexed concurrently; their indexes come with db/migration/V1.
+ */
+@Service
+public class ConcurrentIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrentIndexService.class);
+
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "CREATE\\s+(?:UNIQUE\\s+)?INDEX\\s+CONCURRENTLY\\s+IF\\s+NOT\\s+EXISTS\\s+(\\w+)\\s+ON\\s+(\\w+)",
+            Pattern.CASE_INSENSITIVE);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterJobLock clusterJobLock;
+    private final boolean enabled;
+
+    public ConcurrentIndexService(JdbcTemplate jdbcTemplate, ClusterJobLock clusterJobLock,
+                                  @Value("${app.concurrent-indexes.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clusterJobLock = clusterJobLock;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            Thread.ofPlatform().name("concurrent-indexes").daemon().start(this::buildAll);
+        }
+    }
+
+    private void buildAll() {
+        try {
+            Resource[] scripts = new PathMatchingResourcePatternResolver().getResources("classpath:db/indexes/*.sql");
+            Arrays.sort(scripts, Comparator.comparing(Resource::getFilename));
+            clusterJobLock.runExclusively("concurrent-indexes", () -> {
+                for (Resource script : scripts) {
+                    try {
+                        build(script.getFilename(), script.getContentAsString(StandardCharsets.UTF_8));
+                    } catch (IOException | RuntimeException e) {
+                        // The query the index serves still works, only slower; the next start retries
+                        log.error("Could not build index from {}", script.getFilename(), e);
+                    }
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            log.error("Concurrent index builds failed", e);
+        }
+    }
+
+    private void build(String fileName, String sql) {
+        Matcher matcher = CREATE_INDEX.matcher(sql);
+        if (!matcher.find()) {
+            throw new IllegalStateException(fileName + " is not a CREATE INDEX CONCURRENTLY IF NOT EXISTS statement");
+        }
+        String index = matcher.group(1);
+        String table = matcher.group(2);
+
+        Boolean valid = jdbcTemplate.query("SELECT i.indisvalid FROM pg_index i WHERE i.indexrelid = to_regclass(?)",
+                rs -> rs.next() ? rs.getBoolean(1) : null, index);
+        if (Boolean.TRUE.equals(valid)) {
+            return;
+        }
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))", Boolean.class, table);
+        if (Boolean.TRUE.equals(partitioned)) {
+            log.warn("Index {} is missing on partitioned table {}; it cannot be built concurrently", index, table);
+            return;
+        }
+
+        long started = System.nanoTime();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                String lockTimeout;
+                try (ResultSet result = statement.executeQuery("SHOW lock_timeout")) {
+                    result.next();
+                    lockTimeout = result.getString(1);
+                }
+                statement.execute("SET lock_timeout = 0");
+                try {
+                    if (valid != null) {
+                        log.warn("Rebuilding invalid index {} left by an interrupted build", index);
+                        statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index);
+                    }
+                    statement.execute(sql);
+                } finally {
+                    statement.execute("SET lock_timeout = '" + lockTimeout + "'");
+                }
+            }
+            return null;
+        });
+        log.info("Built index {} on {} in {} ms", index, table, (System.nanoTime() - started) / 1_000_000);
+    }
+}
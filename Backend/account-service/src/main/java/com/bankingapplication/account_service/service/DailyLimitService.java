@@ -0,0 +1,161 @@
+package com.bankingapplication.account_service.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.bankingapplication.account_service.entity.Account;
+import com.bankingapplication.account_service.entity.DailyTransactionTotal;
+import com.bankingapplication.account_service.entity.TransactionType;
+import com.bankingapplication.account_service.repository.DailyTransactionTotalRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-account, per-day, per-type running totals used by the daily limit checks.
+ *
+ * The totals table is updated in the posting's own DB transaction. Committed totals are mirrored
+ * in a bounded cache keyed by account id and stamped with the account's @Version, so a cached
+ * entry is only trusted while no other writer (another instance, the database engine, a status
+ * change) has touched the account since. Inside a transaction, reads and writes go through a
+ * transaction-local working copy that is published to the cache after commit.
+ */
+@Service
+public class DailyLimitService {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyLimitService.class);
+
+    private final DailyTransactionTotalRepository dailyTransactionTotalRepository;
+    private final Cache<Long, DailyTotals> cache;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    public DailyLimitService(DailyTransactionTotalRepository dailyTransactionTotalRepository, MeterRegistry meterRegistry,
+                             @Value("${app.limits.cache-size:100000}") long cacheSize) {
+        this.dailyTransactionTotalRepository = dailyTransactionTotalRepository;
+        this.cache = Caffeine.newBuilder().maximumSize(cacheSize).build();
+        this.cacheHits = Counter.builder("banking.limits.cache")
+                .description("Daily limit total lookups served from memory")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.cacheMisses = Counter.builder("banking.limits.cache")
+                .description("Daily limit total lookups served from memory")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public BigDecimal getDailyTotal(Account account, TransactionType type) {
+        LocalDate today = LocalDate.now();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return loadFromDatabase(account.getId(), today).getOrDefault(type, BigDecimal.ZERO);
+        }
+        return working(account, today).totals().getOrDefault(type, BigDecimal.ZERO);
+    }
+
+    public BigDecimal getDailyTotal(Long accountId, TransactionType type) {
+        return loadFromDatabase(accountId, LocalDate.now()).getOrDefault(type, BigDecimal.ZERO);
+    }
+
+    // Must run inside the posting's transaction
+    public void record(Account account, TransactionType type, BigDecimal amount) {
+        LocalDate today = LocalDate.now();
+        WorkingTotals working = working(account, today);
+        dailyTransactionTotalRepository.addToTotal(account.getId(), today, type.name(), amount);
+        working.totals().merge(type, amount, BigDecimal::add);
+    }
+
+    // Postings wait (up to their lock timeout) until the rebuild commits: one that commits between the
+    // rebuild's read and its write would otherwise have its amount overwritten. Postings already in
+    // flight finish first, so the rebuild reads them. Only today's totals are cached, so when the range
+    // covers today the accounts involved get a new version first (before the table lock, in the order
+    // postings lock accounts): every instance's cached entry for them stops matching its stamp.
+    @Transactional
+    public int rebuild(LocalDate fromDate, LocalDate toDate) {
+        log.info("Rebuilding daily transaction totals from {} to {}", fromDate, toDate);
+        LocalDate today = LocalDate.now();
+        if (!today.isBefore(fromDate) && !today.isAfter(toDate)) {
+            int accounts = dailyTransactionTotalRepository.bumpAccountVersionsFor(today,
+                    LocalDateTime.of(today, LocalTime.MIN), LocalDateTime.of(today.plusDays(1), LocalTime.MIN));
+            log.info("Invalidated cached daily totals of {} accounts", accounts);
+        }
+        dailyTransactionTotalRepository.lockAgainstPostings();
+        dailyTransactionTotalRepository.deleteByBusinessDateBetween(fromDate, toDate);
+        int rows = dailyTransactionTotalRepository.rebuildFromTransactions(
+                LocalDateTime.of(fromDate, LocalTime.MIN), LocalDateTime.of(toDate.plusDays(1), LocalTime.MIN));
+        cache.invalidateAll();
+        log.info("Rebuilt {} daily transaction total rows", rows);
+        return rows;
+    }
+
+    private WorkingTotals working(Account account, LocalDate today) {
+        @SuppressWarnings("unchecked")
+        Map<Long, WorkingTotals> workingSet = (Map<Long, WorkingTotals>) TransactionSynchronizationManager.getResource(this);
+        if (workingSet == null) {
+            Map<Long, WorkingTotals> created = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    created.values().forEach(DailyLimitService.this::publish);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(DailyLimitService.this);
+                }
+            });
+            workingSet = created;
+        }
+
+        return workingSet.computeIfAbsent(account.getId(), id -> {
+            DailyTotals cached = cache.getIfPresent(id);
+            if (cached != null && cached.businessDate().equals(today) && cached.accountVersion() == account.getVersion()) {
+                cacheHits.increment();
+                EnumMap<TransactionType, BigDecimal> totals = new EnumMap<>(TransactionType.class);
+                totals.putAll(cached.totals());
+                return new WorkingTotals(account, today, totals);
+            }
+            cacheMisses.increment();
+            return new WorkingTotals(account, today, loadFromDatabase(id, today));
+        });
+    }
+
+    private void publish(WorkingTotals working) {
+        // The entity's version was bumped when the balance update was flushed
+        cache.put(working.account().getId(),
+                new DailyTotals(working.businessDate(), working.account().getVersion(), working.totals()));
+    }
+
+    private EnumMap<TransactionType, BigDecimal> loadFromDatabase(Long accountId, LocalDate businessDate) {
+        EnumMap<TransactionType, BigDecimal> totals = new EnumMap<>(TransactionType.class);
+        for (DailyTransactionTotal total : dailyTransactionTotalRepository.findByAccountIdAndBusinessDate(accountId, businessDate)) {
+            totals.put(total.getTransactionType(), total.getTotalAmount());
+        }
+        return totals;
+    }
+
+    private record WorkingTotals(Account account, LocalDate businessDate, EnumMap<TransactionType, BigDecimal> totals) {
+    }
+
+    private record DailyTotals(LocalDate businessDate, long accountVersion, Map<TransactionType, BigDecimal> totals) {
+
+        DailyTotals {
+            totals = Map.copyOf(totals);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.bankingapplication.account_service.service;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Service;
+
+import com.bankingapplication.account_service.dto.TransactionDTO;
+import com.bankingapplication.account_service.entity.TransactionStatus;
+import com.bankingapplication.account_service.entity.TransactionType;
+import com.bankingapplication.account_service.exception.InsufficientBalanceException;
+import com.bankingapplication.account_service.exception.InvalidOperationException;
+import com.bankingapplication.account_service.exception.ResourceNotFoundException;
+
+/**
+ * Posts deposits and withdrawals through the {@code post_single_entry} PostgreSQL function,
+ * which does the limit checks, balance update and journal insert in one round trip.
+ * Enabled with {@code app.posting.engine=function}; the JPA path stays the fallback.
+ */
+@Service
+public class DatabasePostingEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabasePostingEngine.class);
+
+    private static final String POST_SQL = "SELECT * FROM post_single_entry(?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final boolean requested;
+    private volatile boolean installed;
+
+    public DatabasePostingEngine(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                                 @Value("${app.posting.engine:jpa}") String engine) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.requested = "function".equalsIgnoreCase(engine);
+    }
+
+    // Runs after Hibernate has created/updated the tables the function refers to
+    @EventListener(ApplicationReadyEvent.class)
+    public void installFunction() {
+        if (!requested) {
+            return;
+        }
+        try {
+            ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                    new ClassPathResource("db/posting/post_single_entry.sql"));
+            populator.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+            populator.execute(dataSource);
+            installed = true;
+            log.info("Installed post_single_entry function, postings use the database engine");
+        } catch (Exception e) {
+            log.error("Could not install post_single_entry function, falling back to JPA postings", e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return installed;
+    }
+
+    public TransactionDTO post(String accountNumber, TransactionType type, BigDecimal amount,
+                               String transactionId, String description, String referenceNumber) {
+        PostingResult result = jdbcTemplate.queryForObject(POST_SQL,
+                (rs, rowNum) -> new PostingResult(
+                        rs.getString("o_status"),
+                        rs.getObject("o_account_id", Long.class),
+                        rs.getBigDecimal("o_balance"),
+                        rs.getObject("o_id", Long.class),
+                        rs.getTimestamp("o_transaction_date")),
+                accountNumber, type.name(), amount, transactionId, description, referenceNumber);
+
+        String operation = type == TransactionType.DEPOSIT ? "deposit to" : "withdraw from";
+        switch (result.status()) {
+            case "OK":
+                break;
+            case "ACCOUNT_NOT_FOUND":
+                throw new ResourceNotFoundException("Account", "account number", accountNumber);
+            case "ACCOUNT_INACTIVE":
+                throw new InvalidOperationException("Cannot " + operation + " an inactive account");
+            case "WITHDRAWAL_LIMIT_EXCEEDED":
+                throw new InvalidOperationException("Daily withdrawal limit exceeded");
+            case "TRANSACTION_LIMIT_EXCEEDED":
+                throw new InvalidOperationException("Daily transaction limit exceeded");
+            case "INSUFFICIENT_BALANCE":
+                throw new InsufficientBalanceException("Insufficient balance for withdrawal");
+            default:
+                throw new IllegalStateException("Unknown posting status: " + result.status());
+        }
+
+        log.info("{} completed through database engine, new balance: {}", type, result.balance());
+        return new TransactionDTO(result.id(), transactionId, result.accountId(), accountNumber, amount, type,
+                TransactionStatus.COMPLETED, null, null, referenceNumber, description,
+                result.transactionDate().toLocalDateTime(), result.balance());
+    }
+
+    private record PostingResult(String status, Long accountId, BigDecimal balance, Long id, Timestamp transactionDate) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.bankingapplication.account_service.service;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.bankingapplication.account_service.entity.FxRate;
+import com.bankingapplication.account_service.exception.InvalidOperationException;
+import com.bankingapplication.account_service.repository.FxRateRepository;
+import com.bankingapplication.account_service.util.FxRateTable;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Holds the current FxRateTable and swaps in a new one, atomically, whenever rates are reloaded
+ * from the fx_rates table or from a local CSV file ({@code app.fx.rates-file}, lines of
+ * {@code BASE,QUOTE,RATE}). Conversions only read the published snapshot: no database or lock
+ * round trip on the posting path.
+ */
+@Service
+public class FxRateService {
+
+    private static final Logger log = LoggerFactory.getLogger(FxRateService.class);
+
+    private final FxRateRepository fxRateRepository;
+    private final String ratesFile;
+    private final String pivotCurrency;
+    private final Duration refreshInterval;
+    private final AtomicReference<FxRateTable> current = new AtomicReference<>(FxRateTable.empty());
+    private final ScheduledExecutorService refresher;
+
+    public FxRateService(FxRateRepository fxRateRepository, MeterRegistry meterRegistry,
+                         @Value("${app.fx.rates-file:}") String ratesFile,
+                         @Value("${app.fx.pivot-currency:USD}") String pivotCurrency,
+                         @Value("${app.fx.refresh-interval:5m}") Duration refreshInterval) {
+        this.fxRateRepository = fxRateRepository;
+        this.ratesFile = ratesFile;
+        this.pivotCurrency = pivotCurrency.isBlank() ? null : pivotCurrency;
+        this.refreshInterval = refreshInterval;
+        this.refresher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("fx-rate-refresh").daemon().factory());
+
+        Gauge.builder("banking.fx.quoted-pairs", current, published -> published.get().quotedPairs())
+                .description("Quoted FX pairs in the published rate table")
+                .register(meterRegistry);
+    }
+
+    // Runs after Hibernate has created the fx_rates table
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.error("Loading FX rates failed, cross-currency transfers are refused until a reload succeeds", e);
+        }
+        if (!refreshInterval.isZero()) {
+            refresher.scheduleWithFixedDelay(() -> {
+                try {
+                    reload();
+                } catch (RuntimeException e) {
+                    log.warn("FX rate refresh failed, keeping the current table: {}", e.getMessage());
+                }
+            }, refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    public FxRateTable current() {
+        return current.get();
+    }
+
+    // Converts with the given snapshot; callers take one snapshot per posting
+    public FxRateTable.Conversion convert(FxRateTable table, BigDecimal amount, String from, String to) {
+        FxRateTable.Conversion conversion = table.convert(amount, from, to);
+        if (conversion == null) {
+            throw new InvalidOperationException("No FX rate available from " + from + " to " + to);
+        }
+        return conversion;
+    }
+
+    // Builds a new table from the configured source and publishes it
+    public synchronized Map<String, Object> reload() {
+        Map<String, Map<String, BigDecimal>> quotes = ratesFile.isBlank() ? readTable() : readFile(Path.of(ratesFile));
+        FxRateTable table = FxRateTable.of(quotes, pivotCurrency, LocalDateTime.now());
+        current.set(table);
+        log.info("Published FX rate table with {} quoted pairs from {}", table.quotedPairs(),
+                ratesFile.isBlank() ? "fx_rates" : ratesFile);
+        return describe();
+    }
+
+    public Map<String, Object> updateRate(String baseCurrency, String quoteCurrency, BigDecimal rate) {
+        if (!ratesFile.isBlank()) {
+            throw new InvalidOperationException("FX rates are loaded from " + ratesFile + ", update the file and reload");
+        }
+        if (baseCurrency.equals(quoteCurrency)) {
+            throw new InvalidOperationException("Base and quote currencies must be different");
+        }
+        if (rate.signum() <= 0) {
+            throw new InvalidOperationException("FX rate must be positive");
+        }
+        fxRateRepository.save(new FxRate(baseCurrency, quoteCurrency, rate, LocalDateTime.now()));
+        return reload();
+    }
+
+    public Map<String, Object> describe() {
+        FxRateTable table = current.get();
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("loadedAt", table.loadedAt());
+        response.put("pivotCurrency", pivotCurrency);
+        response.put("quotedPairs", table.quotedPairs());
+        Map<String, Map<String, BigDecimal>> sorted = new TreeMap<>();
+        table.rates().forEach((from, row) -> sorted.put(from, new TreeMap<>(row)));
+        response.put("rates", sorted);
+        return response;
+    }
+
+    private Map<String, Map<String, BigDecimal>> readTable() {
+        Map<String, Map<String, BigDecimal>> quotes = new HashMap<>();
+        for (FxRate rate : fxRateRepository.findAll()) {
+            quotes.computeIfAbsent(rate.getBaseCurrency(), currency -> new HashMap<>())
+                    .put(rate.getQuoteCurrency(), rate.getRate());
+        }
+        return quotes;
+    }
+
+    private static Map<String, Map<String, BigDecimal>> readFile(Path path) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(path);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read FX rates from " + path, e);
+        }
+        Map<String, Map<String, BigDecimal>> quotes = new HashMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            if (fields.length != 3) {
+                throw new IllegalStateException("Invalid FX rate at " + path + ":" + (i + 1) + ", expected BASE,QUOTE,RATE");
+            }
+            quotes.computeIfAbsent(fields[0].trim(), currency -> new HashMap<>())
+                    .put(fields[1].trim(), new BigDecimal(fields[2].trim()));
+        }
+        return quotes;
+    }
+}
@@ -0,0 +1,84 @@
+package com.bankingapplication.account_service.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.bankingapplication.account_service.concurrency.TimingWheelDispatcher;
+import com.bankingapplication.account_service.repository.AuthorizationHoldRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Releases authorization holds when they expire. Like the StandingOrderScheduler, it hands the active
+ * holds expiring within the next window to a TimingWheelDispatcher, so the holds table is never
+ * polled per tick. No leader election: AuthorizationHoldService.expire re-checks the hold under the
+ * account row lock, so two instances expiring the same hold release it once. A hold placed with an
+ * expiry inside the current window is picked up on the next load.
+ */
+@Service
+public class HoldExpiryScheduler {
+
+    private final AuthorizationHoldService authorizationHoldService;
+    private final AuthorizationHoldRepository authorizationHoldRepository;
+    private final TimingWheelDispatcher<ScheduledExpiry> dispatcher;
+    private final Counter expired;
+
+    public HoldExpiryScheduler(AuthorizationHoldService authorizationHoldService,
+                               AuthorizationHoldRepository authorizationHoldRepository, MeterRegistry meterRegistry,
+                               @Value("${app.holds.expiry-enabled:true}") boolean enabled,
+                               @Value("${app.holds.tick:1s}") Duration tick,
+                               @Value("${app.holds.load-interval:30s}") Duration loadInterval,
+                               @Value("${app.holds.window:5m}") Duration window,
+                               @Value("${app.holds.page-size:500}") int pageSize,
+                               @Value("${app.holds.workers:4}") int workers) {
+        this.authorizationHoldService = authorizationHoldService;
+        this.authorizationHoldRepository = authorizationHoldRepository;
+        this.expired = Counter.builder("banking.holds.expired")
+                .description("Authorization holds released on expiry")
+                .register(meterRegistry);
+
+        if (enabled) {
+            this.dispatcher = new TimingWheelDispatcher<>("hold-expiry", tick, loadInterval, window, pageSize, workers,
+                    this::findExpiring, ScheduledExpiry::expiresAt, this::expire, () -> true);
+            Gauge.builder("banking.holds.wheel.size", dispatcher, TimingWheelDispatcher::size)
+                    .description("Authorization hold expiries loaded into the timing wheel")
+                    .register(meterRegistry);
+            this.dispatcher.start();
+        } else {
+            this.dispatcher = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    private List<ScheduledExpiry> findExpiring(LocalDateTime until, ScheduledExpiry after, int pageSize) {
+        return (after == null
+                ? authorizationHoldRepository.findExpiring(until, PageRequest.of(0, pageSize))
+                : authorizationHoldRepository.findExpiringAfter(until, after.expiresAt(), after.holdId(), PageRequest.of(0, pageSize)))
+                .stream()
+                .map(hold -> new ScheduledExpiry(hold.getHoldId(), hold.getAccountNumber(), hold.getExpiresAt()))
+                .toList();
+    }
+
+    private void expire(ScheduledExpiry expiry) {
+        if (authorizationHoldService.expire(expiry.accountNumber(), expiry.holdId())) {
+            expired.increment();
+        }
+    }
+
+    private record ScheduledExpiry(String holdId, String accountNumber, LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.bankingapplication.account_service.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bankingapplication.account_service.dto.TransactionDTO;
+import com.bankingapplication.account_service.exception.DuplicatePostingException;
+import com.bankingapplication.account_service.mapper.EntityMapper;
+import com.bankingapplication.account_service.repository.PostingIdempotencyKeyRepository;
+import com.bankingapplication.account_service.repository.TransactionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Replay protection for postings that carry a client reference number.
+ *
+ * A posting claims its key in its own DB transaction, so the primary key on
+ * posting_idempotency_keys stops a second posting on any instance. Recently committed
+ * results are kept in a bounded cache, so a retry hitting the same instance is answered
+ * without a database round trip; otherwise the original is loaded through the stored
+ * transaction id.
+ */
+@Service
+public class IdempotencyService {
+
+    private final PostingIdempotencyKeyRepository postingIdempotencyKeyRepository;
+    private final TransactionRepository transactionRepository;
+    private final EntityMapper entityMapper;
+    private final Cache<String, TransactionDTO> recentPostings;
+    private final Counter cacheReplays;
+    private final Counter databaseReplays;
+
+    public IdempotencyService(PostingIdempotencyKeyRepository postingIdempotencyKeyRepository,
+                              TransactionRepository transactionRepository, EntityMapper entityMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.idempotency.cache-size:100000}") long cacheSize,
+                              @Value("${app.idempotency.cache-ttl:24h}") Duration cacheTtl) {
+        this.postingIdempotencyKeyRepository = postingIdempotencyKeyRepository;
+        this.transactionRepository = transactionRepository;
+        this.entityMapper = entityMapper;
+        this.recentPostings = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+        this.cacheReplays = Counter.builder("banking.posting.idempotent.replays")
+                .description("Replayed postings answered with the original result")
+                .tag("source", "cache")
+                .register(meterRegistry);
+        this.databaseReplays = Counter.builder("banking.posting.idempotent.replays")
+                .description("Replayed postings answered with the original result")
+                .tag("source", "database")
+                .register(meterRegistry);
+    }
+
+    public String key(String operation, String accountNumber, String referenceNumber) {
+        if (referenceNumber == null || referenceNumber.isBlank()) {
+            return null;
+        }
+        return operation + ":" + accountNumber + ":" + referenceNumber;
+    }
+
+    public TransactionDTO findRecent(String key) {
+        TransactionDTO cached = recentPostings.getIfPresent(key);
+        if (cached != null) {
+            cacheReplays.increment();
+        }
+        return cached;
+    }
+
+    // Must run inside the posting's transaction, before it writes anything
+    public void claim(String key, String transactionId) {
+        if (key != null && postingIdempotencyKeyRepository.claim(key, transactionId, LocalDateTime.now()) == 0) {
+            throw new DuplicatePostingException(key);
+        }
+    }
+
+    public void remember(String key, TransactionDTO result) {
+        recentPostings.put(key, result);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<TransactionDTO> findOriginal(String key) {
+        Optional<TransactionDTO> original = postingIdempotencyKeyRepository.findTransactionIdByKey(key)
+                .flatMap(transactionRepository::findByTransactionId)
+                .map(entityMapper::mapToTransactionDTO);
+        original.ifPresent(dto -> {
+            databaseReplays.increment();
+            recentPostings.put(key, dto);
+        });
+        return original;
+    }
+}
@@ -0,0 +1,274 @@
+package com.bankingapplication.account_service.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bankingapplication.account_service.concurrency.ClusterJobLock;
+import com.bankingapplication.account_service.entity.Account;
+import com.bankingapplication.account_service.entity.AccountType;
+import com.bankingapplication.account_service.entity.InterestAccrualCheckpoint;
+import com.bankingapplication.account_service.entity.Transaction;
+import com.bankingapplication.account_service.entity.TransactionStatus;
+import com.bankingapplication.account_service.entity.TransactionType;
+import com.bankingapplication.account_service.repository.AccountRepository;
+import com.bankingapplication.account_service.repository.InterestAccrualCheckpointRepository;
+import com.bankingapplication.account_service.repository.TransactionRepository;
+import com.bankingapplication.account_service.util.AccountNumberGenerator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Daily interest accrual for SAVINGS accounts. The account-id range is split into partitions whose
+ * bounds are stored as checkpoint rows by the first run for a business date; partitions run in
+ * parallel, each walking its range in keyset chunks. A chunk locks its accounts in id order, posts
+ * the day's interest and advances the partition checkpoint in one transaction, so a crashed run
+ * resumes after the last committed chunk and two runs for the same date never accrue an account
+ * twice (the checkpoint row lock serializes them).
+ *
+ * Interest is balance * annual rate / days in the year, kept to 10 decimal places. Whole cents are
+ * posted as an INTEREST transaction and the remainder is carried on the account to the next day,
+ * so small balances still earn their interest instead of rounding to zero every day.
+ */
+@Service
+public class InterestAccrualService {
+
+    private static final Logger log = LoggerFactory.getLogger(InterestAccrualService.class);
+
+    static final int CARRY_SCALE = 10;
+    private static final DateTimeFormatter REFERENCE_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final InterestAccrualCheckpointRepository checkpointRepository;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final JournalService journalService;
+    private final TransactionTemplate transactionTemplate;
+    private final int partitions;
+    private final int chunkSize;
+    private final ExecutorService partitionPool;
+    private final ClusterJobLock clusterJobLock;
+    private final Counter accruedAccounts;
+    private final Timer chunkTimer;
+
+    public InterestAccrualService(AccountRepository accountRepository, TransactionRepository transactionRepository,
+                                  InterestAccrualCheckpointRepository checkpointRepository,
+                                  AccountNumberGenerator accountNumberGenerator, JournalService journalService,
+                                  PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                  @Value("${app.interest.partitions:32}") int partitions,
+                                  @Value("${app.interest.parallelism:8}") int parallelism,
+                                  @Value("${app.interest.chunk-size:500}") int chunkSize,
+                                  ClusterJobLock clusterJobLock) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.accountNumberGenerator = accountNumberGenerator;
+        this.journalService = journalService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitions = partitions;
+        this.chunkSize = chunkSize;
+        this.clusterJobLock = clusterJobLock;
+        this.partitionPool = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("interest-accrual-", 0).daemon().factory());
+
+        this.accruedAccounts = Counter.builder("banking.interest.accounts")
+                .description("SAVINGS accounts processed by interest accrual")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("banking.interest.chunk")
+                .description("Time to accrue and commit one chunk of accounts")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partitionPool.shutdownNow();
+    }
+
+    // Accrues the business day that just ended; "-" as the cron turns the nightly run off
+    @Scheduled(cron = "${app.interest.nightly-cron:0 30 0 * * *}")
+    public void accrueNightly() {
+        clusterJobLock.runExclusively("interest-accrual", () -> accrue(LocalDate.now().minusDays(1)));
+    }
+
+    // Runs (or resumes) the accrual for one business date and returns the totals recorded for it
+    public Map<String, Object> accrue(LocalDate businessDate) {
+        long started = System.nanoTime();
+        List<InterestAccrualCheckpoint> checkpoints = preparePartitions(businessDate);
+
+        AtomicLong processedNow = new AtomicLong();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (InterestAccrualCheckpoint checkpoint : checkpoints) {
+            if (!checkpoint.isCompleted()) {
+                tasks.add(() -> {
+                    runPartition(businessDate, checkpoint.getPartitionNo(), processedNow);
+                    return null;
+                });
+            }
+        }
+        log.info("Interest accrual for {}: {} of {} partitions to run", businessDate, tasks.size(), checkpoints.size());
+
+        try {
+            for (Future<Void> future : partitionPool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interest accrual for " + businessDate + " was interrupted", e);
+        } catch (ExecutionException e) {
+            // Committed chunks stay committed; the next run resumes from the checkpoints
+            throw new IllegalStateException("Interest accrual for " + businessDate + " failed, rerun to resume", e.getCause());
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        double accountsPerSecond = processedNow.get() / Math.max(elapsed.toMillis() / 1000.0, 0.001);
+        log.info("Interest accrual for {} processed {} accounts in {} ({} accounts/s)", businessDate,
+                processedNow.get(), elapsed, Math.round(accountsPerSecond));
+
+        List<InterestAccrualCheckpoint> finished = checkpointRepository.findByBusinessDateOrderByPartitionNo(businessDate);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("businessDate", businessDate);
+        summary.put("partitions", finished.size());
+        summary.put("completed", finished.stream().allMatch(InterestAccrualCheckpoint::isCompleted));
+        summary.put("accountsProcessed", finished.stream().mapToLong(InterestAccrualCheckpoint::getAccountsProcessed).sum());
+        summary.put("interestPosted", finished.stream().map(InterestAccrualCheckpoint::getInterestPosted)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+        summary.put("accountsProcessedThisRun", processedNow.get());
+        summary.put("elapsedMillis", elapsed.toMillis());
+        summary.put("accountsPerSecond", Math.round(accountsPerSecond));
+        return summary;
+    }
+
+    // Interest for one day to CARRY_SCALE places, including what was carried from earlier days
+    static BigDecimal accruedInterest(BigDecimal balance, BigDecimal annualRate, BigDecimal carry, int daysInYear) {
+        BigDecimal daily = balance.multiply(annualRate).divide(BigDecimal.valueOf(daysInYear), CARRY_SCALE, RoundingMode.HALF_EVEN);
+        return carry != null ? daily.add(carry) : daily;
+    }
+
+    private List<InterestAccrualCheckpoint> preparePartitions(LocalDate businessDate) {
+        return transactionTemplate.execute(status -> {
+            // Bounds are cut once per date. Recutting them on a resume, after accounts were added, would
+            // leave ids between the old and the new bounds unaccrued
+            checkpointRepository.lockBusinessDate(businessDate);
+            List<InterestAccrualCheckpoint> existing = checkpointRepository.findByBusinessDateOrderByPartitionNo(businessDate);
+            if (!existing.isEmpty()) {
+                return existing;
+            }
+
+            Long minId = accountRepository.findMinIdByAccountType(AccountType.SAVINGS);
+            Long maxId = accountRepository.findMaxIdByAccountType(AccountType.SAVINGS);
+            if (minId != null) {
+                long span = maxId - minId + 1;
+                long size = (span + partitions - 1) / partitions;
+                for (int i = 0; i < partitions && minId + i * size <= maxId; i++) {
+                    long lower = minId + i * size;
+                    checkpointRepository.createPartition(businessDate, i, lower - 1, Math.min(maxId, lower + size - 1));
+                }
+            }
+            return checkpointRepository.findByBusinessDateOrderByPartitionNo(businessDate);
+        });
+    }
+
+    private void runPartition(LocalDate businessDate, int partitionNo, AtomicLong processed) {
+        boolean done = false;
+        while (!done) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("Interest accrual partition " + partitionNo + " interrupted");
+            }
+            int[] chunk = chunkTimer.record(() -> transactionTemplate.execute(status -> accrueChunk(businessDate, partitionNo)));
+            processed.addAndGet(chunk[0]);
+            accruedAccounts.increment(chunk[0]);
+            done = chunk[1] == 1;
+        }
+    }
+
+    // Returns {accounts processed, 1 if the partition is finished}
+    private int[] accrueChunk(LocalDate businessDate, int partitionNo) {
+        InterestAccrualCheckpoint checkpoint = checkpointRepository.findForUpdate(businessDate, partitionNo)
+                .orElseThrow(() -> new IllegalStateException("Missing interest checkpoint " + businessDate + "/" + partitionNo));
+        if (checkpoint.isCompleted()) {
+            return new int[] {0, 1};
+        }
+
+        List<Account> accounts = accountRepository.findChunkForUpdate(AccountType.SAVINGS, checkpoint.getLastAccountId(),
+                checkpoint.getEndAccountId(), PageRequest.of(0, chunkSize));
+        int daysInYear = businessDate.lengthOfYear();
+        String reference = "INT-" + businessDate.format(REFERENCE_DATE);
+        List<Transaction> interestPostings = new ArrayList<>();
+        // One journal entry per currency, each balanced by a single interest expense leg
+        Map<String, List<JournalService.Leg>> journalLegs = new HashMap<>();
+        BigDecimal chunkInterest = BigDecimal.ZERO;
+
+        for (Account account : accounts) {
+            if (account.getInterestRate() == null || account.getBalance().signum() <= 0) {
+                continue;
+            }
+            BigDecimal accrued = accruedInterest(account.getBalance(), BigDecimal.valueOf(account.getInterestRate()),
+                    account.getInterestCarry(), daysInYear);
+            BigDecimal posted = accrued.setScale(2, RoundingMode.DOWN);
+            account.setInterestCarry(accrued.subtract(posted));
+            if (posted.signum() == 0) {
+                continue;
+            }
+
+            BigDecimal newBalance = account.getBalance().add(posted);
+            account.setBalance(newBalance);
+
+            Transaction transaction = new Transaction();
+            transaction.setTransactionId(accountNumberGenerator.generateTransactionId());
+            transaction.setAccount(account);
+            transaction.setAmount(posted);
+            transaction.setTransactionType(TransactionType.INTEREST);
+            transaction.setStatus(TransactionStatus.COMPLETED);
+            transaction.setDescription("Interest for " + businessDate);
+            transaction.setReferenceNumber(reference);
+            transaction.setBalanceAfterTransaction(newBalance);
+            interestPostings.add(transaction);
+            journalLegs.computeIfAbsent(account.getCurrency(), currency -> new ArrayList<>())
+                    .add(new JournalService.Leg(account.getId(), posted, newBalance, transaction.getTransactionId()));
+            chunkInterest = chunkInterest.add(posted);
+        }
+
+        // Accounts are dirty-checked on commit; the statement rows go out as JDBC batches
+        transactionRepository.saveAll(interestPostings);
+        journalLegs.forEach((currency, legs) -> {
+            BigDecimal expense = legs.stream().map(JournalService.Leg::amount).reduce(BigDecimal.ZERO, BigDecimal::add);
+            legs.add(JournalService.clearingLeg(JournalService.INTEREST_EXPENSE_ACCOUNT_ID, expense.negate()));
+            journalService.post(TransactionType.INTEREST, reference, "Interest for " + businessDate + " (" + currency + ")", legs);
+        });
+
+        boolean finished = accounts.size() < chunkSize;
+        checkpoint.setLastAccountId(finished ? checkpoint.getEndAccountId() : accounts.get(accounts.size() - 1).getId());
+        checkpoint.setAccountsProcessed(checkpoint.getAccountsProcessed() + accounts.size());
+        checkpoint.setInterestPosted(checkpoint.getInterestPosted().add(chunkInterest));
+        checkpoint.setCompleted(finished);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        return new int[] {accounts.size(), finished ? 1 : 0};
+    }
+}
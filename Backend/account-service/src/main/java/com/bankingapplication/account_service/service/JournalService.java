@@ -0,0 +1,115 @@
+package com.bankingapplication.account_service.service;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.bankingapplication.account_service.dto.JournalPostingDTO;
+import com.bankingapplication.account_service.entity.TransactionType;
+import com.bankingapplication.account_service.repository.JournalPostingRepository;
+
+/**
+ * Append-only double-entry journal. Each entry and all of its legs are written by one
+ * statement (a data-modifying CTE with a multi-row VALUES list), inside the caller's
+ * posting transaction; an entry whose legs do not sum to zero is refused. A cross-currency leg
+ * carries its amount in the account's currency plus a booking amount in the entry's currency (the
+ * source account's), and it is the booking amounts that must balance.
+ *
+ * Money entering or leaving the ledger (deposits, withdrawals, interest, card settlements) is
+ * balanced against a clearing account. Clearing accounts are not rows in accounts: they have fixed
+ * negative ids, no statement rows and no running balance_after (that would serialize every posting
+ * on one row); their balance is the sum of their legs, in the currency of each entry's customer leg.
+ */
+@Service
+public class JournalService {
+
+    // Kept in step with db/posting/post_single_entry.sql
+    public static final long CASH_CLEARING_ACCOUNT_ID = -1L;
+    public static final long INTEREST_EXPENSE_ACCOUNT_ID = -2L;
+    public static final long CARD_SETTLEMENT_ACCOUNT_ID = -3L;
+
+    private static final String ENTRY_SQL = "WITH entry AS ("
+            + "INSERT INTO journal_entries (id, entry_type, reference_number, description, posted_at) "
+            + "VALUES (nextval('journal_entries_seq'), ?, ?, ?, ?) RETURNING id), "
+            + "legs AS (INSERT INTO journal_postings (entry_id, leg, account_id, amount, balance_after, transaction_id, "
+            + "booking_amount, posted_at) "
+            + "SELECT entry.id, l.leg, l.account_id, l.amount, l.balance_after, l.transaction_id, l.booking_amount, ? "
+            + "FROM entry, (VALUES %s) AS l (leg, account_id, amount, balance_after, transaction_id, booking_amount)) "
+            + "SELECT id FROM entry";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JournalPostingRepository journalPostingRepository;
+
+    public JournalService(JdbcTemplate jdbcTemplate, JournalPostingRepository journalPostingRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.journalPostingRepository = journalPostingRepository;
+    }
+
+    // Must run inside the posting's transaction, after the accounts are locked
+    public long post(TransactionType entryType, String referenceNumber, String description, List<Leg> legs) {
+        if (legs.size() < 2) {
+            throw new IllegalArgumentException("A journal entry needs at least two legs");
+        }
+        BigDecimal net = legs.stream().map(Leg::bookedAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (net.signum() != 0) {
+            throw new IllegalStateException("Unbalanced journal entry " + referenceNumber + ", legs sum to " + net);
+        }
+
+        Timestamp postedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object> args = new ArrayList<>(5 + legs.size() * 6);
+        args.add(entryType.name());
+        args.add(referenceNumber);
+        args.add(description);
+        args.add(postedAt);
+        args.add(postedAt);
+
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < legs.size(); i++) {
+            Leg leg = legs.get(i);
+            // Typed, so a null balance (clearing legs) or booking amount is not taken for text
+            values.append(i == 0 ? "" : ", ").append("(?, ?, ?, CAST(? AS NUMERIC), ?, CAST(? AS NUMERIC))");
+            args.add(i + 1);
+            args.add(leg.accountId());
+            args.add(leg.amount());
+            args.add(leg.balanceAfter());
+            args.add(leg.transactionId());
+            args.add(leg.bookingAmount());
+        }
+
+        return jdbcTemplate.queryForObject(String.format(ENTRY_SQL, values), Long.class, args.toArray());
+    }
+
+    // One customer leg balanced by a clearing leg: the usual shape of a deposit or withdrawal
+    public long postExternal(TransactionType entryType, String referenceNumber, String description, long clearingAccountId,
+                             Leg customerLeg) {
+        return post(entryType, referenceNumber, description,
+                List.of(customerLeg, clearingLeg(clearingAccountId, customerLeg.amount().negate())));
+    }
+
+    public static Leg clearingLeg(long clearingAccountId, BigDecimal amount) {
+        return new Leg(clearingAccountId, amount, null, null);
+    }
+
+    public List<JournalPostingDTO> getPostings(Long accountId, LocalDateTime startDate, LocalDateTime endDate) {
+        return journalPostingRepository.findPostings(accountId, startDate, endDate);
+    }
+
+    // Signed amount: negative debits the account, positive credits it. bookingAmount is the same
+    // amount in the entry's currency, set only when that differs from the account's
+    public record Leg(Long accountId, BigDecimal amount, BigDecimal balanceAfter, String transactionId,
+                      BigDecimal bookingAmount) {
+
+        public Leg(Long accountId, BigDecimal amount, BigDecimal balanceAfter, String transactionId) {
+            this(accountId, amount, balanceAfter, transactionId, null);
+        }
+
+        BigDecimal bookedAmount() {
+            return bookingAmount != null ? bookingAmount : amount;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.bankingapplication.account_service.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bankingapplication.account_service.concurrency.GroupCommitExecutor;
+import com.bankingapplication.account_service.entity.TransactionType;
+import com.bankingapplication.account_service.repository.TransactionRepository;
+import com.bankingapplication.account_service.repository.TransactionRepository.RetryCandidate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Finishes PENDING and FAILED postings left behind by the async mode: rows still queued when an
+ * instance stopped, and postings that failed for a non-business reason. Each poll claims a small
+ * batch with FOR UPDATE SKIP LOCKED and, in the same short transaction, pushes every claimed row's
+ * next_attempt_at out by an exponential backoff. Once that commits the rows are invisible to other
+ * instances until the backoff expires, so several instances share the work without processing a row
+ * twice; a row that fails again simply becomes due later. Rows that reach max-attempts stay FAILED.
+ */
+@Service
+public class PostingRetryWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(PostingRetryWorker.class);
+
+    private final TransactionService transactionService;
+    private final TransactionRepository transactionRepository;
+    private final TransactionTemplate claimTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final double baseBackoffSeconds;
+    private final double maxBackoffSeconds;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter completed;
+    private final Counter rejected;
+    private final Counter failed;
+
+    public PostingRetryWorker(TransactionService transactionService, TransactionRepository transactionRepository,
+                              PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                              @Value("${app.posting.retry.enabled:true}") boolean enabled,
+                              @Value("${app.posting.retry.batch-size:20}") int batchSize,
+                              @Value("${app.posting.retry.poll-interval:1s}") Duration pollInterval,
+                              @Value("${app.posting.retry.max-attempts:8}") int maxAttempts,
+                              @Value("${app.posting.retry.base-backoff:5s}") Duration baseBackoff,
+                              @Value("${app.posting.retry.max-backoff:15m}") Duration maxBackoff) {
+        this.transactionService = transactionService;
+        this.transactionRepository = transactionRepository;
+        this.claimTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffSeconds = baseBackoff.toMillis() / 1000.0;
+        this.maxBackoffSeconds = maxBackoff.toMillis() / 1000.0;
+
+        Gauge.builder("banking.posting.retry.lag", lagMillis, AtomicLong::get)
+                .description("How long the oldest due PENDING/FAILED posting has been waiting")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.completed = outcomeCounter(meterRegistry, "completed");
+        this.rejected = outcomeCounter(meterRegistry, "rejected");
+        this.failed = outcomeCounter(meterRegistry, "failed");
+
+        if (enabled) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("posting-retry").daemon().factory());
+            this.scheduler.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+            log.info("Posting retry worker enabled: batch size {}, max attempts {}, backoff {} to {}",
+                    batchSize, maxAttempts, baseBackoff, maxBackoff);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // Keeps claiming while batches come back full, so a backlog drains without waiting a poll interval
+    private void poll() {
+        try {
+            updateLag();
+            int claimed;
+            do {
+                List<RetryCandidate> candidates = claim();
+                claimed = candidates.size();
+                candidates.forEach(this::retry);
+            } while (claimed == batchSize && !Thread.currentThread().isInterrupted());
+        } catch (RuntimeException e) {
+            // Never let an exception cancel the scheduled task
+            log.error("Posting retry poll failed", e);
+        }
+    }
+
+    private List<RetryCandidate> claim() {
+        return claimTemplate.execute(status -> {
+            List<RetryCandidate> candidates = transactionRepository.findRetryCandidates(maxAttempts, batchSize);
+            if (!candidates.isEmpty()) {
+                transactionRepository.leaseRetryCandidates(candidates.stream().map(RetryCandidate::getId).toList(),
+                        baseBackoffSeconds, maxBackoffSeconds);
+            }
+            return candidates;
+        });
+    }
+
+    private void retry(RetryCandidate candidate) {
+        TransactionType type = TransactionType.valueOf(candidate.getTransactionType());
+        String destination = candidate.getDestinationAccountNumber();
+        // Let TransactionService pick the per-side defaults rather than copying the source row's to both rows
+        String description = candidate.getDescription();
+        if (type == TransactionType.TRANSFER && ("Transfer to " + destination).equals(description)) {
+            description = null;
+        }
+
+        try {
+            transactionService.completePending(new AsyncPostingService.QueuedPosting(candidate.getTransactionId(), type,
+                    candidate.getAccountNumber(), destination, candidate.getAmount(), description,
+                    candidate.getReferenceNumber()));
+            completed.increment();
+        } catch (RuntimeException e) {
+            if (GroupCommitExecutor.isBusinessRejection(e)) {
+                rejected.increment();
+                log.info("Retried posting {} rejected: {}", candidate.getTransactionId(), e.getMessage());
+            } else {
+                failed.increment();
+                if (candidate.getRetryAttempts() + 1 >= maxAttempts) {
+                    log.error("Posting {} failed after {} retries, giving up", candidate.getTransactionId(), maxAttempts, e);
+                } else {
+                    log.warn("Retry {} of posting {} failed: {}", candidate.getRetryAttempts() + 1,
+                            candidate.getTransactionId(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void updateLag() {
+        LocalDateTime oldestDue = transactionRepository.findOldestRetryDue(maxAttempts);
+        long lag = oldestDue == null ? 0 : Duration.between(oldestDue, LocalDateTime.now()).toMillis();
+        lagMillis.set(Math.max(lag, 0));
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("banking.posting.retry.processed")
+                .description("PENDING/FAILED postings processed by the retry worker")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
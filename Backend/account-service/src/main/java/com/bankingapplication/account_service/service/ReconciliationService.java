@@ -0,0 +1,428 @@
+package com.bankingapplication.account_service.service;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bankingapplication.account_service.entity.ReconciliationDiscrepancy;
+import com.bankingapplication.account_service.entity.ReconciliationDiscrepancyType;
+import com.bankingapplication.account_service.entity.ReconciliationMode;
+import com.bankingapplication.account_service.entity.ReconciliationRun;
+import com.bankingapplication.account_service.entity.ReconciliationStatus;
+import com.bankingapplication.account_service.entity.TransactionType;
+import com.bankingapplication.account_service.exception.InvalidOperationException;
+import com.bankingapplication.account_service.exception.ResourceNotFoundException;
+import com.bankingapplication.account_service.repository.AccountRepository;
+import com.bankingapplication.account_service.repository.ReconciliationDiscrepancyRepository;
+import com.bankingapplication.account_service.repository.ReconciliationRunRepository;
+import com.bankingapplication.account_service.util.PaginationUtil;
+import com.bankingapplication.account_service.util.SnowflakeIdGenerator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Ledger reconciliation. The account-id range is cut into keyset chunks that run in parallel on a
+ * fork-join pool; each chunk reads one consistent (REPEATABLE READ) snapshot and streams its
+ * accounts with their completed postings in (transaction_date, id) order through a JDBC cursor, so
+ * memory stays bounded by the chunk's findings whatever the row count. Per account it checks:
+ * <ul>
+ *   <li>the balance equals the signed sum of its postings (BALANCE_DRIFT);</li>
+ *   <li>each balanceAfterTransaction follows from the previous one (BROKEN_BALANCE_CHAIN);</li>
+ *   <li>each statement row has its journal leg (MISSING_JOURNAL_LEG): transfers always, other postings
+ *       from the account's first journal leg on, since they were single-entry before that;</li>
+ *   <li>each journal entry nets to zero (UNBALANCED_TRANSFER) with a statement row per customer leg
+ *       (MISSING_TRANSFER_LEG); clearing account legs have no statement row.</li>
+ * </ul>
+ * An INCREMENTAL run covers only accounts updated or posted to since the last completed run started,
+ * less a small overlap for postings that committed late. Findings are written to
+ * reconciliation_discrepancies, capped per chunk; the run row keeps the full count.
+ */
+@Service
+public class ReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReconciliationService.class);
+
+    private static final String COMPLETED = "(%1$s.transaction_status IS NULL OR %1$s.transaction_status = 'COMPLETED')";
+
+    private static final String TOUCHED_SINCE = " AND (a.updated_at >= ? OR EXISTS (SELECT 1 FROM transactions r "
+            + "WHERE r.account_id = a.id AND r.transaction_date >= ?))";
+
+    private static final String CHAIN_SQL = "SELECT a.id, a.account_number, a.balance, t.transaction_id, "
+            + "t.transaction_type, t.amount, t.balance_after_transaction "
+            + "FROM accounts a LEFT JOIN transactions t ON t.account_id = a.id AND " + COMPLETED.formatted("t") + " "
+            + "WHERE a.id > ? AND a.id <= ?%s "
+            + "ORDER BY a.id, t.transaction_date, t.id";
+
+    // Statement rows without their journal leg: transfer rows (both legs carry the source account) always,
+    // any other row once the account has journal legs at all
+    private static final String MISSING_JOURNAL_SQL = "SELECT a.id, a.account_number, t.transaction_id, t.amount "
+            + "FROM accounts a JOIN transactions t ON t.account_id = a.id AND " + COMPLETED.formatted("t") + " "
+            + "AND ((t.source_account_number IS NOT NULL AND t.transaction_type IN ('TRANSFER', 'DEPOSIT')) "
+            + "OR t.transaction_date >= (SELECT MIN(first.posted_at) FROM journal_postings first WHERE first.account_id = a.id)) "
+            + "LEFT JOIN journal_postings jp ON jp.account_id = t.account_id AND jp.transaction_id = t.transaction_id "
+            + "WHERE a.id > ? AND a.id <= ?%s AND jp.entry_id IS NULL";
+
+    // Journal entries whose first leg is in the chunk and that do not net to zero or lack a statement row
+    // for a customer leg. The first leg is always a customer account: the source of a transfer, the
+    // account of an external posting
+    private static final String UNBALANCED_SQL = "SELECT a.id, a.account_number, src.transaction_id, "
+            + "SUM(COALESCE(leg.booking_amount, leg.amount)) AS net, COUNT(leg.leg) AS legs, "
+            + "COUNT(leg.leg) FILTER (WHERE leg.account_id > 0) AS customer_legs, COUNT(lt.id) AS statement_rows "
+            + "FROM accounts a JOIN journal_postings src ON src.account_id = a.id AND src.leg = 1 "
+            + "JOIN journal_postings leg ON leg.entry_id = src.entry_id "
+            + "LEFT JOIN transactions lt ON lt.transaction_id = leg.transaction_id AND lt.account_id = leg.account_id AND "
+            + COMPLETED.formatted("lt") + " "
+            + "WHERE a.id > ? AND a.id <= ?%s "
+            + "GROUP BY a.id, a.account_number, src.entry_id, src.transaction_id "
+            + "HAVING SUM(COALESCE(leg.booking_amount, leg.amount)) <> 0 OR COUNT(leg.leg) < 2 "
+            + "OR COUNT(lt.id) < COUNT(leg.leg) FILTER (WHERE leg.account_id > 0)";
+
+    private final AccountRepository accountRepository;
+    private final ReconciliationRunRepository runRepository;
+    private final ReconciliationDiscrepancyRepository discrepancyRepository;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate snapshotTemplate;
+    private final TransactionTemplate writeTemplate;
+    private final int chunkSize;
+    private final int maxFindingsPerChunk;
+    private final Duration incrementalOverlap;
+    private final ForkJoinPool chunkPool;
+    private final ExecutorService coordinator;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Counter discrepancies;
+    private final Timer chunkTimer;
+
+    public ReconciliationService(AccountRepository accountRepository, ReconciliationRunRepository runRepository,
+                                 ReconciliationDiscrepancyRepository discrepancyRepository,
+                                 SnowflakeIdGenerator snowflakeIdGenerator, DataSource dataSource,
+                                 PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                 @Value("${app.reconciliation.parallelism:4}") int parallelism,
+                                 @Value("${app.reconciliation.chunk-size:1000}") int chunkSize,
+                                 @Value("${app.reconciliation.fetch-size:1000}") int fetchSize,
+                                 @Value("${app.reconciliation.max-findings-per-chunk:1000}") int maxFindingsPerChunk,
+                                 @Value("${app.reconciliation.incremental-overlap:5m}") Duration incrementalOverlap) {
+        this.accountRepository = accountRepository;
+        this.runRepository = runRepository;
+        this.discrepancyRepository = discrepancyRepository;
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+        this.chunkSize = chunkSize;
+        this.maxFindingsPerChunk = maxFindingsPerChunk;
+        this.incrementalOverlap = incrementalOverlap;
+
+        // PostgreSQL only streams with a fetch size inside a transaction; otherwise it buffers the whole result
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTemplate.setReadOnly(true);
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+
+        this.chunkPool = new ForkJoinPool(parallelism);
+        this.coordinator = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("reconciliation").daemon().factory());
+        this.discrepancies = Counter.builder("banking.reconciliation.discrepancies")
+                .description("Ledger discrepancies found by reconciliation runs")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("banking.reconciliation.chunk")
+                .description("Time to reconcile one chunk of accounts")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        chunkPool.shutdownNow();
+    }
+
+    // Records the run and starts it in the background; poll getRun for the outcome
+    public Map<String, Object> start(ReconciliationMode mode) {
+        if (!running.compareAndSet(false, true)) {
+            throw new InvalidOperationException("A reconciliation run is already in progress");
+        }
+        try {
+            ReconciliationRun run = new ReconciliationRun();
+            run.setId(snowflakeIdGenerator.nextId());
+            run.setMode(mode);
+            run.setStatus(ReconciliationStatus.RUNNING);
+            run.setStartedAt(LocalDateTime.now());
+            if (mode == ReconciliationMode.INCREMENTAL) {
+                ReconciliationRun previous = runRepository.findTopByStatusOrderByStartedAtDesc(ReconciliationStatus.COMPLETED)
+                        .orElse(null);
+                if (previous != null) {
+                    run.setCoveredSince(previous.getStartedAt().minus(incrementalOverlap));
+                } else {
+                    // Nothing to be incremental against yet
+                    run.setMode(ReconciliationMode.FULL);
+                }
+            }
+            ReconciliationRun saved = runRepository.save(run);
+            coordinator.execute(() -> {
+                try {
+                    execute(saved);
+                } finally {
+                    running.set(false);
+                }
+            });
+            return summary(saved);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    public Map<String, Object> getRun(Long runId) {
+        return summary(findRun(runId));
+    }
+
+    public Map<String, Object> getDiscrepancies(Long runId, int page, int size) {
+        findRun(runId);
+        return PaginationUtil.createPageResponse(discrepancyRepository.findByRunId(runId, PageRequest.of(page, size)));
+    }
+
+    // Debits are TRANSFER (the source leg), WITHDRAWAL, PAYMENT and FEE; everything else credits the account
+    static BigDecimal signedAmount(TransactionType type, BigDecimal amount) {
+        return switch (type) {
+            case WITHDRAWAL, TRANSFER, PAYMENT, FEE -> amount.negate();
+            case DEPOSIT, REFUND, INTEREST -> amount;
+        };
+    }
+
+    private void execute(ReconciliationRun run) {
+        long started = System.nanoTime();
+        LongAdder accounts = new LongAdder();
+        LongAdder postings = new LongAdder();
+        LongAdder found = new LongAdder();
+        try {
+            List<Long> bounds = new ArrayList<>(accountRepository.findChunkBoundaries(chunkSize));
+            Long maxId = accountRepository.findMaxId();
+            if (maxId != null && (bounds.isEmpty() || bounds.get(bounds.size() - 1) < maxId)) {
+                bounds.add(maxId);
+            }
+
+            List<Callable<Void>> tasks = new ArrayList<>(bounds.size());
+            long afterId = 0;
+            for (Long lastId : bounds) {
+                long from = afterId;
+                tasks.add(() -> {
+                    ChunkResult result = chunkTimer.record(() -> reconcileChunk(run, from, lastId));
+                    accounts.add(result.accounts());
+                    postings.add(result.postings());
+                    found.add(result.discrepancies());
+                    return null;
+                });
+                afterId = lastId;
+            }
+            log.info("Reconciliation run {} ({}) over {} chunks", run.getId(), run.getMode(), tasks.size());
+            for (Future<Void> future : chunkPool.invokeAll(tasks)) {
+                future.get();
+            }
+            run.setStatus(ReconciliationStatus.COMPLETED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(run, e);
+        } catch (ExecutionException e) {
+            fail(run, e.getCause());
+        } catch (RuntimeException e) {
+            fail(run, e);
+        }
+
+        run.setAccountsChecked(accounts.sum());
+        run.setPostingsChecked(postings.sum());
+        run.setDiscrepancyCount(found.sum());
+        run.setFinishedAt(LocalDateTime.now());
+        runRepository.save(run);
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        log.info("Reconciliation run {} {}: {} accounts, {} postings, {} discrepancies in {}", run.getId(),
+                run.getStatus(), run.getAccountsChecked(), run.getPostingsChecked(), run.getDiscrepancyCount(), elapsed);
+    }
+
+    private void fail(ReconciliationRun run, Throwable cause) {
+        log.error("Reconciliation run {} failed", run.getId(), cause);
+        run.setStatus(ReconciliationStatus.FAILED);
+        run.setFailureReason(cause.getMessage());
+    }
+
+    private ChunkResult reconcileChunk(ReconciliationRun run, long afterId, long lastId) {
+        LedgerWalker walker = new LedgerWalker(maxFindingsPerChunk);
+        boolean incremental = run.getCoveredSince() != null;
+        String filter = incremental ? TOUCHED_SINCE : "";
+        Object[] args = incremental
+                ? new Object[] {afterId, lastId, Timestamp.valueOf(run.getCoveredSince()), Timestamp.valueOf(run.getCoveredSince())}
+                : new Object[] {afterId, lastId};
+
+        snapshotTemplate.executeWithoutResult(status -> {
+            streamingJdbcTemplate.query(CHAIN_SQL.formatted(filter), (RowCallbackHandler) rs -> walker.posting(rs.getLong(1),
+                    rs.getString(2), rs.getBigDecimal(3), rs.getString(4), rs.getString(5), rs.getBigDecimal(6),
+                    rs.getBigDecimal(7)), args);
+            walker.finishAccount();
+
+            streamingJdbcTemplate.query(MISSING_JOURNAL_SQL.formatted(filter), (RowCallbackHandler) rs -> walker.report(
+                    new ReconciliationDiscrepancy(rs.getLong(1), rs.getString(2), ReconciliationDiscrepancyType.MISSING_JOURNAL_LEG,
+                            rs.getString(3), rs.getBigDecimal(4), null, "Posting has no journal leg")), args);
+
+            streamingJdbcTemplate.query(UNBALANCED_SQL.formatted(filter), (RowCallbackHandler) rs -> walker.report(unbalanced(rs)), args);
+        });
+
+        if (!walker.findings().isEmpty()) {
+            walker.findings().forEach(finding -> finding.setRunId(run.getId()));
+            writeTemplate.executeWithoutResult(status -> discrepancyRepository.saveAll(walker.findings()));
+        }
+        discrepancies.increment(walker.found());
+        return new ChunkResult(walker.accounts(), walker.postings(), walker.found());
+    }
+
+    private static ReconciliationDiscrepancy unbalanced(ResultSet rs) throws SQLException {
+        BigDecimal net = rs.getBigDecimal(4);
+        long legs = rs.getLong(5);
+        long customerLegs = rs.getLong(6);
+        long statementRows = rs.getLong(7);
+        if (statementRows < customerLegs) {
+            return new ReconciliationDiscrepancy(rs.getLong(1), rs.getString(2), ReconciliationDiscrepancyType.MISSING_TRANSFER_LEG,
+                    rs.getString(3), BigDecimal.valueOf(customerLegs), BigDecimal.valueOf(statementRows),
+                    "Journal entry legs without a completed statement row");
+        }
+        return new ReconciliationDiscrepancy(rs.getLong(1), rs.getString(2), ReconciliationDiscrepancyType.UNBALANCED_TRANSFER,
+                rs.getString(3), BigDecimal.ZERO, net, legs < 2 ? "Journal entry has a single leg" : "Journal entry legs do not net to zero");
+    }
+
+    private ReconciliationRun findRun(Long runId) {
+        return runRepository.findById(runId)
+                .orElseThrow(() -> new ResourceNotFoundException("Reconciliation run", "id", runId));
+    }
+
+    private static Map<String, Object> summary(ReconciliationRun run) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("runId", run.getId());
+        summary.put("mode", run.getMode());
+        summary.put("status", run.getStatus());
+        summary.put("coveredSince", run.getCoveredSince());
+        summary.put("startedAt", run.getStartedAt());
+        summary.put("finishedAt", run.getFinishedAt());
+        summary.put("accountsChecked", run.getAccountsChecked());
+        summary.put("postingsChecked", run.getPostingsChecked());
+        summary.put("discrepancies", run.getDiscrepancyCount());
+        summary.put("failureReason", run.getFailureReason());
+        return summary;
+    }
+
+    private record ChunkResult(long accounts, long postings, long discrepancies) {
+    }
+
+    // Walks rows ordered by account, then posting; keeps only the current account's running state
+    static final class LedgerWalker {
+
+        private final int maxFindings;
+        private final List<ReconciliationDiscrepancy> findings = new ArrayList<>();
+        private long found;
+        private long accounts;
+        private long postings;
+
+        private Long accountId;
+        private String accountNumber;
+        private BigDecimal balance;
+        private BigDecimal postedSum;
+        private BigDecimal chainBalance;
+
+        LedgerWalker(int maxFindings) {
+            this.maxFindings = maxFindings;
+        }
+
+        // transactionId is null for an account without postings
+        void posting(long accountId, String accountNumber, BigDecimal balance, String transactionId,
+                     String transactionType, BigDecimal amount, BigDecimal balanceAfter) {
+            if (this.accountId == null || this.accountId != accountId) {
+                finishAccount();
+                this.accountId = accountId;
+                this.accountNumber = accountNumber;
+                this.balance = balance;
+                this.postedSum = BigDecimal.ZERO;
+                this.chainBalance = BigDecimal.ZERO;
+                accounts++;
+            }
+            if (transactionId == null) {
+                return;
+            }
+            postings++;
+            BigDecimal signed = signedAmount(TransactionType.valueOf(transactionType), amount);
+            postedSum = postedSum.add(signed);
+            BigDecimal expected = chainBalance.add(signed);
+            if (balanceAfter == null) {
+                report(new ReconciliationDiscrepancy(accountId, accountNumber, ReconciliationDiscrepancyType.BROKEN_BALANCE_CHAIN,
+                        transactionId, expected, null, "Posting has no balance after transaction"));
+                chainBalance = expected;
+            } else {
+                if (balanceAfter.compareTo(expected) != 0) {
+                    report(new ReconciliationDiscrepancy(accountId, accountNumber, ReconciliationDiscrepancyType.BROKEN_BALANCE_CHAIN,
+                            transactionId, expected, balanceAfter, "Balance after does not follow from the previous posting"));
+                }
+                // Resynchronise so one bad row is reported once, not for every later posting
+                chainBalance = balanceAfter;
+            }
+        }
+
+        void finishAccount() {
+            if (accountId != null && postedSum.compareTo(balance) != 0) {
+                report(new ReconciliationDiscrepancy(accountId, accountNumber, ReconciliationDiscrepancyType.BALANCE_DRIFT,
+                        null, postedSum, balance, "Account balance differs from the sum of its postings"));
+            }
+            accountId = null;
+        }
+
+        void report(ReconciliationDiscrepancy discrepancy) {
+            found++;
+            if (findings.size() < maxFindings) {
+                findings.add(discrepancy);
+            }
+        }
+
+        List<ReconciliationDiscrepancy> findings() {
+            return findings;
+        }
+
+        long found() {
+            return found;
+        }
+
+        long accounts() {
+            return accounts;
+        }
+
+        long postings() {
+            return postings;
+        }
+    }
+}
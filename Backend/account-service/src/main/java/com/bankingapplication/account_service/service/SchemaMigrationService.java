@@ -0,0 +1,140 @@
+package com.bankingapplication.account_service.service;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Applies the versioned scripts under {@code db/migration} ({@code V<version>__<description>.sql}) in
+ * version order, once each, recording them in schema_migrations. Unlike the idempotent db/init
+ * scripts these change the shape of existing tables, so they run after Hibernate's schema update
+ * (which only adds) and are never repeated. Each script is one statement in its own transaction,
+ * under an advisory lock so that instances starting together apply it once. A failed script rolls
+ * back and fails startup, so the service never runs against a schema it does not expect.
+ *
+ * They run once every singleton exists, which is before the web server starts and the application is
+ * ready, so no request or ApplicationReadyEvent job sees the schema half migrated. Off by default: the
+ * first migration rewrites transactions under an exclusive lock, so it is switched on deliberately.
+ */
+@Service
+public class SchemaMigrationService implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaMigrationService.class);
+
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long advisoryLockKey;
+
+    public SchemaMigrationService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                  @Value("${app.schema-migrations.enabled:false}") boolean enabled,
+                                  @Value("${app.schema-migrations.advisory-lock-key:720025}") long advisoryLockKey) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.advisoryLockKey = advisoryLockKey;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+        List<Migration> migrations;
+        try {
+            migrations = findMigrations();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not list schema migrations", e);
+        }
+
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS schema_migrations (version integer PRIMARY KEY, "
+                + "description varchar(255) NOT NULL, applied_at timestamp NOT NULL)");
+        for (Migration migration : migrations) {
+            try {
+                if (apply(migration)) {
+                    log.info("Applied schema migration V{} {}", migration.version(), migration.description());
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("Schema migration V" + migration.version() + " " + migration.description()
+                        + " failed and was rolled back", e);
+            }
+        }
+    }
+
+    private boolean apply(Migration migration) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + advisoryLockKey + ")");
+            Set<Integer> applied = new HashSet<>(jdbcTemplate.queryForList("SELECT version FROM schema_migrations", Integer.class));
+            if (applied.contains(migration.version())) {
+                return false;
+            }
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                // The whole file is one statement, so PL/pgSQL bodies are not split on semicolons
+                ScriptUtils.executeSqlScript(connection, new EncodedResource(migration.script()), false, false,
+                        ScriptUtils.DEFAULT_COMMENT_PREFIX, ScriptUtils.EOF_STATEMENT_SEPARATOR,
+                        ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER, ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER);
+                return null;
+            });
+            jdbcTemplate.update("INSERT INTO schema_migrations (version, description, applied_at) VALUES (?, ?, ?)",
+                    migration.version(), migration.description(), Timestamp.valueOf(LocalDateTime.now()));
+            return true;
+        }));
+    }
+
+    private static List<Migration> findMigrations() throws IOException {
+        List<Migration> migrations = new ArrayList<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*__*.sql")) {
+            Migration migration = parse(resource.getFilename(), resource);
+            if (migration == null) {
+                throw new IllegalStateException("Invalid schema migration name " + resource.getFilename());
+            }
+            migrations.add(migration);
+        }
+        migrations.sort(Comparator.comparingInt(Migration::version));
+        for (int i = 1; i < migrations.size(); i++) {
+            if (migrations.get(i).version() == migrations.get(i - 1).version()) {
+                throw new IllegalStateException("Duplicate schema migration version V" + migrations.get(i).version());
+            }
+        }
+        return migrations;
+    }
+
+    // Null when the file name does not follow V<version>__<description>.sql
+    static Migration parse(String fileName, Resource script) {
+        Matcher matcher = fileName != null ? FILE_NAME.matcher(fileName) : null;
+        if (matcher == null || !matcher.matches()) {
+            return null;
+        }
+        return new Migration(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '), script);
+    }
+
+    record Migration(int version, String description, Resource script) {
+    }
+}
@@ -0,0 +1,177 @@
+package com.bankingapplication.account_service.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.bankingapplication.account_service.concurrency.TimingWheelDispatcher;
+import com.bankingapplication.account_service.repository.StandingOrderRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Fires standing orders on time without polling the table every tick. One instance at a time is
+ * the leader, holding a session-level PostgreSQL advisory lock on a dedicated connection; if that
+ * instance dies its connection closes, the lock is released and another instance takes over on its
+ * next load. Only the leader loads the orders due within the next window into its
+ * TimingWheelDispatcher, which executes whatever comes due each tick as one parallel batch through
+ * StandingOrderService.
+ *
+ * All state is in the database, so a restart simply reloads the window; overdue occurrences fire on
+ * the first tick. Execution is idempotent per occurrence, which also covers the short overlap while
+ * leadership moves between instances.
+ */
+@Service
+public class StandingOrderScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(StandingOrderScheduler.class);
+
+    private final StandingOrderService standingOrderService;
+    private final StandingOrderRepository standingOrderRepository;
+    private final DataSource dataSource;
+    private final long advisoryLockKey;
+    private final TimingWheelDispatcher<ScheduledRun> dispatcher;
+    private final Counter executed;
+    private final Counter failed;
+
+    // Owned by the dispatcher's ticker thread
+    private Connection leaderConnection;
+
+    public StandingOrderScheduler(StandingOrderService standingOrderService, StandingOrderRepository standingOrderRepository,
+                                  DataSource dataSource, MeterRegistry meterRegistry,
+                                  @Value("${app.standing-orders.enabled:true}") boolean enabled,
+                                  @Value("${app.standing-orders.tick:1s}") Duration tick,
+                                  @Value("${app.standing-orders.load-interval:30s}") Duration loadInterval,
+                                  @Value("${app.standing-orders.window:5m}") Duration window,
+                                  @Value("${app.standing-orders.page-size:500}") int pageSize,
+                                  @Value("${app.standing-orders.workers:8}") int workers,
+                                  @Value("${app.standing-orders.advisory-lock-key:720016}") long advisoryLockKey) {
+        this.standingOrderService = standingOrderService;
+        this.standingOrderRepository = standingOrderRepository;
+        this.dataSource = dataSource;
+        this.advisoryLockKey = advisoryLockKey;
+
+        this.executed = Counter.builder("banking.standing-orders.executions")
+                .description("Standing order occurrences run")
+                .tag("outcome", "executed")
+                .register(meterRegistry);
+        this.failed = Counter.builder("banking.standing-orders.executions")
+                .description("Standing order occurrences run")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+
+        if (enabled) {
+            this.dispatcher = new TimingWheelDispatcher<>("standing-order", tick, loadInterval, window, pageSize, workers,
+                    this::findDue, ScheduledRun::scheduledAt, this::execute, this::holdLeadership);
+            Gauge.builder("banking.standing-orders.wheel.size", dispatcher, TimingWheelDispatcher::size)
+                    .description("Standing order occurrences loaded into the timing wheel")
+                    .register(meterRegistry);
+            this.dispatcher.start();
+        } else {
+            this.dispatcher = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (dispatcher == null) {
+            return;
+        }
+        dispatcher.shutdown();
+        // Hand the advisory lock to the next leader
+        resign();
+    }
+
+    // Leadership is re-checked on every load, not every tick; the idempotent execution covers the gap
+    private boolean holdLeadership() {
+        try {
+            if (leaderConnection != null) {
+                if (leaderConnection.isValid(2)) {
+                    return true;
+                }
+                log.warn("Lost the standing order leader connection");
+                resign();
+            }
+
+            Connection connection = dataSource.getConnection();
+            boolean acquired = false;
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+                statement.setLong(1, advisoryLockKey);
+                try (ResultSet result = statement.executeQuery()) {
+                    acquired = result.next() && result.getBoolean(1);
+                }
+            } finally {
+                if (!acquired) {
+                    connection.close();
+                }
+            }
+            if (acquired) {
+                leaderConnection = connection;
+                log.info("This instance is now the standing order scheduler");
+            }
+            return acquired;
+        } catch (SQLException e) {
+            log.warn("Standing order leader check failed: {}", e.getMessage());
+            resign();
+            return false;
+        }
+    }
+
+    private void resign() {
+        if (leaderConnection != null) {
+            // The pool keeps the physical connection open, so unlock explicitly; a dead connection
+            // has already lost the lock with its session
+            try (PreparedStatement statement = leaderConnection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+                statement.setLong(1, advisoryLockKey);
+                statement.execute();
+            } catch (SQLException e) {
+                log.debug("Releasing the standing order advisory lock failed", e);
+            }
+            try {
+                leaderConnection.close();
+            } catch (SQLException e) {
+                log.debug("Closing the standing order leader connection failed", e);
+            }
+        }
+        leaderConnection = null;
+        dispatcher.reset();
+    }
+
+    private List<ScheduledRun> findDue(LocalDateTime until, ScheduledRun after, int pageSize) {
+        return (after == null
+                ? standingOrderRepository.findDue(until, PageRequest.of(0, pageSize))
+                : standingOrderRepository.findDueAfter(until, after.scheduledAt(), after.orderId(), PageRequest.of(0, pageSize)))
+                .stream()
+                .map(order -> new ScheduledRun(order.getOrderId(), order.getNextExecutionAt()))
+                .toList();
+    }
+
+    private void execute(ScheduledRun run) {
+        try {
+            standingOrderService.execute(run.orderId(), run.scheduledAt());
+            executed.increment();
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("Standing order {} occurrence {} failed, will retry on the next load: {}",
+                    run.orderId(), run.scheduledAt(), e.getMessage());
+        }
+    }
+
+    private record ScheduledRun(String orderId, LocalDateTime scheduledAt) {
+    }
+}
@@ -0,0 +1,180 @@
+package com.bankingapplication.account_service.service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bankingapplication.account_service.concurrency.GroupCommitExecutor;
+import com.bankingapplication.account_service.dto.StandingOrderDTO;
+import com.bankingapplication.account_service.dto.TransactionDTO;
+import com.bankingapplication.account_service.dto.request.StandingOrderRequest;
+import com.bankingapplication.account_service.dto.request.TransferRequest;
+import com.bankingapplication.account_service.entity.StandingOrder;
+import com.bankingapplication.account_service.entity.StandingOrderFrequency;
+import com.bankingapplication.account_service.entity.StandingOrderStatus;
+import com.bankingapplication.account_service.exception.InvalidOperationException;
+import com.bankingapplication.account_service.exception.ResourceNotFoundException;
+import com.bankingapplication.account_service.repository.AccountRepository;
+import com.bankingapplication.account_service.repository.StandingOrderRepository;
+import com.bankingapplication.account_service.util.AccountNumberGenerator;
+import com.bankingapplication.account_service.util.SnowflakeIdGenerator;
+
+@Service
+public class StandingOrderService {
+
+    private static final Logger log = LoggerFactory.getLogger(StandingOrderService.class);
+
+    private static final DateTimeFormatter OCCURRENCE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final StandingOrderRepository standingOrderRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionService transactionService;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+
+    public StandingOrderService(StandingOrderRepository standingOrderRepository, AccountRepository accountRepository,
+                                TransactionService transactionService, AccountNumberGenerator accountNumberGenerator,
+                                SnowflakeIdGenerator snowflakeIdGenerator) {
+        this.standingOrderRepository = standingOrderRepository;
+        this.accountRepository = accountRepository;
+        this.transactionService = transactionService;
+        this.accountNumberGenerator = accountNumberGenerator;
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+    }
+
+    @Transactional
+    public StandingOrderDTO createOrder(StandingOrderRequest request, String createdBy) {
+        accountNumberGenerator.requireValidAccountNumber(request.getSourceAccountNumber());
+        accountNumberGenerator.requireValidAccountNumber(request.getDestinationAccountNumber());
+        if (request.getSourceAccountNumber().equals(request.getDestinationAccountNumber())) {
+            throw new InvalidOperationException("Source and destination accounts must be different");
+        }
+        for (String accountNumber : List.of(request.getSourceAccountNumber(), request.getDestinationAccountNumber())) {
+            if (accountRepository.findByAccountNumber(accountNumber).isEmpty()) {
+                throw new ResourceNotFoundException("Account", "accountNumber", accountNumber);
+            }
+        }
+
+        // Whole seconds, so the scheduled time compares equal after a round trip through the database
+        LocalDateTime firstExecutionAt = request.getFirstExecutionAt().truncatedTo(ChronoUnit.SECONDS);
+        if (firstExecutionAt.isBefore(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS))) {
+            throw new InvalidOperationException("First execution time must not be in the past");
+        }
+        if (request.getEndDate() != null && request.getEndDate().isBefore(firstExecutionAt.toLocalDate())) {
+            throw new InvalidOperationException("End date must not be before the first execution");
+        }
+
+        StandingOrder order = new StandingOrder();
+        order.setOrderId("SO" + String.format("%016X", snowflakeIdGenerator.nextId()));
+        order.setSourceAccountNumber(request.getSourceAccountNumber());
+        order.setDestinationAccountNumber(request.getDestinationAccountNumber());
+        order.setAmount(request.getAmount());
+        order.setDescription(request.getDescription());
+        order.setFrequency(request.getFrequency());
+        order.setStatus(StandingOrderStatus.ACTIVE);
+        order.setFirstExecutionAt(firstExecutionAt);
+        order.setNextExecutionAt(firstExecutionAt);
+        order.setEndDate(request.getEndDate());
+        order.setCreatedBy(createdBy);
+        order.setCreatedAt(LocalDateTime.now());
+
+        StandingOrder saved = standingOrderRepository.save(order);
+        log.info("Created {} standing order {} from {} to {}", saved.getFrequency(), saved.getOrderId(),
+                saved.getSourceAccountNumber(), saved.getDestinationAccountNumber());
+        return toDTO(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public List<StandingOrderDTO> getOrdersByAccountNumber(String accountNumber) {
+        accountNumberGenerator.requireValidAccountNumber(accountNumber);
+        return standingOrderRepository.findBySourceAccountNumberOrderByCreatedAtDesc(accountNumber).stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public StandingOrderDTO getOrder(String accountNumber, String orderId) {
+        return toDTO(findOrder(accountNumber, orderId));
+    }
+
+    @Transactional
+    public StandingOrderDTO cancelOrder(String accountNumber, String orderId) {
+        StandingOrder order = findOrder(accountNumber, orderId);
+        if (order.getStatus() != StandingOrderStatus.ACTIVE) {
+            throw new InvalidOperationException("Standing order " + orderId + " is already " + order.getStatus());
+        }
+        // A copy already loaded into a scheduler wheel is skipped when it fires
+        order.setStatus(StandingOrderStatus.CANCELLED);
+        order.setNextExecutionAt(null);
+        log.info("Cancelled standing order {}", orderId);
+        return toDTO(standingOrderRepository.save(order));
+    }
+
+    // Runs one occurrence through the normal transfer path. The reference number is derived from the
+    // order and the occurrence, so a re-run after a crash or a second scheduler replays the original
+    // transfer instead of paying twice. A business rejection (e.g. insufficient funds) skips the
+    // occurrence and is recorded on the order; any other failure leaves it due for the next load.
+    public void execute(String orderId, LocalDateTime scheduledAt) {
+        StandingOrder order = standingOrderRepository.findById(orderId).orElse(null);
+        if (order == null || order.getStatus() != StandingOrderStatus.ACTIVE || !scheduledAt.equals(order.getNextExecutionAt())) {
+            // Cancelled, or this occurrence was already advanced
+            return;
+        }
+
+        String transactionId = null;
+        String failureReason = null;
+        try {
+            TransactionDTO transaction = transactionService.transfer(new TransferRequest(order.getSourceAccountNumber(),
+                    order.getDestinationAccountNumber(), order.getAmount(),
+                    order.getDescription() != null ? order.getDescription() : "Standing order " + orderId,
+                    orderId + "-" + scheduledAt.format(OCCURRENCE_FORMAT)));
+            transactionId = transaction.getTransactionId();
+        } catch (RuntimeException e) {
+            if (!GroupCommitExecutor.isBusinessRejection(e)) {
+                throw e;
+            }
+            failureReason = e.getMessage();
+            log.info("Standing order {} occurrence {} rejected: {}", orderId, scheduledAt, failureReason);
+        }
+
+        LocalDateTime next = order.getFrequency().occurrence(order.getFirstExecutionAt(), order.getExecutionCount() + 1);
+        boolean finished = order.getFrequency() == StandingOrderFrequency.ONCE
+                || (order.getEndDate() != null && next.toLocalDate().isAfter(order.getEndDate()));
+        standingOrderRepository.advance(orderId, scheduledAt, finished ? null : next,
+                finished ? StandingOrderStatus.COMPLETED : StandingOrderStatus.ACTIVE,
+                LocalDateTime.now(), transactionId, failureReason);
+    }
+
+    private StandingOrder findOrder(String accountNumber, String orderId) {
+        accountNumberGenerator.requireValidAccountNumber(accountNumber);
+        return standingOrderRepository.findByOrderIdAndSourceAccountNumber(orderId, accountNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Standing order", "id", orderId));
+    }
+
+    private StandingOrderDTO toDTO(StandingOrder order) {
+        StandingOrderDTO dto = new StandingOrderDTO();
+        dto.setOrderId(order.getOrderId());
+        dto.setSourceAccountNumber(order.getSourceAccountNumber());
+        dto.setDestinationAccountNumber(order.getDestinationAccountNumber());
+        dto.setAmount(order.getAmount());
+        dto.setDescription(order.getDescription());
+        dto.setFrequency(order.getFrequency());
+        dto.setStatus(order.getStatus());
+        dto.setFirstExecutionAt(order.getFirstExecutionAt());
+        dto.setNextExecutionAt(order.getNextExecutionAt());
+        dto.setEndDate(order.getEndDate());
+        dto.setExecutionCount(order.getExecutionCount());
+        dto.setLastExecutedAt(order.getLastExecutedAt());
+        dto.setLastTransactionId(order.getLastTransactionId());
+        dto.setLastFailureReason(order.getLastFailureReason());
+        dto.setCreatedBy(order.getCreatedBy());
+        dto.setCreatedAt(order.getCreatedAt());
+        return dto;
+    }
+}
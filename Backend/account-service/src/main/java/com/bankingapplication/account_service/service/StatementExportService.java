@@ -0,0 +1,234 @@
+package com.bankingapplication.account_service.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bankingapplication.account_service.entity.Account;
+import com.bankingapplication.account_service.exception.InvalidOperationException;
+import com.bankingapplication.account_service.exception.ResourceNotFoundException;
+import com.bankingapplication.account_service.repository.AccountRepository;
+import com.bankingapplication.account_service.util.AccountNumberGenerator;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Streams an account's transactions to the client as CSV or NDJSON, oldest first. Rows come from a
+ * JDBC cursor (fetch size inside a read-only transaction) and are written as they arrive, so memory
+ * stays at one fetch batch plus the output buffer however long the history is. The writer side of
+ * that is checked by the memory-tagged StatementExportServiceTest under a 64 MB heap (-Pmemory-tests);
+ * the cursor side relies on the PostgreSQL driver, which only honours the fetch size with autocommit
+ * off and a forward-only result set, both of which the transaction and JdbcTemplate give here.
+ */
+@Service
+public class StatementExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementExportService.class);
+
+    private static final String EXPORT_SQL = "SELECT t.transaction_id, t.transaction_date, t.transaction_type, "
+            + "t.transaction_status, t.amount, t.balance_after_transaction, t.reference_number, t.description, "
+            + "t.source_account_number, t.destination_account_number, t.fx_rate "
+            + "FROM transactions t WHERE t.account_id = ? %s ORDER BY t.transaction_date, t.id";
+
+    private final AccountRepository accountRepository;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+
+    public StatementExportService(AccountRepository accountRepository, AccountNumberGenerator accountNumberGenerator,
+                                  DataSource dataSource, PlatformTransactionManager transactionManager,
+                                  @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.accountRepository = accountRepository;
+        this.accountNumberGenerator = accountNumberGenerator;
+
+        // PostgreSQL only streams with a fetch size inside a transaction; otherwise it buffers the whole result
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    // Validates before the response is committed, so a bad request still gets a proper error status
+    public Long requireAccountId(String accountNumber, LocalDateTime startDate, LocalDateTime endDate) {
+        accountNumberGenerator.requireValidAccountNumber(accountNumber);
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new InvalidOperationException("Start date must not be after end date");
+        }
+        return accountRepository.findByAccountNumber(accountNumber)
+                .map(Account::getId)
+                .orElseThrow(() -> new ResourceNotFoundException("Account", "account number", accountNumber));
+    }
+
+    // Both bounds are optional and inclusive, like the date-range endpoint
+    public void export(Long accountId, LocalDateTime startDate, LocalDateTime endDate, Format format, OutputStream out)
+            throws IOException {
+        StringBuilder filter = new StringBuilder();
+        List<Object> args = new ArrayList<>(3);
+        args.add(accountId);
+        if (startDate != null) {
+            filter.append("AND t.transaction_date >= ? ");
+            args.add(Timestamp.valueOf(startDate));
+        }
+        if (endDate != null) {
+            filter.append("AND t.transaction_date <= ? ");
+            args.add(Timestamp.valueOf(endDate));
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        StatementWriter statement = new StatementWriter(format, writer);
+        try {
+            readOnlyTemplate.executeWithoutResult(status -> streamingJdbcTemplate.query(EXPORT_SQL.formatted(filter),
+                    (RowCallbackHandler) rs -> statement.row(rs.getString(1),
+                            rs.getTimestamp(2) != null ? rs.getTimestamp(2).toLocalDateTime() : null, rs.getString(3),
+                            rs.getString(4), rs.getBigDecimal(5), rs.getBigDecimal(6), rs.getString(7), rs.getString(8),
+                            rs.getString(9), rs.getString(10), rs.getBigDecimal(11)),
+                    args.toArray()));
+        } catch (UncheckedIOException e) {
+            // Usually the client went away; the query has been abandoned with it
+            throw e.getCause();
+        }
+        statement.finish();
+        log.info("Exported {} transactions of account id {} as {}", statement.rows(), accountId, format);
+    }
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String mediaType;
+        private final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public String mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+    }
+
+    // Writes one row at a time and keeps nothing per row
+    static final class StatementWriter {
+
+        private static final JsonFactory JSON = new JsonFactory();
+        private static final String CSV_HEADER = "transactionId,transactionDate,transactionType,status,amount,"
+                + "balanceAfterTransaction,referenceNumber,description,sourceAccountNumber,destinationAccountNumber,fxRate";
+
+        private final Writer out;
+        private final JsonGenerator json;
+        private long rows;
+
+        StatementWriter(Format format, Writer out) {
+            this.out = out;
+            try {
+                if (format == Format.NDJSON) {
+                    // One object per line: no space between root values, the newline is written per row
+                    this.json = JSON.createGenerator(out).setRootValueSeparator(null);
+                    this.json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                } else {
+                    this.json = null;
+                    out.write(CSV_HEADER);
+                    out.write('\n');
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void row(String transactionId, LocalDateTime transactionDate, String transactionType, String status,
+                 BigDecimal amount, BigDecimal balanceAfter, String referenceNumber, String description,
+                 String sourceAccountNumber, String destinationAccountNumber, BigDecimal fxRate) {
+            try {
+                if (json != null) {
+                    json.writeStartObject();
+                    json.writeStringField("transactionId", transactionId);
+                    json.writeStringField("transactionDate", transactionDate != null ? transactionDate.toString() : null);
+                    json.writeStringField("transactionType", transactionType);
+                    json.writeStringField("status", status);
+                    json.writeNumberField("amount", amount);
+                    json.writeNumberField("balanceAfterTransaction", balanceAfter);
+                    json.writeStringField("referenceNumber", referenceNumber);
+                    json.writeStringField("description", description);
+                    json.writeStringField("sourceAccountNumber", sourceAccountNumber);
+                    json.writeStringField("destinationAccountNumber", destinationAccountNumber);
+                    json.writeNumberField("fxRate", fxRate);
+                    json.writeEndObject();
+                    json.writeRaw('\n');
+                } else {
+                    out.write(csv(transactionId));
+                    out.write(',');
+                    out.write(transactionDate != null ? transactionDate.toString() : "");
+                    out.write(',');
+                    out.write(csv(transactionType));
+                    out.write(',');
+                    out.write(csv(status));
+                    out.write(',');
+                    out.write(amount != null ? amount.toPlainString() : "");
+                    out.write(',');
+                    out.write(balanceAfter != null ? balanceAfter.toPlainString() : "");
+                    out.write(',');
+                    out.write(csv(referenceNumber));
+                    out.write(',');
+                    out.write(csv(description));
+                    out.write(',');
+                    out.write(csv(sourceAccountNumber));
+                    out.write(',');
+                    out.write(csv(destinationAccountNumber));
+                    out.write(',');
+                    out.write(fxRate != null ? fxRate.toPlainString() : "");
+                    out.write('\n');
+                }
+                rows++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            if (json != null) {
+                json.flush();
+            }
+            out.flush();
+        }
+
+        long rows() {
+            return rows;
+        }
+
+        // RFC 4180: quote fields holding a separator, quote or line break, doubling inner quotes
+        static String csv(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
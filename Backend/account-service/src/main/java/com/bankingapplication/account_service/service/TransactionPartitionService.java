@@ -0,0 +1,189 @@
+package com.bankingapplication.account_service.service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bankingapplication.account_service.concurrency.ClusterJobLock;
+
+/**
+ * Keeps the monthly partitions of transactions (see db/migration/V1) ahead of the clock: every night
+ * and on startup it creates the current month and the configured number of months ahead, so postings
+ * never land in the default partition.
+ *
+ * Archiving (detaching months older than a retention into the archive schema) is refused for now:
+ * reconciliation and the as-of balance fallback both sum an account's postings from the beginning,
+ * so dropping old months out of transactions would change their answers until accounts carry an
+ * opening balance for the first month kept.
+ */
+@Service
+public class TransactionPartitionService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitionService.class);
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("transactions_p(\\d{4})_(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final String archiveSchema;
+    private final boolean enabled;
+    private final ClusterJobLock clusterJobLock;
+
+    public TransactionPartitionService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                       ClusterJobLock clusterJobLock,
+                                       @Value("${app.partitions.enabled:true}") boolean enabled,
+                                       @Value("${app.partitions.months-ahead:3}") int monthsAhead,
+                                       @Value("${app.partitions.retention-months:0}") int retentionMonths,
+                                       @Value("${app.partitions.archive-schema:transactions_archive}") String archiveSchema) {
+        if (retentionMonths != 0) {
+            throw new IllegalStateException("app.partitions.retention-months must be 0: archived months would drop out of "
+                    + "reconciliation and as-of balances, which still sum postings from each account's first one");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archiveSchema = archiveSchema;
+        this.enabled = enabled;
+        this.clusterJobLock = clusterJobLock;
+    }
+
+    // SchemaMigrationService, which partitions the table in the first place, has run by now
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        maintainNightly();
+    }
+
+    @Scheduled(cron = "${app.partitions.nightly-cron:0 0 1 * * *}")
+    public void maintainNightly() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            clusterJobLock.runExclusively("transaction-partitions", this::maintain);
+        } catch (RuntimeException e) {
+            log.error("Transaction partition maintenance failed", e);
+        }
+    }
+
+    // Creates missing months and archives expired ones; safe to run on several instances at once
+    public Map<String, Object> maintain() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('transactions'))", Boolean.class);
+        if (!Boolean.TRUE.equals(partitioned)) {
+            result.put("partitioned", false);
+            return result;
+        }
+
+        YearMonth current = YearMonth.now();
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = 'transactions'::regclass", String.class));
+
+        List<String> created = new ArrayList<>();
+        for (YearMonth month : monthsToCreate(current, monthsAhead, existing)) {
+            try {
+                createPartition(month);
+                created.add(partitionName(month));
+            } catch (RuntimeException e) {
+                // Usually a row for that month already sits in the default partition
+                log.error("Could not create transaction partition {}", partitionName(month), e);
+            }
+        }
+
+        List<String> archived = new ArrayList<>();
+        if (retentionMonths > 0) {
+            for (String partition : partitionsToArchive(current, retentionMonths, existing)) {
+                try {
+                    archivePartition(partition);
+                    archived.add(partition);
+                } catch (RuntimeException e) {
+                    log.error("Could not archive transaction partition {}", partition, e);
+                }
+            }
+        }
+
+        result.put("partitioned", true);
+        result.put("partitions", existing.size() + created.size() - archived.size());
+        result.put("created", created);
+        result.put("archived", archived);
+        if (!created.isEmpty() || !archived.isEmpty()) {
+            log.info("Transaction partitions: created {}, archived {}", created, archived);
+        }
+        return result;
+    }
+
+    private void createPartition(YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF transactions "
+                + "FOR VALUES FROM ('" + month.atDay(1).atStartOfDay() + "') TO ('" + month.plusMonths(1).atDay(1).atStartOfDay() + "')");
+    }
+
+    // DETACH takes an exclusive lock on transactions, so give up quickly rather than queue postings behind it
+    private void archivePartition(String partition) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SET LOCAL lock_timeout = '5s'");
+            jdbcTemplate.execute("ALTER TABLE transactions DETACH PARTITION " + partition);
+            jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+            jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+        });
+    }
+
+    // The current month and the months ahead that have no partition yet
+    static List<YearMonth> monthsToCreate(YearMonth current, int monthsAhead, Collection<String> existing) {
+        List<YearMonth> months = new ArrayList<>();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!existing.contains(partitionName(month))) {
+                months.add(month);
+            }
+        }
+        return months;
+    }
+
+    // Monthly partitions that ended more than retentionMonths months before the current month
+    static List<String> partitionsToArchive(YearMonth current, int retentionMonths, Collection<String> existing) {
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        return existing.stream()
+                .filter(name -> {
+                    YearMonth month = partitionMonth(name);
+                    return month != null && month.isBefore(oldestKept);
+                })
+                .sorted()
+                .toList();
+    }
+
+    static String partitionName(YearMonth month) {
+        return String.format("transactions_p%04d_%02d", month.getYear(), month.getMonthValue());
+    }
+
+    // Null for names that are not monthly partitions, such as transactions_default
+    static YearMonth partitionMonth(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        int month = Integer.parseInt(matcher.group(2));
+        return month >= 1 && month <= 12 ? YearMonth.of(Integer.parseInt(matcher.group(1)), month) : null;
+    }
+}
@@ -4,22 +4,41 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.bankingapplication.account_service.concurrency.AccountLockMode;
+import com.bankingapplication.account_service.concurrency.BatchLockedAccounts;
+import com.bankingapplication.account_service.concurrency.GroupCommitExecutor;
+import com.bankingapplication.account_service.concurrency.LockModeResolver;
+import com.bankingapplication.account_service.concurrency.PostingExecutor;
+import com.bankingapplication.account_service.concurrency.PostingMetrics;
+import com.bankingapplication.account_service.dto.JournalPostingDTO;
 import com.bankingapplication.account_service.dto.TransactionDTO;
 import com.bankingapplication.account_service.dto.request.DepositRequest;
+import com.bankingapplication.account_service.dto.request.SplitTransferLegRequest;
+import com.bankingapplication.account_service.dto.request.SplitTransferRequest;
 import com.bankingapplication.account_service.dto.request.TransferRequest;
 import com.bankingapplication.account_service.dto.request.WithdrawalRequest;
 import com.bankingapplication.account_service.entity.Account;
 import com.bankingapplication.account_service.entity.Transaction;
 import com.bankingapplication.account_service.entity.TransactionStatus;
 import com.bankingapplication.account_service.entity.TransactionType;
+import com.bankingapplication.account_service.exception.DuplicatePostingException;
 import com.bankingapplication.account_service.exception.InsufficientBalanceException;
 import com.bankingapplication.account_service.exception.InvalidOperationException;
 import com.bankingapplication.account_service.exception.ResourceNotFoundException;
@@ -27,6 +46,8 @@ import com.bankingapplication.account_service.mapper.EntityMapper;
 import com.bankingapplication.account_service.repository.AccountRepository;
 import com.bankingapplication.account_service.repository.TransactionRepository;
 import com.bankingapplication.account_service.util.AccountNumberGenerator;
+import com.bankingapplication.account_service.util.FxRateTable;
+import com.bankingapplication.account_service.util.HistoryCursor;
 import com.bankingapplication.account_service.util.PaginationUtil;
 
 import org.slf4j.Logger;
@@ -37,28 +58,164 @@ public class TransactionService {
 
     private static final Logger log = LoggerFactory.getLogger(TransactionService.class);
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
     private final EntityMapper entityMapper;
-    private final AccountService accountService;
+    private final DailyLimitService dailyLimitService;
     private final AccountNumberGenerator accountNumberGenerator;
+    private final PostingExecutor postingExecutor;
+    private final PostingMetrics postingMetrics;
+    private final LockModeResolver lockModeResolver;
+    private final DatabasePostingEngine databasePostingEngine;
+    private final GroupCommitExecutor groupCommitExecutor;
+    private final IdempotencyService idempotencyService;
+    private final JournalService journalService;
+    private final FxRateService fxRateService;
 
     public TransactionService(AccountRepository accountRepository, TransactionRepository transactionRepository,
-                              EntityMapper entityMapper, AccountService accountService,
-                              AccountNumberGenerator accountNumberGenerator) {
+                              EntityMapper entityMapper, DailyLimitService dailyLimitService,
+                              AccountNumberGenerator accountNumberGenerator, PostingExecutor postingExecutor,
+                              PostingMetrics postingMetrics, LockModeResolver lockModeResolver,
+                              DatabasePostingEngine databasePostingEngine, GroupCommitExecutor groupCommitExecutor,
+                              IdempotencyService idempotencyService, JournalService journalService,
+                              FxRateService fxRateService) {
         this.accountRepository = accountRepository;
         this.transactionRepository = transactionRepository;
         this.entityMapper = entityMapper;
-        this.accountService = accountService;
+        this.dailyLimitService = dailyLimitService;
         this.accountNumberGenerator = accountNumberGenerator;
+        this.postingExecutor = postingExecutor;
+        this.postingMetrics = postingMetrics;
+        this.lockModeResolver = lockModeResolver;
+        this.databasePostingEngine = databasePostingEngine;
+        this.groupCommitExecutor = groupCommitExecutor;
+        this.idempotencyService = idempotencyService;
+        this.journalService = journalService;
+        this.fxRateService = fxRateService;
     }
 
-    @Transactional
     public TransactionDTO deposit(DepositRequest request) {
+        return deposit(request, null);
+    }
+
+    public TransactionDTO withdraw(WithdrawalRequest request) {
+        return withdraw(request, null);
+    }
+
+    public TransactionDTO transfer(TransferRequest request) {
+        return transfer(request, null);
+    }
+
+    // Runs an accepted async posting, filling in its PENDING row. A business rejection settles the row
+    // as REJECTED, any other failure as FAILED; a row that already completed is returned as is.
+    public TransactionDTO completePending(AsyncPostingService.QueuedPosting posting) {
+        try {
+            TransactionDTO result = switch (posting.type()) {
+                case DEPOSIT -> deposit(new DepositRequest(posting.accountNumber(), posting.amount(),
+                        posting.description(), posting.referenceNumber()), posting.transactionId());
+                case WITHDRAWAL -> withdraw(new WithdrawalRequest(posting.accountNumber(), posting.amount(),
+                        posting.description(), posting.referenceNumber()), posting.transactionId());
+                case TRANSFER -> transfer(new TransferRequest(posting.accountNumber(), posting.destinationAccountNumber(),
+                        posting.amount(), posting.description(), posting.referenceNumber()), posting.transactionId());
+                default -> throw new InvalidOperationException("Unsupported async posting type " + posting.type());
+            };
+            if (!posting.transactionId().equals(result.getTransactionId())) {
+                // The reference number was already posted by another request; this row never will be
+                transactionRepository.markUnfinished(posting.transactionId(), TransactionStatus.REJECTED,
+                        "Duplicate of transaction " + result.getTransactionId());
+            }
+            return result;
+        } catch (DuplicatePostingException e) {
+            return getTransactionById(posting.transactionId());
+        } catch (RuntimeException e) {
+            TransactionStatus outcome = GroupCommitExecutor.isBusinessRejection(e) ? TransactionStatus.REJECTED : TransactionStatus.FAILED;
+            transactionRepository.markUnfinished(posting.transactionId(), outcome, e.getMessage());
+            throw e;
+        }
+    }
+
+    // A pending transaction id means the posting completes an accepted async posting; those always
+    // use the JPA path because the database engine inserts its own statement row.
+    private TransactionDTO deposit(DepositRequest request, String pendingTransactionId) {
+        accountNumberGenerator.requireValidAccountNumber(request.getAccountNumber());
+        String idempotencyKey = idempotencyService.key("deposit", request.getAccountNumber(), request.getReferenceNumber());
+        return idempotent(idempotencyKey, () -> {
+            if (databasePostingEngine.isEnabled() && pendingTransactionId == null) {
+                return timed("deposit", "function", () -> postingExecutor.execute("deposit", List.of(request.getAccountNumber()),
+                        () -> {
+                            String transactionId = accountNumberGenerator.generateTransactionId();
+                            idempotencyService.claim(idempotencyKey, transactionId);
+                            return databasePostingEngine.post(request.getAccountNumber(), TransactionType.DEPOSIT, request.getAmount(),
+                                    transactionId,
+                                    request.getDescription() != null ? request.getDescription() : "Deposit",
+                                    request.getReferenceNumber());
+                        }));
+            }
+            return timed("deposit", "jpa", () -> post("deposit", List.of(request.getAccountNumber()),
+                    () -> applyDeposit(request, idempotencyKey, pendingTransactionId)));
+        });
+    }
+
+    private TransactionDTO withdraw(WithdrawalRequest request, String pendingTransactionId) {
+        accountNumberGenerator.requireValidAccountNumber(request.getAccountNumber());
+        String idempotencyKey = idempotencyService.key("withdrawal", request.getAccountNumber(), request.getReferenceNumber());
+        return idempotent(idempotencyKey, () -> {
+            if (databasePostingEngine.isEnabled() && pendingTransactionId == null) {
+                return timed("withdrawal", "function", () -> postingExecutor.execute("withdrawal", List.of(request.getAccountNumber()),
+                        () -> {
+                            String transactionId = accountNumberGenerator.generateTransactionId();
+                            idempotencyService.claim(idempotencyKey, transactionId);
+                            return databasePostingEngine.post(request.getAccountNumber(), TransactionType.WITHDRAWAL, request.getAmount(),
+                                    transactionId,
+                                    request.getDescription() != null ? request.getDescription() : "Withdrawal",
+                                    request.getReferenceNumber());
+                        }));
+            }
+            return timed("withdrawal", "jpa", () -> post("withdrawal", List.of(request.getAccountNumber()),
+                    () -> applyWithdrawal(request, idempotencyKey, pendingTransactionId)));
+        });
+    }
+
+    private TransactionDTO transfer(TransferRequest request, String pendingTransactionId) {
+        accountNumberGenerator.requireValidAccountNumber(request.getSourceAccountNumber());
+        accountNumberGenerator.requireValidAccountNumber(request.getDestinationAccountNumber());
+        String idempotencyKey = idempotencyService.key("transfer", request.getSourceAccountNumber(), request.getReferenceNumber());
+        return idempotent(idempotencyKey, () -> timed("transfer", "jpa", () -> post("transfer",
+                List.of(request.getSourceAccountNumber(), request.getDestinationAccountNumber()),
+                () -> applyTransfer(request, idempotencyKey, pendingTransactionId))));
+    }
+
+    public TransactionDTO splitTransfer(SplitTransferRequest request) {
+        String sourceAccountNumber = request.getSourceAccountNumber();
+        accountNumberGenerator.requireValidAccountNumber(sourceAccountNumber);
+
+        List<String> accountNumbers = new ArrayList<>(request.getLegs().size() + 1);
+        accountNumbers.add(sourceAccountNumber);
+        Set<String> destinations = new HashSet<>();
+        for (SplitTransferLegRequest leg : request.getLegs()) {
+            accountNumberGenerator.requireValidAccountNumber(leg.getDestinationAccountNumber());
+            if (leg.getDestinationAccountNumber().equals(sourceAccountNumber)) {
+                throw new InvalidOperationException("Source and destination accounts must be different");
+            }
+            if (!destinations.add(leg.getDestinationAccountNumber())) {
+                throw new InvalidOperationException("Destination " + leg.getDestinationAccountNumber() + " appears more than once");
+            }
+            accountNumbers.add(leg.getDestinationAccountNumber());
+        }
+
+        String idempotencyKey = idempotencyService.key("split-transfer", sourceAccountNumber, request.getReferenceNumber());
+        return idempotent(idempotencyKey, () -> timed("split-transfer", "jpa", () -> post("split-transfer", accountNumbers,
+                () -> applySplitTransfer(request, accountNumbers, idempotencyKey))));
+    }
+
+    // Package-private for BatchPostingService, which runs it inside a locked batch
+    TransactionDTO applyDeposit(DepositRequest request, String idempotencyKey, String pendingTransactionId) {
         log.info("Processing deposit of {} to account {}", request.getAmount(), request.getAccountNumber());
 
-        Account account = accountRepository.findByAccountNumber(request.getAccountNumber())
-                .orElseThrow(() -> new ResourceNotFoundException("Account", "account number", request.getAccountNumber()));
+        AccountLockMode lockMode = resolveLockMode(request.getAccountNumber());
+        Account account = loadAccount("deposit", request.getAccountNumber(), lockMode);
 
         // Validate if account is active
         if (!account.isActive()) {
@@ -68,15 +225,17 @@ public class TransactionService {
         // Validate transaction limit
         validateDailyTransactionLimit(account, request.getAmount(), TransactionType.DEPOSIT);
 
+        // Claim the client reference only once every check has passed
+        Transaction transaction = statementRow(pendingTransactionId);
+        idempotencyService.claim(idempotencyKey, transaction.getTransactionId());
+
         // Update account balance
         BigDecimal newBalance = account.getBalance().add(request.getAmount());
         account.setBalance(newBalance);
-        accountRepository.save(account);
+        saveAccount(account, lockMode);
 
         // Create transaction record
-        Transaction transaction = new Transaction();
         transaction.setAccount(account);
-        transaction.setTransactionId(accountNumberGenerator.generateTransactionId());
         transaction.setAmount(request.getAmount());
         transaction.setTransactionType(TransactionType.DEPOSIT);
         transaction.setStatus(TransactionStatus.COMPLETED);
@@ -85,17 +244,20 @@ public class TransactionService {
         transaction.setBalanceAfterTransaction(newBalance);
 
         Transaction savedTransaction = transactionRepository.save(transaction);
+        journalService.postExternal(TransactionType.DEPOSIT, transaction.getReferenceNumber(), transaction.getDescription(),
+                JournalService.CASH_CLEARING_ACCOUNT_ID,
+                new JournalService.Leg(account.getId(), request.getAmount(), newBalance, transaction.getTransactionId()));
+        dailyLimitService.record(account, TransactionType.DEPOSIT, request.getAmount());
         log.info("Deposit completed successfully, new balance: {}", newBalance);
 
         return entityMapper.mapToTransactionDTO(savedTransaction);
     }
 
-    @Transactional
-    public TransactionDTO withdraw(WithdrawalRequest request) {
+    private TransactionDTO applyWithdrawal(WithdrawalRequest request, String idempotencyKey, String pendingTransactionId) {
         log.info("Processing withdrawal of {} from account {}", request.getAmount(), request.getAccountNumber());
 
-        Account account = accountRepository.findByAccountNumber(request.getAccountNumber())
-                .orElseThrow(() -> new ResourceNotFoundException("Account", "account number", request.getAccountNumber()));
+        AccountLockMode lockMode = resolveLockMode(request.getAccountNumber());
+        Account account = loadAccount("withdrawal", request.getAccountNumber(), lockMode);
 
         // Validate if account is active
         if (!account.isActive()) {
@@ -108,8 +270,8 @@ public class TransactionService {
         // Validate transaction limit
         validateDailyTransactionLimit(account, request.getAmount(), TransactionType.WITHDRAWAL);
 
-        // Check if the account has sufficient balance
-        BigDecimal availableBalance = account.getBalance().add(account.getOverdraftLimit() != null ? account.getOverdraftLimit() : BigDecimal.ZERO);
+        // Check if the account has sufficient balance once authorization holds are set aside
+        BigDecimal availableBalance = account.availableBalance();
         if (availableBalance.compareTo(request.getAmount()) < 0) {
             throw new InsufficientBalanceException("Insufficient balance for withdrawal");
         }
@@ -121,15 +283,17 @@ public class TransactionService {
             log.info("Withdrawal will use overdraft protection");
         }
 
+        // Claim the client reference only once every check has passed
+        Transaction transaction = statementRow(pendingTransactionId);
+        idempotencyService.claim(idempotencyKey, transaction.getTransactionId());
+
         // Update account balance
         BigDecimal newBalance = account.getBalance().subtract(request.getAmount());
         account.setBalance(newBalance);
-        accountRepository.save(account);
+        saveAccount(account, lockMode);
 
         // Create transaction record
-        Transaction transaction = new Transaction();
         transaction.setAccount(account);
-        transaction.setTransactionId(accountNumberGenerator.generateTransactionId());
         transaction.setAmount(request.getAmount());
         transaction.setTransactionType(TransactionType.WITHDRAWAL);
         transaction.setStatus(TransactionStatus.COMPLETED);
@@ -138,45 +302,58 @@ public class TransactionService {
         transaction.setBalanceAfterTransaction(newBalance);
 
         Transaction savedTransaction = transactionRepository.save(transaction);
+        journalService.postExternal(TransactionType.WITHDRAWAL, transaction.getReferenceNumber(), transaction.getDescription(),
+                JournalService.CASH_CLEARING_ACCOUNT_ID,
+                new JournalService.Leg(account.getId(), request.getAmount().negate(), newBalance, transaction.getTransactionId()));
+        dailyLimitService.record(account, TransactionType.WITHDRAWAL, request.getAmount());
         log.info("Withdrawal completed successfully, new balance: {}", newBalance);
 
         return entityMapper.mapToTransactionDTO(savedTransaction);
     }
 
-    @Transactional
-    public TransactionDTO transfer(TransferRequest request) {
+    TransactionDTO applyTransfer(TransferRequest request, String idempotencyKey, String pendingTransactionId) {
         log.info("Processing transfer of {} from account {} to account {}",
                 request.getAmount(), request.getSourceAccountNumber(), request.getDestinationAccountNumber());
 
-        // Validate accounts
-        Account sourceAccount = accountRepository.findByAccountNumber(request.getSourceAccountNumber())
-                .orElseThrow(() -> new ResourceNotFoundException("Account", "account number", request.getSourceAccountNumber()));
+        if (request.getSourceAccountNumber().equals(request.getDestinationAccountNumber())) {
+            throw new InvalidOperationException("Source and destination accounts must be different");
+        }
 
-        Account destinationAccount = accountRepository.findByAccountNumber(request.getDestinationAccountNumber())
-                .orElseThrow(() -> new ResourceNotFoundException("Account", "account number", request.getDestinationAccountNumber()));
+        // Validate accounts and lock both rows in id order
+        Map<String, Account> accounts = lockAccounts("transfer", request.getSourceAccountNumber(), request.getDestinationAccountNumber());
+        Account sourceAccount = accounts.get(request.getSourceAccountNumber());
+        Account destinationAccount = accounts.get(request.getDestinationAccountNumber());
 
         // Validate if accounts are active
         if (!sourceAccount.isActive() || !destinationAccount.isActive()) {
             throw new InvalidOperationException("Cannot transfer between inactive accounts");
         }
 
+        // Cross-currency: the destination is credited the converted amount, both legs record the rate
+        FxRateTable.Conversion conversion = conversion(fxRateService.current(), sourceAccount, destinationAccount,
+                request.getAmount());
+        BigDecimal creditAmount = conversion != null ? conversion.amount() : request.getAmount();
+
         // Validate daily withdrawal limit for source account
         validateDailyWithdrawalLimit(sourceAccount, request.getAmount());
 
         // Validate transaction limit
         validateDailyTransactionLimit(sourceAccount, request.getAmount(), TransactionType.TRANSFER);
 
-        // Check if the source account has sufficient balance
-        BigDecimal availableBalance = sourceAccount.getBalance().add(
-                sourceAccount.getOverdraftLimit() != null ? sourceAccount.getOverdraftLimit() : BigDecimal.ZERO);
+        // Check if the source account has sufficient balance once authorization holds are set aside
+        BigDecimal availableBalance = sourceAccount.availableBalance();
 
         if (availableBalance.compareTo(request.getAmount()) < 0) {
             throw new InsufficientBalanceException("Insufficient balance for transfer");
         }
 
+        // Claim the client reference only once every check has passed
+        Transaction sourceTransaction = statementRow(pendingTransactionId);
+        idempotencyService.claim(idempotencyKey, sourceTransaction.getTransactionId());
+
         // Update account balances
         BigDecimal newSourceBalance = sourceAccount.getBalance().subtract(request.getAmount());
-        BigDecimal newDestinationBalance = destinationAccount.getBalance().add(request.getAmount());
+        BigDecimal newDestinationBalance = destinationAccount.getBalance().add(creditAmount);
 
         sourceAccount.setBalance(newSourceBalance);
         destinationAccount.setBalance(newDestinationBalance);
@@ -188,9 +365,7 @@ public class TransactionService {
         String transferReference = accountNumberGenerator.generateReferenceNumber();
 
         // Create outgoing transaction for source account
-        Transaction sourceTransaction = new Transaction();
         sourceTransaction.setAccount(sourceAccount);
-        sourceTransaction.setTransactionId(accountNumberGenerator.generateTransactionId());
         sourceTransaction.setAmount(request.getAmount());
         sourceTransaction.setTransactionType(TransactionType.TRANSFER);
         sourceTransaction.setStatus(TransactionStatus.COMPLETED);
@@ -199,12 +374,13 @@ public class TransactionService {
         sourceTransaction.setSourceAccountNumber(request.getSourceAccountNumber());
         sourceTransaction.setDestinationAccountNumber(request.getDestinationAccountNumber());
         sourceTransaction.setBalanceAfterTransaction(newSourceBalance);
+        sourceTransaction.setFxRate(conversion != null ? conversion.rate() : null);
 
         // Create incoming transaction for destination account
         Transaction destinationTransaction = new Transaction();
         destinationTransaction.setAccount(destinationAccount);
         destinationTransaction.setTransactionId(accountNumberGenerator.generateTransactionId());
-        destinationTransaction.setAmount(request.getAmount());
+        destinationTransaction.setAmount(creditAmount);
         destinationTransaction.setTransactionType(TransactionType.DEPOSIT);
         destinationTransaction.setStatus(TransactionStatus.COMPLETED);
         destinationTransaction.setDescription(request.getDescription() != null ? request.getDescription() : "Transfer from " + request.getSourceAccountNumber());
@@ -212,15 +388,130 @@ public class TransactionService {
         destinationTransaction.setSourceAccountNumber(request.getSourceAccountNumber());
         destinationTransaction.setDestinationAccountNumber(request.getDestinationAccountNumber());
         destinationTransaction.setBalanceAfterTransaction(newDestinationBalance);
+        destinationTransaction.setFxRate(conversion != null ? conversion.rate() : null);
 
+        // Both statement rows go out in one batched insert at flush
         transactionRepository.save(destinationTransaction);
         Transaction savedSourceTransaction = transactionRepository.save(sourceTransaction);
 
+        // Book of record: one balanced journal entry with a leg per account
+        journalService.post(TransactionType.TRANSFER, sourceTransaction.getReferenceNumber(),
+                "Transfer " + request.getSourceAccountNumber() + " -> " + request.getDestinationAccountNumber(),
+                List.of(new JournalService.Leg(sourceAccount.getId(), request.getAmount().negate(), newSourceBalance,
+                                sourceTransaction.getTransactionId()),
+                        new JournalService.Leg(destinationAccount.getId(), creditAmount, newDestinationBalance,
+                                destinationTransaction.getTransactionId(), conversion != null ? request.getAmount() : null)));
+        dailyLimitService.record(sourceAccount, TransactionType.TRANSFER, request.getAmount());
+        dailyLimitService.record(destinationAccount, TransactionType.DEPOSIT, creditAmount);
+
         log.info("Transfer completed successfully");
 
         return entityMapper.mapToTransactionDTO(savedSourceTransaction);
     }
 
+    private TransactionDTO applySplitTransfer(SplitTransferRequest request, List<String> accountNumbers, String idempotencyKey) {
+        log.info("Processing split transfer from account {} to {} destinations",
+                request.getSourceAccountNumber(), request.getLegs().size());
+
+        // Lock the source and every destination row in id order
+        Map<String, Account> accounts = lockAccounts("split-transfer", accountNumbers.toArray(new String[0]));
+        Account sourceAccount = accounts.get(request.getSourceAccountNumber());
+
+        if (!sourceAccount.isActive()) {
+            throw new InvalidOperationException("Cannot transfer from an inactive account");
+        }
+        // Legs are in the source currency; cross-currency ones are converted with one rate snapshot for all
+        FxRateTable rates = fxRateService.current();
+        List<FxRateTable.Conversion> conversions = new ArrayList<>(request.getLegs().size());
+        for (SplitTransferLegRequest leg : request.getLegs()) {
+            Account destinationAccount = accounts.get(leg.getDestinationAccountNumber());
+            if (!destinationAccount.isActive()) {
+                throw new InvalidOperationException("Cannot transfer to inactive account " + leg.getDestinationAccountNumber());
+            }
+            conversions.add(conversion(rates, sourceAccount, destinationAccount, leg.getAmount()));
+        }
+
+        // Limits and overdraft are checked once, against the total
+        BigDecimal total = request.getLegs().stream()
+                .map(SplitTransferLegRequest::getAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        validateDailyWithdrawalLimit(sourceAccount, total);
+        validateDailyTransactionLimit(sourceAccount, total, TransactionType.TRANSFER);
+
+        BigDecimal availableBalance = sourceAccount.availableBalance();
+        if (availableBalance.compareTo(total) < 0) {
+            throw new InsufficientBalanceException("Insufficient balance for transfer");
+        }
+
+        // Claim the client reference only once every check has passed
+        String sourceTransactionId = accountNumberGenerator.generateTransactionId();
+        idempotencyService.claim(idempotencyKey, sourceTransactionId);
+
+        String reference = request.getReferenceNumber() != null
+                ? request.getReferenceNumber() : accountNumberGenerator.generateReferenceNumber();
+
+        // Debit the source once for the total
+        BigDecimal newSourceBalance = sourceAccount.getBalance().subtract(total);
+        sourceAccount.setBalance(newSourceBalance);
+        accountRepository.save(sourceAccount);
+
+        Transaction sourceTransaction = new Transaction();
+        sourceTransaction.setAccount(sourceAccount);
+        sourceTransaction.setTransactionId(sourceTransactionId);
+        sourceTransaction.setAmount(total);
+        sourceTransaction.setTransactionType(TransactionType.TRANSFER);
+        sourceTransaction.setStatus(TransactionStatus.COMPLETED);
+        sourceTransaction.setDescription(request.getDescription() != null
+                ? request.getDescription() : "Split transfer to " + request.getLegs().size() + " accounts");
+        sourceTransaction.setReferenceNumber(reference);
+        sourceTransaction.setSourceAccountNumber(request.getSourceAccountNumber());
+        sourceTransaction.setBalanceAfterTransaction(newSourceBalance);
+
+        List<Transaction> transactions = new ArrayList<>(request.getLegs().size() + 1);
+        List<JournalService.Leg> journalLegs = new ArrayList<>(request.getLegs().size() + 1);
+        transactions.add(sourceTransaction);
+        journalLegs.add(new JournalService.Leg(sourceAccount.getId(), total.negate(), newSourceBalance, sourceTransactionId));
+
+        for (int i = 0; i < request.getLegs().size(); i++) {
+            SplitTransferLegRequest leg = request.getLegs().get(i);
+            Account destinationAccount = accounts.get(leg.getDestinationAccountNumber());
+            FxRateTable.Conversion conversion = conversions.get(i);
+            BigDecimal creditAmount = conversion != null ? conversion.amount() : leg.getAmount();
+            BigDecimal newDestinationBalance = destinationAccount.getBalance().add(creditAmount);
+            destinationAccount.setBalance(newDestinationBalance);
+            accountRepository.save(destinationAccount);
+
+            Transaction destinationTransaction = new Transaction();
+            destinationTransaction.setAccount(destinationAccount);
+            destinationTransaction.setTransactionId(accountNumberGenerator.generateTransactionId());
+            destinationTransaction.setAmount(creditAmount);
+            destinationTransaction.setTransactionType(TransactionType.DEPOSIT);
+            destinationTransaction.setStatus(TransactionStatus.COMPLETED);
+            destinationTransaction.setDescription(leg.getDescription() != null
+                    ? leg.getDescription() : "Transfer from " + request.getSourceAccountNumber());
+            destinationTransaction.setReferenceNumber(reference);
+            destinationTransaction.setSourceAccountNumber(request.getSourceAccountNumber());
+            destinationTransaction.setDestinationAccountNumber(leg.getDestinationAccountNumber());
+            destinationTransaction.setBalanceAfterTransaction(newDestinationBalance);
+            destinationTransaction.setFxRate(conversion != null ? conversion.rate() : null);
+
+            transactions.add(destinationTransaction);
+            journalLegs.add(new JournalService.Leg(destinationAccount.getId(), creditAmount, newDestinationBalance,
+                    destinationTransaction.getTransactionId(), conversion != null ? leg.getAmount() : null));
+            dailyLimitService.record(destinationAccount, TransactionType.DEPOSIT, creditAmount);
+        }
+
+        // All statement rows go out in one batched insert at flush
+        transactionRepository.saveAll(transactions);
+        journalService.post(TransactionType.TRANSFER, reference, "Split transfer from " + request.getSourceAccountNumber(),
+                journalLegs);
+        dailyLimitService.record(sourceAccount, TransactionType.TRANSFER, total);
+
+        log.info("Split transfer completed successfully, new source balance: {}", newSourceBalance);
+
+        return entityMapper.mapToTransactionDTO(sourceTransaction);
+    }
+
     public TransactionDTO getTransactionById(String transactionId) {
         log.info("Fetching transaction with ID: {}", transactionId);
         Transaction transaction = transactionRepository.findByTransactionId(transactionId)
@@ -229,52 +520,239 @@ public class TransactionService {
         return entityMapper.mapToTransactionDTO(transaction);
     }
 
+    // History reads select TransactionDTO rows directly (see TransactionRepository.HISTORY_SELECT): one
+    // statement, nothing for the persistence context to track. The account is only looked up when no
+    // rows came back, to tell an empty history from an unknown account.
+    @Transactional(readOnly = true)
     public List<TransactionDTO> getTransactionsByAccountNumber(String accountNumber) {
         log.info("Fetching transactions for account: {}", accountNumber);
 
-        // Verify account exists
-        if (!accountRepository.findByAccountNumber(accountNumber).isPresent()) {
-            throw new ResourceNotFoundException("Account", "account number", accountNumber);
+        accountNumberGenerator.requireValidAccountNumber(accountNumber);
+        List<TransactionDTO> transactions = transactionRepository.findHistoryByAccountNumber(accountNumber);
+        if (transactions.isEmpty()) {
+            requireAccount(accountNumber);
         }
-
-        List<Transaction> transactions = transactionRepository.findByAccountAccountNumber(accountNumber);
-        return entityMapper.mapToTransactionDTOList(transactions);
+        return transactions;
     }
 
+    @Transactional(readOnly = true)
     public Map<String, Object> getTransactionsByAccountNumberPaginated(
             String accountNumber, int page, int size, String sortBy, String direction) {
         log.info("Fetching paginated transactions for account: {}", accountNumber);
 
-        // Verify account exists
-        if (!accountRepository.findByAccountNumber(accountNumber).isPresent()) {
-            throw new ResourceNotFoundException("Account", "account number", accountNumber);
-        }
-
+        accountNumberGenerator.requireValidAccountNumber(accountNumber);
         Pageable pageable = PaginationUtil.createPageable(page, size, sortBy, direction);
-        Page<Transaction> transactionPage = transactionRepository.findByAccountAccountNumber(accountNumber, pageable);
+        Page<TransactionDTO> transactionPage = transactionRepository.findHistoryByAccountNumber(accountNumber, pageable);
+        if (transactionPage.getTotalElements() == 0) {
+            requireAccount(accountNumber);
+        }
 
         return PaginationUtil.createPageResponse(transactionPage);
     }
 
+    // Seeks past the cursor instead of skipping OFFSET rows, so every page costs the same; one extra
+    // row is read to tell whether another page follows
+    @Transactional(readOnly = true)
+    public Map<String, Object> getTransactionHistory(String accountNumber, String cursor, int size) {
+        log.info("Fetching transaction history for account: {}", accountNumber);
+
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new InvalidOperationException("Page size must be between 1 and " + MAX_HISTORY_PAGE_SIZE);
+        }
+        accountNumberGenerator.requireValidAccountNumber(accountNumber);
+
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<TransactionDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = transactionRepository.findHistoryPage(accountNumber, limit);
+            if (rows.isEmpty()) {
+                requireAccount(accountNumber);
+            }
+        } else {
+            HistoryCursor after = HistoryCursor.decode(cursor);
+            rows = transactionRepository.findHistoryPageBefore(accountNumber, after.transactionDate(), after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<TransactionDTO> page = hasNext ? rows.subList(0, size) : rows;
+        TransactionDTO last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("content", page);
+        response.put("size", page.size());
+        response.put("hasNext", hasNext);
+        response.put("nextCursor", hasNext ? new HistoryCursor(last.getTransactionDate(), last.getId()).encode() : null);
+        return response;
+    }
+
+    @Transactional(readOnly = true)
     public List<TransactionDTO> getTransactionsByDateRange(String accountNumber, LocalDateTime startDate, LocalDateTime endDate) {
         log.info("Fetching transactions for account {} between {} and {}", accountNumber, startDate, endDate);
 
-        // Verify account exists
+        accountNumberGenerator.requireValidAccountNumber(accountNumber);
+        List<TransactionDTO> transactions = transactionRepository.findHistoryByAccountNumberAndDateRange(
+                accountNumber, startDate, endDate);
+        if (transactions.isEmpty()) {
+            requireAccount(accountNumber);
+        }
+        return transactions;
+    }
+
+    public List<JournalPostingDTO> getJournalPostings(String accountNumber, LocalDateTime startDate, LocalDateTime endDate) {
+        log.info("Fetching journal postings for account {} between {} and {}", accountNumber, startDate, endDate);
+
+        accountNumberGenerator.requireValidAccountNumber(accountNumber);
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Account", "account number", accountNumber));
+
+        return journalService.getPostings(account.getId(), startDate, endDate);
+    }
+
+    public int rebuildDailyTotals(LocalDate fromDate, LocalDate toDate) {
+        if (fromDate.isAfter(toDate)) {
+            throw new InvalidOperationException("fromDate must not be after toDate");
+        }
+        return dailyLimitService.rebuild(fromDate, toDate);
+    }
+
+    // Helper methods
+    // Answers a replayed client reference with the original posting instead of posting again
+    private TransactionDTO idempotent(String idempotencyKey, Supplier<TransactionDTO> posting) {
+        if (idempotencyKey == null) {
+            return posting.get();
+        }
+
+        TransactionDTO recent = idempotencyService.findRecent(idempotencyKey);
+        if (recent != null) {
+            log.info("Replayed posting {} answered from recent postings", idempotencyKey);
+            return recent;
+        }
+
+        try {
+            TransactionDTO result = posting.get();
+            idempotencyService.remember(idempotencyKey, result);
+            return result;
+        } catch (DuplicatePostingException e) {
+            log.info("Replayed posting {} answered with the original", idempotencyKey);
+            return idempotencyService.findOriginal(idempotencyKey).orElseThrow(() -> e);
+        } catch (InvalidOperationException | InsufficientBalanceException e) {
+            // A replay of a committed posting can fail today's checks; only then pay for the lookup
+            return idempotencyService.findOriginal(idempotencyKey).orElseThrow(() -> e);
+        }
+    }
+
+    // Async postings fill in the PENDING row accepted earlier instead of inserting a new one
+    private Transaction statementRow(String pendingTransactionId) {
+        if (pendingTransactionId == null) {
+            Transaction transaction = new Transaction();
+            transaction.setTransactionId(accountNumberGenerator.generateTransactionId());
+            return transaction;
+        }
+
+        Transaction pending = transactionRepository.findByTransactionId(pendingTransactionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Transaction", "id", pendingTransactionId));
+        if (pending.getStatus() == TransactionStatus.COMPLETED) {
+            // Another worker got here first
+            throw new DuplicatePostingException(pendingTransactionId);
+        }
+        pending.setTransactionDate(LocalDateTime.now());
+        pending.setFailureReason(null);
+        pending.setNextAttemptAt(null);
+        return pending;
+    }
+
+    // JPA postings take the per-account lock before the DB transaction starts and release it
+    // only after commit, so a waiting posting always reads the committed balance.
+    // The database engine calls postingExecutor directly and bypasses group commit: its row updates
+    // would leave the batch's pre-loaded Account entities stale for any JPA posting later in the same batch.
+    private TransactionDTO post(String operation, List<String> accountNumbers, Supplier<TransactionDTO> posting) {
+        if (groupCommitExecutor.isEnabled()) {
+            return groupCommitExecutor.submit(operation, accountNumbers, posting);
+        }
+        return postingExecutor.execute(operation, accountNumbers, posting);
+    }
+
+    private TransactionDTO timed(String operation, String engine, Supplier<TransactionDTO> posting) {
+        long start = System.nanoTime();
+        try {
+            return posting.get();
+        } finally {
+            postingMetrics.recordPosting(operation, engine, System.nanoTime() - start);
+        }
+    }
+
+    private AccountLockMode resolveLockMode(String accountNumber) {
+        // Group-committed postings run on rows the batch already locked
+        if (BatchLockedAccounts.isBound()) {
+            return AccountLockMode.PESSIMISTIC;
+        }
+        return lockModeResolver.resolve(accountNumber);
+    }
+
+    private Account loadAccount(String operation, String accountNumber, AccountLockMode lockMode) {
+        if (lockMode == AccountLockMode.OPTIMISTIC) {
+            return accountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new ResourceNotFoundException("Account", "account number", accountNumber));
+        }
+        return lockAccounts(operation, accountNumber).get(accountNumber);
+    }
+
+    private void saveAccount(Account account, AccountLockMode lockMode) {
+        if (lockMode == AccountLockMode.PESSIMISTIC) {
+            accountRepository.save(account);
+            return;
+        }
+
+        // Flush now so a lost version check surfaces here and the posting executor retries it
+        try {
+            accountRepository.saveAndFlush(account);
+            lockModeResolver.recordOptimisticOutcome(account.getAccountType(), false);
+        } catch (OptimisticLockingFailureException e) {
+            lockModeResolver.recordOptimisticOutcome(account.getAccountType(), true);
+            throw e;
+        }
+    }
+
+    private void requireAccount(String accountNumber) {
         if (!accountRepository.findByAccountNumber(accountNumber).isPresent()) {
             throw new ResourceNotFoundException("Account", "account number", accountNumber);
         }
+    }
 
-        List<Transaction> transactions = transactionRepository.findTransactionsByAccountNumberAndDateRange(
-                accountNumber, startDate, endDate);
+    private Map<String, Account> lockAccounts(String operation, String... accountNumbers) {
+        Map<String, Account> accounts;
+        if (BatchLockedAccounts.isBound()) {
+            accounts = BatchLockedAccounts.current();
+        } else {
+            long start = System.nanoTime();
+            List<Account> locked = accountRepository.findAllByAccountNumberInForUpdate(List.of(accountNumbers));
+            postingMetrics.recordRowLockWait(operation, System.nanoTime() - start);
+            accounts = locked.stream()
+                    .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+        }
+        for (String accountNumber : accountNumbers) {
+            if (!accounts.containsKey(accountNumber)) {
+                throw new ResourceNotFoundException("Account", "account number", accountNumber);
+            }
+        }
+        return accounts;
+    }
 
-        return entityMapper.mapToTransactionDTOList(transactions);
+    // Null when both accounts hold the same currency
+    private FxRateTable.Conversion conversion(FxRateTable rates, Account sourceAccount, Account destinationAccount,
+                                              BigDecimal amount) {
+        String from = sourceAccount.getCurrency();
+        String to = destinationAccount.getCurrency();
+        if (from == null || to == null || from.equals(to)) {
+            return null;
+        }
+        return fxRateService.convert(rates, amount, from, to);
     }
 
-    // Helper methods
     private void validateDailyTransactionLimit(Account account, BigDecimal amount, TransactionType type) {
         BigDecimal dailyLimit = account.getDailyTransactionLimit();
         if (dailyLimit != null) {
-            BigDecimal dailyTotal = accountService.getDailyTransactionTotal(account.getId(), type);
+            BigDecimal dailyTotal = dailyLimitService.getDailyTotal(account, type);
             if (dailyTotal.add(amount).compareTo(dailyLimit) > 0) {
                 throw new InvalidOperationException("Daily transaction limit exceeded");
             }
@@ -284,8 +762,8 @@ public class TransactionService {
     private void validateDailyWithdrawalLimit(Account account, BigDecimal amount) {
         BigDecimal withdrawalLimit = account.getDailyWithdrawalLimit();
         if (withdrawalLimit != null) {
-            BigDecimal dailyWithdrawalTotal = accountService.getDailyTransactionTotal(account.getId(), TransactionType.WITHDRAWAL);
-            BigDecimal dailyTransferTotal = accountService.getDailyTransactionTotal(account.getId(), TransactionType.TRANSFER);
+            BigDecimal dailyWithdrawalTotal = dailyLimitService.getDailyTotal(account, TransactionType.WITHDRAWAL);
+            BigDecimal dailyTransferTotal = dailyLimitService.getDailyTotal(account, TransactionType.TRANSFER);
 
             BigDecimal totalWithdrawals = dailyWithdrawalTotal.add(dailyTransferTotal).add(amount);
             if (totalWithdrawals.compareTo(withdrawalLimit) > 0) {
@@ -1,32 +1,100 @@
 package com.bankingapplication.account_service.util;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Random;
-import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.bankingapplication.account_service.entity.AccountType;
+import com.bankingapplication.account_service.exception.InvalidOperationException;
+import com.bankingapplication.account_service.repository.AccountNumberCounterRepository;
 
 @Component
 public class AccountNumberGenerator {
 
+    private static final Logger log = LoggerFactory.getLogger(AccountNumberGenerator.class);
+
     private static final Random RANDOM = new Random();
 
+    private static final long MAX_SEQUENCE = 9_999_999_999L;
+    // Numbers issued before block allocation: type code + 10 random digits, no check digit
+    private static final int LEGACY_LENGTH = 12;
+    private static final int LENGTH = 13;
+
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final AccountNumberCounterRepository accountNumberCounterRepository;
+    private final TransactionTemplate reservationTemplate;
+    private final long blockSize;
+    private final Map<AccountType, AtomicReference<Block>> blocks = new EnumMap<>(AccountType.class);
+
+    public AccountNumberGenerator(SnowflakeIdGenerator snowflakeIdGenerator,
+                                  AccountNumberCounterRepository accountNumberCounterRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.account-number.block-size:100}") long blockSize) {
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+        this.accountNumberCounterRepository = accountNumberCounterRepository;
+        // Reserve in a separate transaction so the counter row lock is not held until the account commits
+        this.reservationTemplate = new TransactionTemplate(transactionManager);
+        this.reservationTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+        for (AccountType accountType : AccountType.values()) {
+            blocks.put(accountType, new AtomicReference<>(Block.EMPTY));
+        }
+    }
+
     public String generateAccountNumber(AccountType accountType) {
-        // Format: 2-digit account type code + 10-digit random number
-        String typeCode = getTypeCode(accountType);
-        String randomPart = String.format("%010d", Math.abs(UUID.randomUUID().getLeastSignificantBits() % 10000000000L));
-        return typeCode + randomPart;
+        // Format: 2-letter account type code + 10-digit sequence + Luhn check digit
+        String digits = String.format("%010d", nextSequence(accountType));
+        return getTypeCode(accountType) + digits + luhnCheckDigit(digits);
     }
 
+    // Time-ordered so inserts land at the right edge of the transaction_id index
     public String generateTransactionId() {
-        return "TXN" + UUID.randomUUID().toString().replace("-", "").substring(0, 16).toUpperCase();
+        return snowflakeIdGenerator.nextTransactionId();
     }
 
     public String generateReferenceNumber() {
         return "REF" + System.currentTimeMillis() + RANDOM.nextInt(1000);
     }
 
+    private long nextSequence(AccountType accountType) {
+        AtomicReference<Block> current = blocks.get(accountType);
+        while (true) {
+            Block block = current.get();
+            long value = block.next().getAndIncrement();
+            if (value < block.end()) {
+                return value;
+            }
+            synchronized (current) {
+                // Another thread may have refilled the block while we waited
+                if (current.get() == block) {
+                    current.set(reserveBlock(accountType));
+                }
+            }
+        }
+    }
+
+    private Block reserveBlock(AccountType accountType) {
+        long end = reservationTemplate.execute(status -> {
+            accountNumberCounterRepository.reserveBlock(accountType.name(), blockSize);
+            return accountNumberCounterRepository.findNextValue(accountType.name());
+        });
+        if (end - 1 > MAX_SEQUENCE) {
+            throw new IllegalStateException("Account number range exhausted for " + accountType);
+        }
+        log.debug("Reserved {} account numbers [{}, {})", accountType, end - blockSize, end);
+        return new Block(new AtomicLong(end - blockSize), end);
+    }
+
     private String getTypeCode(AccountType accountType) {
         switch (accountType) {
             case SAVINGS:
@@ -44,20 +112,68 @@ public class AccountNumberGenerator {
         }
     }
 
-    // Luhn algorithm for account number validation
+    // Format and Luhn check only, so malformed input is rejected without a database lookup
     public boolean validateAccountNumber(String accountNumber) {
-        if (accountNumber == null || accountNumber.length() < 12) {
+        if (accountNumber == null || (accountNumber.length() != LENGTH && accountNumber.length() != LEGACY_LENGTH)) {
+            return false;
+        }
+
+        String typeCode = accountNumber.substring(0, 2);
+        if (!isKnownTypeCode(typeCode)) {
             return false;
         }
 
         // Skip the first two characters (account type code)
         String numericPart = accountNumber.substring(2);
+        for (int i = 0; i < numericPart.length(); i++) {
+            char c = numericPart.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
 
-        // Check if numeric part contains only digits
-        if (!numericPart.matches("\\d+")) {
-            return false;
+        if (accountNumber.length() == LEGACY_LENGTH) {
+            return true;
+        }
+        String digits = numericPart.substring(0, numericPart.length() - 1);
+        return numericPart.charAt(numericPart.length() - 1) - '0' == luhnCheckDigit(digits);
+    }
+
+    public void requireValidAccountNumber(String accountNumber) {
+        if (!validateAccountNumber(accountNumber)) {
+            throw new InvalidOperationException("Invalid account number: " + accountNumber);
+        }
+    }
+
+    private boolean isKnownTypeCode(String typeCode) {
+        for (AccountType accountType : AccountType.values()) {
+            if (getTypeCode(accountType).equals(typeCode)) {
+                return true;
+            }
         }
+        return "AC".equals(typeCode);
+    }
+
+    static int luhnCheckDigit(String digits) {
+        int sum = 0;
+        // Double every second digit starting from the rightmost payload digit
+        boolean doubleIt = true;
+        for (int i = digits.length() - 1; i >= 0; i--) {
+            int d = digits.charAt(i) - '0';
+            if (doubleIt) {
+                d *= 2;
+                if (d > 9) {
+                    d -= 9;
+                }
+            }
+            sum += d;
+            doubleIt = !doubleIt;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    private record Block(AtomicLong next, long end) {
 
-        return true;
+        static final Block EMPTY = new Block(new AtomicLong(), 0);
     }
 }
@@ -0,0 +1,117 @@
+package com.bankingapplication.account_service.util;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of FX rates. Every derivable pair (direct, inverse and crossed through the
+ * pivot currency) is resolved once when the table is built, so a conversion is two hash lookups and
+ * a multiply. Readers hold on to one table for the whole posting, which keeps both legs on the same
+ * rate even if a new table is published meanwhile.
+ */
+public final class FxRateTable {
+
+    public static final int RATE_SCALE = 10;
+    public static final int AMOUNT_SCALE = 2;
+
+    private static final MathContext RATE_PRECISION = new MathContext(20, RoundingMode.HALF_EVEN);
+
+    private final Map<String, Map<String, BigDecimal>> rates;
+    private final int quotedPairs;
+    private final LocalDateTime loadedAt;
+
+    private FxRateTable(Map<String, Map<String, BigDecimal>> rates, int quotedPairs, LocalDateTime loadedAt) {
+        this.rates = rates;
+        this.quotedPairs = quotedPairs;
+        this.loadedAt = loadedAt;
+    }
+
+    public static FxRateTable empty() {
+        return new FxRateTable(Map.of(), 0, null);
+    }
+
+    // quotes: base -> (quote -> units of quote per one unit of base); pivot may be null
+    public static FxRateTable of(Map<String, Map<String, BigDecimal>> quotes, String pivot, LocalDateTime loadedAt) {
+        Map<String, Map<String, BigDecimal>> resolved = new HashMap<>();
+        int quotedPairs = 0;
+        for (Map.Entry<String, Map<String, BigDecimal>> base : quotes.entrySet()) {
+            for (Map.Entry<String, BigDecimal> quote : base.getValue().entrySet()) {
+                BigDecimal rate = quote.getValue();
+                if (rate == null || rate.signum() <= 0) {
+                    throw new IllegalArgumentException("FX rate " + base.getKey() + "/" + quote.getKey() + " must be positive");
+                }
+                put(resolved, base.getKey(), quote.getKey(), rate, true);
+                put(resolved, quote.getKey(), base.getKey(), BigDecimal.ONE.divide(rate, RATE_PRECISION), false);
+                quotedPairs++;
+            }
+        }
+
+        Map<String, BigDecimal> viaPivot = pivot != null ? resolved.get(pivot) : null;
+        if (viaPivot != null) {
+            Set<String> currencies = Set.copyOf(viaPivot.keySet());
+            for (String from : currencies) {
+                BigDecimal fromToPivot = resolved.get(from).get(pivot);
+                for (String to : currencies) {
+                    if (!from.equals(to)) {
+                        put(resolved, from, to, fromToPivot.multiply(viaPivot.get(to), RATE_PRECISION), false);
+                    }
+                }
+            }
+        }
+
+        Map<String, Map<String, BigDecimal>> frozen = new HashMap<>();
+        resolved.forEach((from, row) -> {
+            Map<String, BigDecimal> scaled = new HashMap<>();
+            row.forEach((to, rate) -> scaled.put(to, rate.setScale(RATE_SCALE, RoundingMode.HALF_EVEN)));
+            frozen.put(from, Map.copyOf(scaled));
+        });
+        return new FxRateTable(Map.copyOf(frozen), quotedPairs, loadedAt);
+    }
+
+    // Null when the pair cannot be derived from this table
+    public BigDecimal rate(String from, String to) {
+        if (from.equals(to)) {
+            return BigDecimal.ONE;
+        }
+        Map<String, BigDecimal> row = rates.get(from);
+        return row != null ? row.get(to) : null;
+    }
+
+    // Null when the pair cannot be derived from this table
+    public Conversion convert(BigDecimal amount, String from, String to) {
+        BigDecimal rate = rate(from, to);
+        if (rate == null) {
+            return null;
+        }
+        return new Conversion(rate, amount.multiply(rate).setScale(AMOUNT_SCALE, RoundingMode.HALF_EVEN));
+    }
+
+    public Map<String, Map<String, BigDecimal>> rates() {
+        return rates;
+    }
+
+    public int quotedPairs() {
+        return quotedPairs;
+    }
+
+    public LocalDateTime loadedAt() {
+        return loadedAt;
+    }
+
+    // A directly quoted rate wins over a derived one for the same pair
+    private static void put(Map<String, Map<String, BigDecimal>> rates, String from, String to, BigDecimal rate,
+                            boolean quoted) {
+        Map<String, BigDecimal> row = rates.computeIfAbsent(from, currency -> new HashMap<>());
+        if (quoted || !row.containsKey(to)) {
+            row.put(to, rate);
+        }
+    }
+
+    public record Conversion(BigDecimal rate, BigDecimal amount) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.bankingapplication.account_service.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel: level i has {@code wheelSize} buckets of {@code wheelSize^i} ticks
+ * each, so adding an item and expiring a tick are O(1) regardless of how many items are waiting.
+ * When the clock reaches a higher-level bucket its items are cascaded into the lower levels, and
+ * level-0 buckets hold the items due on exactly that tick.
+ *
+ * Not thread-safe; the owner adds and advances from a single thread.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] levelTicks;
+    private final List<List<Entry<T>>> buckets;
+    private final List<T> due = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("Timing wheel needs a positive tick, at least 2 buckets and 1 level");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levelTicks = new long[levels + 1];
+        this.levelTicks[0] = 1;
+        for (int i = 1; i <= levels; i++) {
+            this.levelTicks[i] = Math.multiplyExact(this.levelTicks[i - 1], wheelSize);
+        }
+        this.buckets = new ArrayList<>(levels * wheelSize);
+        for (int i = 0; i < levels * wheelSize; i++) {
+            this.buckets.add(new ArrayList<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    // Furthest deadline that fits: wheelSize^levels ticks ahead of the current tick
+    public long horizonMillis() {
+        return (currentTick + levelTicks[levelTicks.length - 1] - 1) * tickMillis;
+    }
+
+    public void add(T item, long deadlineMillis) {
+        if (deadlineMillis > horizonMillis()) {
+            throw new IllegalArgumentException("Deadline " + deadlineMillis + " is beyond the wheel horizon " + horizonMillis());
+        }
+        place(new Entry<>(deadlineMillis / tickMillis, item));
+        size++;
+    }
+
+    // Moves the clock to nowMillis and returns every item whose deadline has passed, in tick order
+    public List<T> advanceTo(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            // Cascade from the top so an item can fall through several levels on the same tick
+            for (int level = levelTicks.length - 2; level >= 1; level--) {
+                if (currentTick % levelTicks[level] == 0) {
+                    List<Entry<T>> bucket = bucket(level, currentTick);
+                    List<Entry<T>> cascading = new ArrayList<>(bucket);
+                    bucket.clear();
+                    cascading.forEach(this::place);
+                }
+            }
+            List<Entry<T>> expiring = bucket(0, currentTick);
+            for (Entry<T> entry : expiring) {
+                due.add(entry.item());
+            }
+            expiring.clear();
+        }
+
+        List<T> expired = new ArrayList<>(due);
+        due.clear();
+        size -= expired.size();
+        return expired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.deadlineTick() - currentTick;
+        if (delta <= 0) {
+            due.add(entry.item());
+            return;
+        }
+        int level = 0;
+        while (delta >= levelTicks[level + 1]) {
+            level++;
+        }
+        bucket(level, entry.deadlineTick()).add(entry);
+    }
+
+    private List<Entry<T>> bucket(int level, long tick) {
+        int slot = (int) ((tick / levelTicks[level]) % wheelSize);
+        return buckets.get(level * wheelSize + slot);
+    }
+
+    private record Entry<T>(long deadlineTick, T item) {
+    }
+}
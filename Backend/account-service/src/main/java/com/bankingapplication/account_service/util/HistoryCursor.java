@@ -0,0 +1,34 @@
+package com.bankingapplication.account_service.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.bankingapplication.account_service.exception.InvalidOperationException;
+
+/**
+ * Continuation token for keyset-paged transaction history: the (transaction_date, id) of the last
+ * row returned, newest first. Opaque to clients; the next page seeks strictly past it.
+ */
+public record HistoryCursor(LocalDateTime transactionDate, long id) {
+
+    public String encode() {
+        String raw = transactionDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static HistoryCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new InvalidOperationException("Invalid history cursor");
+            }
+            return new HistoryCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidOperationException("Invalid history cursor");
+        }
+    }
+}
@@ -22,6 +22,7 @@ public class PaginationUtil {
         return PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
     }
 
+    // The page is serialized as is: pass DTOs, never entities
     public static <T> Map<String, Object> createPageResponse(Page<T> page) {
         Map<String, Object> response = new HashMap<>();
 
@@ -0,0 +1,84 @@
+package com.bankingapplication.account_service.util;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Roughly time-ordered 64-bit ids: 41 bits of milliseconds since 2024-01-01, 10 bits of node id
+ * and a 12-bit per-millisecond sequence. Lock-free; when a millisecond's sequence is exhausted or
+ * the clock steps backwards, the generator keeps counting into the next logical millisecond so ids
+ * stay strictly increasing per node.
+ */
+@Component
+public class SnowflakeIdGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SnowflakeIdGenerator.class);
+
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    // (elapsed millis << SEQUENCE_BITS) | sequence of the last issued id
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(@Value("${app.id.node-id:-1}") long configuredNodeId,
+                                @Value("${eureka.instance.instance-id:}") String instanceId) {
+        if (configuredNodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("app.id.node-id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = configuredNodeId >= 0 ? configuredNodeId : deriveNodeId(instanceId);
+        log.info("Snowflake id generator using node id {}", nodeId);
+    }
+
+    public long nextId() {
+        long now = System.currentTimeMillis() - EPOCH_MILLIS;
+        while (true) {
+            long previous = state.get();
+            long previousMillis = previous >>> SEQUENCE_BITS;
+            // A full sequence carries into the millisecond bits, borrowing the next millisecond
+            long next = now > previousMillis ? now << SEQUENCE_BITS : previous + 1;
+            if (state.compareAndSet(previous, next)) {
+                return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS))
+                        | (nodeId << SEQUENCE_BITS)
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    // Fixed-width hex keeps the existing "TXN" + 16 characters format and sorts in id order
+    public String nextTransactionId() {
+        return "TXN" + String.format("%016X", nextId());
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    // Without an explicit node id, hash the Eureka instance id (or host name). Collisions are possible,
+    // so deployments with several instances should set app.id.node-id.
+    private static long deriveNodeId(String instanceId) {
+        String source = instanceId;
+        if (source == null || source.isBlank()) {
+            try {
+                source = InetAddress.getLocalHost().getHostName() + ":" + ProcessHandle.current().pid();
+            } catch (UnknownHostException e) {
+                source = String.valueOf(ProcessHandle.current().pid());
+            }
+        }
+        return (source.hashCode() & 0x7fffffffL) % (MAX_NODE_ID + 1);
+    }
+}
@@ -0,0 +1,5 @@
+-- Built by ConcurrentIndexService in the background; one statement per file.
+-- Account history reads (account_id, posted_at range ordered by posted_at, entry_id) become index-only scans
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_journal_postings_account_posted
+    ON journal_postings (account_id, posted_at, entry_id)
+    INCLUDE (leg, amount, balance_after, transaction_id);
@@ -0,0 +1,7 @@
+-- Built by ConcurrentIndexService in the background; one statement per file.
+-- An account's completed postings in a date range: summed by the end-of-day snapshot job and the as-of-date
+-- balance lookup. The keyset-paged transaction history walks it backwards, (transaction_date DESC, id DESC),
+-- so it needs no index of its own
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_account_date
+    ON transactions (account_id, transaction_date, id)
+    INCLUDE (balance_after_transaction, transaction_status);
@@ -0,0 +1,5 @@
+-- Built by ConcurrentIndexService in the background; one statement per file.
+-- PostingRetryWorker claims due rows in next_attempt_at order; only unfinished rows are indexed
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_retry_due
+    ON transactions (next_attempt_at NULLS FIRST)
+    WHERE transaction_status IN ('PENDING', 'FAILED');
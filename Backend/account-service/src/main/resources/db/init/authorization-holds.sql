@@ -0,0 +1,17 @@
+-- Runs after Hibernate's schema update on every startup. Idempotent.
+
+-- Rows that predate the column: nothing is held
+UPDATE accounts SET held_amount = 0 WHERE held_amount IS NULL;
+
+-- HoldExpiryScheduler window loads: active holds in (expires_at, hold_id) keyset order
+CREATE INDEX IF NOT EXISTS idx_authorization_holds_expiry
+    ON authorization_holds (expires_at, hold_id)
+    WHERE status = 'ACTIVE';
+
+CREATE INDEX IF NOT EXISTS idx_authorization_holds_account
+    ON authorization_holds (account_number, created_at);
+
+-- Idempotent placement by client reference
+CREATE UNIQUE INDEX IF NOT EXISTS uk_authorization_holds_reference
+    ON authorization_holds (account_number, reference_number)
+    WHERE reference_number IS NOT NULL;
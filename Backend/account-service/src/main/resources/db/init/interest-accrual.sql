@@ -0,0 +1,6 @@
+-- Runs after Hibernate's schema update on every startup. Idempotent.
+
+-- Interest accrual walks SAVINGS accounts in id order within each partition
+CREATE INDEX IF NOT EXISTS idx_accounts_savings_id
+    ON accounts (id)
+    WHERE account_type = 'SAVINGS';
@@ -0,0 +1,32 @@
+-- Runs after Hibernate's schema update on every startup (spring.jpa.defer-datasource-initialization).
+-- Moves ids that used to be IDENTITY columns onto the pooled-lo sequences. Idempotent, and after the
+-- first run it takes no table locks: every step checks the catalog before touching anything.
+
+-- Stop the old identity defaults from handing out ids that collide with sequence blocks. ALTER TABLE
+-- takes an ACCESS EXCLUSIVE lock even with nothing to drop, so it only runs while an identity is left.
+-- The body is single-quoted so the script splitter keeps it in one piece.
+DO '
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns WHERE table_schema = current_schema()
+               AND table_name = ''accounts'' AND column_name = ''id'' AND is_identity = ''YES'') THEN
+        ALTER TABLE accounts ALTER COLUMN id DROP IDENTITY;
+    END IF;
+    IF EXISTS (SELECT 1 FROM information_schema.columns WHERE table_schema = current_schema()
+               AND table_name = ''transactions'' AND column_name = ''id'' AND is_identity = ''YES'') THEN
+        ALTER TABLE transactions ALTER COLUMN id DROP IDENTITY;
+    END IF;
+END';
+
+-- Move a sequence past existing rows only when they lie beyond every block it has handed out, i.e. ids
+-- left by the identity columns. The newest block ends at last_value + increment_by - 1 (the increment is
+-- the entity's allocationSize), so blocks running instances still hold are never reissued.
+SELECT setval('accounts_seq', (SELECT MAX(id) FROM accounts) + 1, false)
+WHERE (SELECT MAX(id) FROM accounts) >
+      (SELECT CASE WHEN s.is_called THEN s.last_value + p.increment_by - 1 ELSE s.last_value - 1 END
+       FROM accounts_seq s CROSS JOIN pg_sequences p
+       WHERE p.schemaname = current_schema() AND p.sequencename = 'accounts_seq');
+SELECT setval('transactions_seq', (SELECT MAX(id) FROM transactions) + 1, false)
+WHERE (SELECT MAX(id) FROM transactions) >
+      (SELECT CASE WHEN s.is_called THEN s.last_value + p.increment_by - 1 ELSE s.last_value - 1 END
+       FROM transactions_seq s CROSS JOIN pg_sequences p
+       WHERE p.schemaname = current_schema() AND p.sequencename = 'transactions_seq');
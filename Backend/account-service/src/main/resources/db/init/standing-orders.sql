@@ -0,0 +1,9 @@
+-- Runs after Hibernate's schema update on every startup. Idempotent.
+
+-- StandingOrderScheduler window loads: active orders in (next_execution_at, order_id) keyset order
+CREATE INDEX IF NOT EXISTS idx_standing_orders_due
+    ON standing_orders (next_execution_at, order_id)
+    WHERE status = 'ACTIVE';
+
+CREATE INDEX IF NOT EXISTS idx_standing_orders_source
+    ON standing_orders (source_account_number);
@@ -0,0 +1,16 @@
+-- Runs after Hibernate's schema update on every startup. Idempotent.
+
+-- transaction_id is unique. On the plain table that is a unique index, created here only when none exists
+-- (tables from before partitioning carry Hibernate's unique constraint). Once db/migration/V1 has
+-- partitioned the table, a unique key would have to include transaction_date, so V2's transaction_ids
+-- table enforces it instead. The body is single-quoted so the script splitter keeps it in one piece.
+DO '
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = ''transactions''::regclass)
+       AND NOT EXISTS (SELECT 1 FROM pg_index i
+                       JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0]
+                       WHERE i.indrelid = ''transactions''::regclass AND i.indisunique
+                         AND i.indnkeyatts = 1 AND a.attname = ''transaction_id'') THEN
+        CREATE UNIQUE INDEX uk_transactions_transaction_id ON transactions (transaction_id);
+    END IF;
+END';
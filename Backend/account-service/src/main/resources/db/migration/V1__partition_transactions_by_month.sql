@@ -0,0 +1,52 @@
+-- Applied once by SchemaMigrationService (recorded in schema_migrations), as a single statement in one
+-- transaction. Converts transactions into monthly range partitions on transaction_date, from the month
+-- of the oldest row to three months ahead; TransactionPartitionService keeps creating months ahead
+-- after that. The copy holds an exclusive lock on transactions until it commits, so on a large table
+-- the first start of this version belongs in a maintenance window.
+DO $$
+DECLARE
+    v_month timestamp;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'transactions'::regclass) THEN
+        RETURN;
+    END IF;
+
+    -- The unique key on transaction_id stays with the old table and goes when it is dropped below
+    ALTER TABLE transactions RENAME TO transactions_unpartitioned;
+
+    -- Same column order, so the copy below can use SELECT *
+    CREATE TABLE transactions (LIKE transactions_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS)
+        PARTITION BY RANGE (transaction_date);
+
+    -- Catches rows outside every monthly partition; normally empty
+    CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+
+    FOR v_month IN
+        SELECT generate_series(
+                   date_trunc('month', COALESCE((SELECT MIN(transaction_date) FROM transactions_unpartitioned), LOCALTIMESTAMP)),
+                   date_trunc('month', LOCALTIMESTAMP) + interval '3 months',
+                   interval '1 month')
+    LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF transactions FOR VALUES FROM (%L) TO (%L)',
+                       'transactions_p' || to_char(v_month, 'YYYY_MM'), v_month, v_month + interval '1 month');
+    END LOOP;
+
+    INSERT INTO transactions SELECT * FROM transactions_unpartitioned;
+    DROP TABLE transactions_unpartitioned;
+
+    -- Keys and indexes after the copy. A unique key on a partitioned table must include the partition
+    -- key, so the primary key becomes (id, transaction_date) and transaction_id keeps a plain index in
+    -- every partition; V2 enforces its uniqueness through the transaction_ids table
+    ALTER TABLE transactions ADD CONSTRAINT transactions_pkey PRIMARY KEY (id, transaction_date);
+    ALTER TABLE transactions ADD CONSTRAINT fk_transactions_account FOREIGN KEY (account_id) REFERENCES accounts (id);
+    CREATE INDEX idx_transactions_transaction_id ON transactions (transaction_id);
+
+    -- Dropped with the old table; same definitions as db/indexes/transactions-account-date.sql and
+    -- transactions-retry-due.sql (partitioned tables cannot be indexed concurrently)
+    CREATE INDEX idx_transactions_account_date
+        ON transactions (account_id, transaction_date, id)
+        INCLUDE (balance_after_transaction, transaction_status);
+    CREATE INDEX idx_transactions_retry_due
+        ON transactions (next_attempt_at NULLS FIRST)
+        WHERE transaction_status IN ('PENDING', 'FAILED');
+END $$;
@@ -0,0 +1,37 @@
+-- Applied once by SchemaMigrationService, after V1, as a single statement in one transaction. A unique
+-- key on the partitioned transactions table would have to include transaction_date, so uniqueness of
+-- transaction_id moves to the unpartitioned transaction_ids table. Triggers keep it in step with
+-- transactions in the same transaction as every insert, whether from Hibernate, JDBC batches or
+-- db/posting/post_single_entry.sql, so a duplicate id fails with a unique violation as the old unique
+-- constraint did. The backfill fails the migration if duplicates already slipped in.
+DO $$
+BEGIN
+    CREATE TABLE IF NOT EXISTS transaction_ids (transaction_id varchar(255) PRIMARY KEY);
+    INSERT INTO transaction_ids (transaction_id)
+        SELECT t.transaction_id FROM transactions t
+        WHERE NOT EXISTS (SELECT 1 FROM transaction_ids i WHERE i.transaction_id = t.transaction_id);
+
+    CREATE OR REPLACE FUNCTION transactions_track_id() RETURNS trigger LANGUAGE plpgsql AS $fn$
+    BEGIN
+        IF TG_OP IN ('DELETE', 'UPDATE') THEN
+            DELETE FROM transaction_ids WHERE transaction_id = OLD.transaction_id;
+        END IF;
+        IF TG_OP IN ('INSERT', 'UPDATE') THEN
+            INSERT INTO transaction_ids (transaction_id) VALUES (NEW.transaction_id);
+        END IF;
+        RETURN NULL;
+    END
+    $fn$;
+
+    DROP TRIGGER IF EXISTS transactions_id_insert ON transactions;
+    DROP TRIGGER IF EXISTS transactions_id_delete ON transactions;
+    DROP TRIGGER IF EXISTS transactions_id_update ON transactions;
+    CREATE TRIGGER transactions_id_insert AFTER INSERT ON transactions
+        FOR EACH ROW EXECUTE FUNCTION transactions_track_id();
+    CREATE TRIGGER transactions_id_delete AFTER DELETE ON transactions
+        FOR EACH ROW EXECUTE FUNCTION transactions_track_id();
+    -- Hibernate writes every column on update, so only fire when the id actually changes
+    CREATE TRIGGER transactions_id_update AFTER UPDATE OF transaction_id ON transactions
+        FOR EACH ROW WHEN (OLD.transaction_id IS DISTINCT FROM NEW.transaction_id)
+        EXECUTE FUNCTION transactions_track_id();
+END $$;
@@ -0,0 +1,4 @@
+-- Applied once by SchemaMigrationService. Clearing account legs carry no running balance, and the schema
+-- update never relaxes NOT NULL itself; only journals created before balance_after became nullable need it.
+-- The ALTER takes an ACCESS EXCLUSIVE lock, which is why it is not in the db/init scripts run on every start.
+ALTER TABLE journal_postings ALTER COLUMN balance_after DROP NOT NULL;
@@ -0,0 +1,108 @@
+-- Single-round-trip posting for deposits and withdrawals.
+-- Locks the account row, applies the daily limits and overdraft rule, updates the balance,
+-- writes the statement row and its journal entry (balanced against the cash clearing account) and
+-- bumps the daily running total.
+-- Rejections leave the data untouched and return a reason code.
+CREATE OR REPLACE FUNCTION post_single_entry(
+    p_account_number   VARCHAR,
+    p_transaction_type VARCHAR,
+    p_amount           NUMERIC,
+    p_transaction_id   VARCHAR,
+    p_description      VARCHAR,
+    p_reference_number VARCHAR,
+    OUT o_status           VARCHAR,
+    OUT o_account_id       BIGINT,
+    OUT o_balance          NUMERIC,
+    OUT o_id               BIGINT,
+    OUT o_transaction_date TIMESTAMP)
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_account     accounts%ROWTYPE;
+    v_today       DATE := CAST(localtimestamp AS DATE);
+    v_type_total  NUMERIC;
+    v_withdrawn   NUMERIC;
+    v_new_balance NUMERIC;
+    v_signed      NUMERIC;
+BEGIN
+    SELECT * INTO v_account FROM accounts WHERE account_number = p_account_number FOR UPDATE;
+    IF NOT FOUND THEN
+        o_status := 'ACCOUNT_NOT_FOUND';
+        RETURN;
+    END IF;
+
+    o_account_id := v_account.id;
+    o_balance := v_account.balance;
+
+    IF NOT v_account.is_active THEN
+        o_status := 'ACCOUNT_INACTIVE';
+        RETURN;
+    END IF;
+
+    IF p_transaction_type = 'WITHDRAWAL' AND v_account.daily_withdrawal_limit IS NOT NULL THEN
+        SELECT COALESCE(SUM(total_amount), 0) INTO v_withdrawn
+        FROM daily_transaction_totals
+        WHERE account_id = v_account.id
+          AND business_date = v_today
+          AND transaction_type IN ('WITHDRAWAL', 'TRANSFER');
+        IF v_withdrawn + p_amount > v_account.daily_withdrawal_limit THEN
+            o_status := 'WITHDRAWAL_LIMIT_EXCEEDED';
+            RETURN;
+        END IF;
+    END IF;
+
+    IF v_account.daily_transaction_limit IS NOT NULL THEN
+        SELECT COALESCE(SUM(total_amount), 0) INTO v_type_total
+        FROM daily_transaction_totals
+        WHERE account_id = v_account.id
+          AND business_date = v_today
+          AND transaction_type = p_transaction_type;
+        IF v_type_total + p_amount > v_account.daily_transaction_limit THEN
+            o_status := 'TRANSACTION_LIMIT_EXCEEDED';
+            RETURN;
+        END IF;
+    END IF;
+
+    IF p_transaction_type = 'WITHDRAWAL' THEN
+        -- Outstanding authorization holds are not available to spend
+        IF v_account.balance + COALESCE(v_account.overdraft_limit, 0) - COALESCE(v_account.held_amount, 0) < p_amount THEN
+            o_status := 'INSUFFICIENT_BALANCE';
+            RETURN;
+        END IF;
+        v_new_balance := v_account.balance - p_amount;
+    ELSE
+        v_new_balance := v_account.balance + p_amount;
+    END IF;
+
+    UPDATE accounts
+    SET balance = v_new_balance, version = version + 1, updated_at = localtimestamp
+    WHERE id = v_account.id;
+
+    -- One nextval reserves a whole pooled-lo block; only its low value is used here
+    INSERT INTO transactions (id, transaction_id, account_id, amount, transaction_type, transaction_status,
+                              reference_number, description, transaction_date, balance_after_transaction)
+    VALUES (nextval('transactions_seq'), p_transaction_id, v_account.id, p_amount, p_transaction_type, 'COMPLETED',
+            p_reference_number, p_description, localtimestamp, v_new_balance)
+    RETURNING id, transaction_date INTO o_id, o_transaction_date;
+
+    -- Same shape as JournalService.postExternal; -1 is JournalService.CASH_CLEARING_ACCOUNT_ID
+    v_signed := CASE WHEN p_transaction_type = 'WITHDRAWAL' THEN -p_amount ELSE p_amount END;
+    WITH entry AS (
+        INSERT INTO journal_entries (id, entry_type, reference_number, description, posted_at)
+        VALUES (nextval('journal_entries_seq'), p_transaction_type, p_reference_number, p_description, localtimestamp)
+        RETURNING id)
+    INSERT INTO journal_postings (entry_id, leg, account_id, amount, balance_after, transaction_id, posted_at)
+    SELECT entry.id, l.leg, l.account_id, l.amount, l.balance_after, l.transaction_id, localtimestamp
+    FROM entry, (VALUES (1, v_account.id, v_signed, v_new_balance, p_transaction_id),
+                        (2, -1::BIGINT, -v_signed, NULL::NUMERIC, NULL::VARCHAR))
+                AS l (leg, account_id, amount, balance_after, transaction_id);
+
+    INSERT INTO daily_transaction_totals (account_id, business_date, transaction_type, total_amount)
+    VALUES (v_account.id, v_today, p_transaction_type, p_amount)
+    ON CONFLICT (account_id, business_date, transaction_type)
+    DO UPDATE SET total_amount = daily_transaction_totals.total_amount + EXCLUDED.total_amount;
+
+    o_status := 'OK';
+    o_balance := v_new_balance;
+END;
+$$;
@@ -0,0 +1,151 @@
+package com.bankingapplication.account_service.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AccountLockManagerTest {
+
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 20_000;
+    // Far below what striped in-process locks manage; a miss means postings started queueing somewhere else
+    private static final long MIN_POSTINGS_PER_SECOND = 200_000;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountLockManager lockManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lockManager = new AccountLockManager(meterRegistry, 1024);
+    }
+
+    @Test
+    void withLock_ShouldSerializePostingsOnSameAccount() throws Exception {
+        // Given a deliberately non-atomic read-modify-write on one balance
+        long[] balance = {0};
+
+        // When
+        runConcurrently(THREADS, thread -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                lockManager.withLock("SV0000000001", () -> balance[0] = balance[0] + 1);
+            }
+        });
+
+        // Then no update was lost
+        assertEquals((long) THREADS * OPERATIONS_PER_THREAD, balance[0]);
+        assertEquals(THREADS * OPERATIONS_PER_THREAD,
+                meterRegistry.get("banking.account.lock.wait").timer().count());
+    }
+
+    @Test
+    void withLocks_ShouldNotDeadlock_WhenTransfersRunInOppositeDirections() throws Exception {
+        // Given
+        long[] balances = {1_000_000, 1_000_000};
+
+        // When half the threads move A->B and the other half B->A
+        boolean finished = runConcurrently(THREADS, thread -> {
+            List<String> accounts = thread % 2 == 0
+                    ? List.of("SV0000000001", "CK0000000002")
+                    : List.of("CK0000000002", "SV0000000001");
+            int from = thread % 2;
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                lockManager.withLocks(accounts, () -> {
+                    balances[from]--;
+                    balances[1 - from]++;
+                    return null;
+                });
+            }
+        });
+
+        // Then
+        assertTrue(finished, "Opposite-direction transfers deadlocked");
+        assertEquals(2_000_000, balances[0] + balances[1]);
+    }
+
+    // Run with -Pbenchmarks. One hot account serializes every thread on one stripe; accounts on distinct
+    // stripes must never wait for each other, and neither case may fall below the throughput floor
+    @Test
+    @Tag("benchmark")
+    void contentionBenchmark_HotAccountVersusSpreadAccounts() throws Exception {
+        List<String> spreadAccounts = accountsOnDistinctStripes(THREADS);
+
+        SimpleMeterRegistry hotRegistry = new SimpleMeterRegistry();
+        long hotPerSecond = throughput(new AccountLockManager(hotRegistry, 1024), thread -> "SV0000000001");
+        SimpleMeterRegistry spreadRegistry = new SimpleMeterRegistry();
+        long spreadPerSecond = throughput(new AccountLockManager(spreadRegistry, 1024), spreadAccounts::get);
+
+        double hotContended = hotRegistry.get("banking.account.lock.contended").counter().count();
+        double spreadContended = spreadRegistry.get("banking.account.lock.contended").counter().count();
+        System.out.printf("[BENCHMARK] hot account: %,d postings/s (%,.0f contended), spread accounts: %,d postings/s (%,.0f contended)%n",
+                hotPerSecond, hotContended, spreadPerSecond, spreadContended);
+
+        assertEquals(0, spreadContended, "Postings on different stripes waited for each other");
+        assertTrue(hotPerSecond >= MIN_POSTINGS_PER_SECOND, "Hot account throughput " + hotPerSecond + "/s");
+        assertTrue(spreadPerSecond >= MIN_POSTINGS_PER_SECOND, "Spread accounts throughput " + spreadPerSecond + "/s");
+    }
+
+    private long throughput(AccountLockManager manager, IntFunction<String> accountForThread) throws Exception {
+        AtomicLong postings = new AtomicLong();
+        long start = System.nanoTime();
+        assertTrue(runConcurrently(THREADS, thread -> {
+            String accountNumber = accountForThread.apply(thread);
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                manager.withLock(accountNumber, postings::incrementAndGet);
+            }
+        }), "Benchmark run did not finish");
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals((long) THREADS * OPERATIONS_PER_THREAD, postings.get());
+        return postings.get() * 1_000_000_000L / elapsed;
+    }
+
+    private List<String> accountsOnDistinctStripes(int count) {
+        List<String> accounts = new ArrayList<>(count);
+        Set<Integer> stripes = new HashSet<>();
+        for (int i = 0; accounts.size() < count; i++) {
+            String accountNumber = String.format("SV%010d", i);
+            if (stripes.add(lockManager.stripeIndex(accountNumber))) {
+                accounts.add(accountNumber);
+            }
+        }
+        return accounts;
+    }
+
+    private boolean runConcurrently(int threads, IntConsumer body) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                executor.submit(() -> {
+                    start.await();
+                    body.accept(thread);
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            return executor.awaitTermination(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.bankingapplication.account_service.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.bankingapplication.account_service.exception.InsufficientBalanceException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// The PostingExecutor stub runs a locked batch inline as "one transaction" and a replay as a direct call
+class GroupCommitExecutorTest {
+
+    private PostingExecutor postingExecutor;
+    private SimpleMeterRegistry meterRegistry;
+    private GroupCommitExecutor groupCommit;
+    private ExecutorService callers;
+    private final AtomicInteger batches = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        postingExecutor = mock(PostingExecutor.class);
+        meterRegistry = new SimpleMeterRegistry();
+        callers = Executors.newFixedThreadPool(4);
+        doAnswer(invocation -> ((Supplier<?>) invocation.getArgument(2)).get())
+                .when(postingExecutor).execute(anyString(), anyCollection(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (groupCommit != null) {
+            groupCommit.shutdown();
+        }
+        callers.shutdownNow();
+    }
+
+    @Test
+    void rejectedPosting_ShouldFailOnlyItsOwnCaller() throws Exception {
+        runBatchesInline();
+        groupCommit = start(64, Duration.ofMillis(500), Duration.ofSeconds(10));
+
+        Future<String> first = submit("A1", () -> "T1");
+        Future<String> rejected = submit("A2", () -> {
+            throw new InsufficientBalanceException("Insufficient balance");
+        });
+        Future<String> third = submit("A3", () -> "T3");
+
+        assertEquals("T1", first.get(5, TimeUnit.SECONDS));
+        assertEquals("T3", third.get(5, TimeUnit.SECONDS));
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(InsufficientBalanceException.class, failure.getCause());
+        // One shared transaction committed the other two; nothing was replayed
+        assertEquals(1, batches.get());
+        verify(postingExecutor, never()).execute(anyString(), anyCollection(), any());
+    }
+
+    @Test
+    void nonBusinessFailure_ShouldReplayEveryPostingIndividually() throws Exception {
+        runBatchesInline();
+        groupCommit = start(64, Duration.ofMillis(500), Duration.ofSeconds(10));
+        AtomicBoolean connectionLost = new AtomicBoolean(true);
+
+        Future<String> first = submit("A1", () -> "T1");
+        Future<String> failing = submit("A2", () -> {
+            if (connectionLost.getAndSet(false)) {
+                throw new IllegalStateException("Connection reset");
+            }
+            return "T2";
+        });
+        Future<String> third = submit("A3", () -> "T3");
+
+        assertEquals("T1", first.get(5, TimeUnit.SECONDS));
+        assertEquals("T2", failing.get(5, TimeUnit.SECONDS));
+        assertEquals("T3", third.get(5, TimeUnit.SECONDS));
+        verify(postingExecutor, times(3)).execute(anyString(), anyCollection(), any());
+    }
+
+    @Test
+    void timedOutCaller_ShouldPostItselfAndTheWorkerShouldSkipIt() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        blockBatchesUntil(release);
+        groupCommit = start(1, Duration.ofMillis(1), Duration.ofMillis(100));
+        AtomicInteger secondRuns = new AtomicInteger();
+
+        Future<String> first = submit("A1", () -> "T1");
+        awaitBatches(1);
+        // The worker is stuck on the first batch, so the second caller gives up waiting and posts directly
+        String second = groupCommit.submit("deposit", List.of("A2"), () -> {
+            secondRuns.incrementAndGet();
+            return "T2";
+        });
+        release.countDown();
+
+        assertEquals("T2", second);
+        assertEquals("T1", first.get(5, TimeUnit.SECONDS));
+        // Give the worker time to poll the claimed posting and drop it
+        Thread.sleep(300);
+        assertEquals(1, secondRuns.get());
+        assertEquals(1, batches.get());
+        verify(postingExecutor).execute(eq("deposit"), eq(List.of("A2")), any());
+    }
+
+    @Test
+    void shutdown_ShouldReplayQueuedPostings() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        blockBatchesUntil(release);
+        groupCommit = start(1, Duration.ofMillis(1), Duration.ofSeconds(10));
+
+        Future<String> inFlight = submit("A1", () -> "T1");
+        awaitBatches(1);
+        Future<String> queued = submit("A2", () -> "T2");
+        Future<String> alsoQueued = submit("A3", () -> "T3");
+        awaitQueueDepth(2);
+
+        groupCommit.shutdown();
+        groupCommit = null;
+
+        assertEquals("T2", queued.get(5, TimeUnit.SECONDS));
+        assertEquals("T3", alsoQueued.get(5, TimeUnit.SECONDS));
+        // The interrupted batch rolled back and was replayed too
+        assertEquals("T1", inFlight.get(5, TimeUnit.SECONDS));
+        verify(postingExecutor, times(3)).execute(anyString(), anyCollection(), any());
+    }
+
+    private GroupCommitExecutor start(int maxBatchSize, Duration maxWait, Duration submitTimeout) {
+        return new GroupCommitExecutor(true, maxBatchSize, maxWait, 100, submitTimeout, postingExecutor, meterRegistry);
+    }
+
+    private Future<String> submit(String accountNumber, Supplier<String> posting) {
+        return callers.submit(() -> groupCommit.submit("deposit", List.of(accountNumber), posting));
+    }
+
+    private void runBatchesInline() {
+        doAnswer(invocation -> {
+            batches.incrementAndGet();
+            ((Runnable) invocation.getArgument(1)).run();
+            return null;
+        }).when(postingExecutor).executeLockedBatch(anyCollection(), any());
+    }
+
+    // Each batch holds "its transaction" open until released; an interrupt rolls it back
+    private void blockBatchesUntil(CountDownLatch release) {
+        doAnswer(invocation -> {
+            batches.incrementAndGet();
+            if (!release.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Batch was never released");
+            }
+            ((Runnable) invocation.getArgument(1)).run();
+            return null;
+        }).when(postingExecutor).executeLockedBatch(anyCollection(), any());
+    }
+
+    private void awaitBatches(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (batches.get() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(batches.get() >= count, "worker never started a batch");
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queueDepth() < depth && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(depth, queueDepth());
+    }
+
+    private int queueDepth() {
+        return (int) meterRegistry.get("banking.posting.group.queue.depth").gauge().value();
+    }
+}
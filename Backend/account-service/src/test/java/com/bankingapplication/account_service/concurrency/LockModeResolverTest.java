@@ -0,0 +1,112 @@
+package com.bankingapplication.account_service.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bankingapplication.account_service.entity.AccountType;
+import com.bankingapplication.account_service.repository.AccountRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Conflicts above the threshold switch a type to row locks for the cooldown, read from a clock the test moves
+@ExtendWith(MockitoExtension.class)
+class LockModeResolverTest {
+
+    private static final String ACCOUNT = "SAV1000000001";
+    private static final Duration COOLDOWN = Duration.ofSeconds(30);
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private final MutableClock clock = new MutableClock();
+
+    @BeforeEach
+    void setUp() {
+        when(accountRepository.findAccountTypeByAccountNumber(ACCOUNT)).thenReturn(Optional.of(AccountType.SAVINGS));
+    }
+
+    @Test
+    void resolve_ShouldSwitchToPessimistic_OnceTheConflictRateCrossesTheThreshold() {
+        LockModeResolver resolver = resolver(true);
+
+        // 18 clean updates and 1 conflict: still under the 20 samples needed to judge the rate
+        record(resolver, 18, false);
+        record(resolver, 1, true);
+        assertEquals(AccountLockMode.OPTIMISTIC, resolver.resolve(ACCOUNT));
+
+        // The 20th sample puts the rate at 2/20, above the 5% threshold
+        record(resolver, 1, true);
+        assertEquals(AccountLockMode.PESSIMISTIC, resolver.resolve(ACCOUNT));
+    }
+
+    @Test
+    void resolve_ShouldReturnToOptimistic_AfterTheCooldown() {
+        LockModeResolver resolver = resolver(true);
+        record(resolver, 18, false);
+        record(resolver, 2, true);
+
+        clock.advance(COOLDOWN.minusMillis(1));
+        assertEquals(AccountLockMode.PESSIMISTIC, resolver.resolve(ACCOUNT));
+
+        clock.advance(Duration.ofMillis(1));
+        assertEquals(AccountLockMode.OPTIMISTIC, resolver.resolve(ACCOUNT));
+    }
+
+    @Test
+    void resolve_ShouldStayOptimistic_WhenAdaptiveModeIsOff() {
+        LockModeResolver resolver = resolver(false);
+
+        record(resolver, 20, true);
+
+        assertEquals(AccountLockMode.OPTIMISTIC, resolver.resolve(ACCOUNT));
+    }
+
+    private LockModeResolver resolver(boolean adaptive) {
+        return new LockModeResolver(accountRepository, new SimpleMeterRegistry(), clock,
+                Set.of(AccountType.SAVINGS), adaptive, 0.05, COOLDOWN);
+    }
+
+    private static void record(LockModeResolver resolver, int times, boolean conflicted) {
+        for (int i = 0; i < times; i++) {
+            resolver.recordOptimisticOutcome(AccountType.SAVINGS, conflicted);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.bankingapplication.account_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bankingapplication.account_service.concurrency.PostingExecutor;
+import com.bankingapplication.account_service.dto.AuthorizationHoldDTO;
+import com.bankingapplication.account_service.dto.request.HoldCaptureRequest;
+import com.bankingapplication.account_service.dto.request.HoldRequest;
+import com.bankingapplication.account_service.entity.Account;
+import com.bankingapplication.account_service.entity.AuthorizationHold;
+import com.bankingapplication.account_service.entity.HoldStatus;
+import com.bankingapplication.account_service.entity.Transaction;
+import com.bankingapplication.account_service.entity.TransactionType;
+import com.bankingapplication.account_service.exception.InsufficientBalanceException;
+import com.bankingapplication.account_service.exception.InvalidOperationException;
+import com.bankingapplication.account_service.repository.AccountRepository;
+import com.bankingapplication.account_service.repository.AuthorizationHoldRepository;
+import com.bankingapplication.account_service.repository.TransactionRepository;
+import com.bankingapplication.account_service.util.AccountNumberGenerator;
+import com.bankingapplication.account_service.util.SnowflakeIdGenerator;
+
+// Every hold change must move accounts.held_amount with the hold row, so available balance never needs a SUM
+@ExtendWith(MockitoExtension.class)
+class AuthorizationHoldServiceTest {
+
+    private static final String ACCOUNT = "CHK1000000001";
+    private static final String HOLD_ID = "HLD0000000000000001";
+    private static final Duration DEFAULT_EXPIRY = Duration.ofDays(7);
+
+    @Mock
+    private AuthorizationHoldRepository authorizationHoldRepository;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private PostingExecutor postingExecutor;
+    @Mock
+    private DailyLimitService dailyLimitService;
+    @Mock
+    private AccountNumberGenerator accountNumberGenerator;
+    @Mock
+    private JournalService journalService;
+
+    private AuthorizationHoldService authorizationHoldService;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        authorizationHoldService = new AuthorizationHoldService(authorizationHoldRepository, accountRepository,
+                transactionRepository, postingExecutor, dailyLimitService, accountNumberGenerator,
+                new SnowflakeIdGenerator(7, ""), journalService, DEFAULT_EXPIRY, Duration.ofDays(30));
+        account = new Account();
+        account.setId(7L);
+        account.setAccountNumber(ACCOUNT);
+        account.setBalance(new BigDecimal("100.00"));
+        account.setHeldAmount(new BigDecimal("30.00"));
+        account.setActive(true);
+    }
+
+    @Test
+    void placeHold_ShouldAddToHeldAmountAndExpireAfterTheDefault() {
+        givenLockedAccount();
+        when(authorizationHoldRepository.save(any())).thenAnswer(returnsFirstArg());
+
+        AuthorizationHoldDTO hold = authorizationHoldService.placeHold(new HoldRequest(ACCOUNT, new BigDecimal("50.00"), "Hotel", null));
+
+        assertEquals(new BigDecimal("80.00"), account.getHeldAmount());
+        assertEquals(HoldStatus.ACTIVE, hold.getStatus());
+        assertEquals(hold.getCreatedAt().plus(DEFAULT_EXPIRY), hold.getExpiresAt());
+        verify(accountRepository).save(account);
+    }
+
+    @Test
+    void placeHold_ShouldRejectMoreThanTheAvailableBalance() {
+        givenLockedAccount();
+
+        // 100 balance less 30 already held leaves 70
+        assertThrows(InsufficientBalanceException.class,
+                () -> authorizationHoldService.placeHold(new HoldRequest(ACCOUNT, new BigDecimal("70.01"), null, null)));
+
+        assertEquals(new BigDecimal("30.00"), account.getHeldAmount());
+        verify(authorizationHoldRepository, never()).save(any());
+    }
+
+    @Test
+    void captureHold_ShouldDebitThePartialAmountAndFreeTheWholeHold() {
+        givenLockedAccount();
+        givenHold(HoldStatus.ACTIVE, LocalDateTime.now().plusDays(1));
+        when(authorizationHoldRepository.save(any())).thenAnswer(returnsFirstArg());
+        when(accountNumberGenerator.generateTransactionId()).thenReturn("TXN0000000000000001");
+        HoldCaptureRequest request = new HoldCaptureRequest();
+        request.setAmount(new BigDecimal("20.00"));
+
+        AuthorizationHoldDTO hold = authorizationHoldService.captureHold(ACCOUNT, HOLD_ID, request);
+
+        assertEquals(new BigDecimal("80.00"), account.getBalance());
+        assertEquals(new BigDecimal("0.00"), account.getHeldAmount());
+        assertEquals(HoldStatus.CAPTURED, hold.getStatus());
+        assertEquals(new BigDecimal("20.00"), hold.getCapturedAmount());
+        assertEquals("TXN0000000000000001", hold.getTransactionId());
+
+        ArgumentCaptor<Transaction> transaction = ArgumentCaptor.forClass(Transaction.class);
+        verify(transactionRepository).save(transaction.capture());
+        assertEquals(TransactionType.PAYMENT, transaction.getValue().getTransactionType());
+        assertEquals(new BigDecimal("20.00"), transaction.getValue().getAmount());
+        verify(dailyLimitService).record(account, TransactionType.PAYMENT, new BigDecimal("20.00"));
+    }
+
+    @Test
+    void captureHold_ShouldRejectAnInactiveAccount() {
+        givenLockedAccount();
+        givenHold(HoldStatus.ACTIVE, LocalDateTime.now().plusDays(1));
+        account.setActive(false);
+
+        assertThrows(InvalidOperationException.class, () -> authorizationHoldService.captureHold(ACCOUNT, HOLD_ID, null));
+
+        assertNothingMoved();
+    }
+
+    @Test
+    void captureHold_ShouldRejectAnExpiredHold() {
+        givenLockedAccount();
+        givenHold(HoldStatus.ACTIVE, LocalDateTime.now().minusMinutes(1));
+
+        InvalidOperationException e = assertThrows(InvalidOperationException.class,
+                () -> authorizationHoldService.captureHold(ACCOUNT, HOLD_ID, null));
+
+        assertTrue(e.getMessage().contains("expired"), e.getMessage());
+        assertNothingMoved();
+    }
+
+    @Test
+    void releaseHold_ShouldFreeTheHeldAmount() {
+        givenLockedAccount();
+        AuthorizationHold hold = givenHold(HoldStatus.ACTIVE, LocalDateTime.now().plusDays(1));
+
+        AuthorizationHoldDTO released = authorizationHoldService.releaseHold(ACCOUNT, HOLD_ID);
+
+        assertEquals(HoldStatus.RELEASED, released.getStatus());
+        assertEquals(new BigDecimal("0.00"), account.getHeldAmount());
+        assertEquals(new BigDecimal("100.00"), account.getBalance());
+        verify(authorizationHoldRepository).save(hold);
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void releaseHold_ShouldRejectAHoldThatIsNoLongerActive() {
+        givenLockedAccount();
+        givenHold(HoldStatus.CAPTURED, LocalDateTime.now().plusDays(1));
+
+        assertThrows(InvalidOperationException.class, () -> authorizationHoldService.releaseHold(ACCOUNT, HOLD_ID));
+
+        assertNothingMoved();
+    }
+
+    @Test
+    void expire_ShouldFreeTheHeldAmountOfAnExpiredHold() {
+        givenLockedAccount();
+        AuthorizationHold hold = hold(HoldStatus.ACTIVE, LocalDateTime.now().minusMinutes(1));
+        when(authorizationHoldRepository.findById(HOLD_ID)).thenReturn(Optional.of(hold));
+
+        assertTrue(authorizationHoldService.expire(ACCOUNT, HOLD_ID));
+
+        assertEquals(HoldStatus.EXPIRED, hold.getStatus());
+        assertEquals(new BigDecimal("0.00"), account.getHeldAmount());
+    }
+
+    @Test
+    void expire_ShouldLeaveAHoldThatHasNotExpiredYet() {
+        givenLockedAccount();
+        AuthorizationHold hold = hold(HoldStatus.ACTIVE, LocalDateTime.now().plusMinutes(1));
+        when(authorizationHoldRepository.findById(HOLD_ID)).thenReturn(Optional.of(hold));
+
+        assertFalse(authorizationHoldService.expire(ACCOUNT, HOLD_ID));
+
+        assertEquals(HoldStatus.ACTIVE, hold.getStatus());
+        assertNothingMoved();
+    }
+
+    // The account row lock is the PostingExecutor's job; here the supplier just runs
+    private void givenLockedAccount() {
+        when(postingExecutor.execute(anyString(), anyList(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+        when(accountRepository.findAllByAccountNumberInForUpdate(List.of(ACCOUNT))).thenReturn(List.of(account));
+    }
+
+    private AuthorizationHold givenHold(HoldStatus status, LocalDateTime expiresAt) {
+        AuthorizationHold hold = hold(status, expiresAt);
+        when(authorizationHoldRepository.findByHoldIdAndAccountNumber(HOLD_ID, ACCOUNT)).thenReturn(Optional.of(hold));
+        return hold;
+    }
+
+    private AuthorizationHold hold(HoldStatus status, LocalDateTime expiresAt) {
+        AuthorizationHold hold = new AuthorizationHold();
+        hold.setHoldId(HOLD_ID);
+        hold.setAccountId(account.getId());
+        hold.setAccountNumber(ACCOUNT);
+        hold.setAmount(new BigDecimal("30.00"));
+        hold.setStatus(status);
+        hold.setCreatedAt(expiresAt.minus(DEFAULT_EXPIRY));
+        hold.setExpiresAt(expiresAt);
+        return hold;
+    }
+
+    private void assertNothingMoved() {
+        assertEquals(new BigDecimal("100.00"), account.getBalance());
+        assertEquals(new BigDecimal("30.00"), account.getHeldAmount());
+        verify(accountRepository, never()).save(any());
+        verify(authorizationHoldRepository, never()).save(any());
+        verifyNoInteractions(transactionRepository, journalService, dailyLimitService);
+    }
+}
@@ -0,0 +1,209 @@
+package com.bankingapplication.account_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bankingapplication.account_service.concurrency.PostingExecutor;
+import com.bankingapplication.account_service.dto.BatchItemResultDTO;
+import com.bankingapplication.account_service.dto.BatchJobDTO;
+import com.bankingapplication.account_service.dto.TransactionDTO;
+import com.bankingapplication.account_service.dto.request.BatchItemRequest;
+import com.bankingapplication.account_service.dto.request.DepositRequest;
+import com.bankingapplication.account_service.entity.Account;
+import com.bankingapplication.account_service.entity.BatchJobStatus;
+import com.bankingapplication.account_service.entity.TransactionStatus;
+import com.bankingapplication.account_service.entity.TransactionType;
+import com.bankingapplication.account_service.exception.InvalidOperationException;
+import com.bankingapplication.account_service.repository.AccountRepository;
+import com.bankingapplication.account_service.repository.BatchJobRepository;
+import com.bankingapplication.account_service.util.AccountNumberGenerator;
+import com.bankingapplication.account_service.util.SnowflakeIdGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BatchPostingServiceTest {
+
+    private static final List<String> ACCOUNTS = List.of("SAV1000000001", "SAV1000000002", "SAV1000000003");
+    private static final int ASYNC_THRESHOLD = 3;
+    private static final Duration STALE_AFTER = Duration.ofMinutes(5);
+
+    @Mock
+    private TransactionService transactionService;
+    @Mock
+    private IdempotencyService idempotencyService;
+    @Mock
+    private PostingExecutor postingExecutor;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private BatchJobRepository batchJobRepository;
+    @Mock
+    private AccountNumberGenerator accountNumberGenerator;
+
+    private BatchPostingService batchPostingService;
+    private final CountDownLatch releaseJob = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        batchPostingService = new BatchPostingService(transactionService, idempotencyService, postingExecutor,
+                accountRepository, batchJobRepository, accountNumberGenerator, new SnowflakeIdGenerator(7, ""),
+                new ObjectMapper(), new SimpleMeterRegistry(), 10_000, 100, ASYNC_THRESHOLD, 1, 4, STALE_AFTER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseJob.countDown();
+        batchPostingService.shutdown();
+    }
+
+    @Test
+    void submit_ShouldFailOnlyTheRejectedItem_WhenTheChunkCommits() {
+        givenActiveAccounts();
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(1)).run();
+            return null;
+        }).when(postingExecutor).executeLockedBatch(anyCollection(), any());
+        when(transactionService.applyDeposit(any(), any(), any())).thenAnswer(invocation -> {
+            DepositRequest request = invocation.getArgument(0);
+            if (request.getAccountNumber().equals(ACCOUNTS.get(1))) {
+                throw new InvalidOperationException("Daily transaction limit exceeded");
+            }
+            return new TransactionDTO();
+        });
+
+        BatchJobDTO job = batchPostingService.submit(deposits(null), "ops");
+
+        List<BatchItemResultDTO> results = job.getResults();
+        assertEquals(BatchJobStatus.COMPLETED, job.getStatus());
+        assertEquals(TransactionStatus.COMPLETED, results.get(0).getStatus());
+        assertEquals(TransactionStatus.FAILED, results.get(1).getStatus());
+        assertEquals("Daily transaction limit exceeded", results.get(1).getError());
+        assertEquals(TransactionStatus.COMPLETED, results.get(2).getStatus());
+        // All three went through one locked chunk; none was replayed on its own
+        verify(postingExecutor).executeLockedBatch(eq(Set.copyOf(ACCOUNTS)), any());
+        verify(transactionService, never()).deposit(any());
+    }
+
+    @Test
+    void submit_ShouldPostEachItemIndividually_WhenTheChunkFailsForAnotherReason() {
+        givenActiveAccounts();
+        doThrow(new IllegalStateException("Connection reset")).when(postingExecutor).executeLockedBatch(anyCollection(), any());
+        when(transactionService.deposit(any())).thenReturn(new TransactionDTO());
+
+        BatchJobDTO job = batchPostingService.submit(deposits(null), "ops");
+
+        assertTrue(job.getResults().stream().allMatch(result -> result.getStatus() == TransactionStatus.COMPLETED));
+        verify(transactionService, times(3)).deposit(any());
+    }
+
+    @Test
+    void submit_ShouldRequireAReferenceOnEveryItem_AboveTheAsyncThreshold() {
+        List<BatchItemRequest> items = new ArrayList<>(deposits("REF"));
+        items.add(new BatchItemRequest(TransactionType.DEPOSIT, ACCOUNTS.get(0), null, new BigDecimal("5.00"), null, " "));
+
+        InvalidOperationException e = assertThrows(InvalidOperationException.class,
+                () -> batchPostingService.submit(items, "ops"));
+
+        assertTrue(e.getMessage().startsWith("Item 3 has no reference number"), e.getMessage());
+        verifyNoInteractions(batchJobRepository, postingExecutor);
+    }
+
+    @Test
+    void heartbeat_ShouldTouchTheJobsThisInstanceIsRunning() throws Exception {
+        when(batchJobRepository.save(any())).thenAnswer(returnsFirstArg());
+        // The job's first status update blocks, so it stays owned while the heartbeat runs
+        when(batchJobRepository.findById(anyString())).thenAnswer(invocation -> {
+            releaseJob.await(10, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+        List<BatchItemRequest> items = new ArrayList<>(deposits("REF"));
+        items.add(new BatchItemRequest(TransactionType.DEPOSIT, ACCOUNTS.get(0), null, new BigDecimal("5.00"), null, "REF4"));
+
+        BatchJobDTO job = batchPostingService.submit(items, "ops");
+        assertEquals(BatchJobStatus.QUEUED, job.getStatus());
+        assertNull(job.getResults());
+        verify(batchJobRepository, timeout(5_000)).findById(job.getJobId());
+
+        batchPostingService.heartbeat();
+
+        verify(batchJobRepository).touch(eq(Set.of(job.getJobId())),
+                eq(List.of(BatchJobStatus.QUEUED, BatchJobStatus.RUNNING)), any(LocalDateTime.class));
+        verify(batchJobRepository).failStale(any(), eq(BatchJobStatus.FAILED), any(), any());
+    }
+
+    @Test
+    void heartbeat_ShouldOnlyFailStaleJobs_WhenThisInstanceRunsNone() {
+        batchPostingService.heartbeat();
+
+        verify(batchJobRepository, never()).touch(any(), any(), any());
+        verify(batchJobRepository).failStale(any(), eq(BatchJobStatus.FAILED), any(), any());
+    }
+
+    @Test
+    void failStaleJobs_ShouldFailUnfinishedJobsWithoutARecentHeartbeat() {
+        LocalDateTime before = LocalDateTime.now();
+
+        batchPostingService.failStaleJobs();
+        LocalDateTime after = LocalDateTime.now();
+
+        ArgumentCaptor<LocalDateTime> staleBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(batchJobRepository).failStale(eq(List.of(BatchJobStatus.QUEUED, BatchJobStatus.RUNNING)),
+                eq(BatchJobStatus.FAILED), staleBefore.capture(), any(LocalDateTime.class));
+        assertTrue(!staleBefore.getValue().isBefore(before.minus(STALE_AFTER))
+                && !staleBefore.getValue().isAfter(after.minus(STALE_AFTER)));
+    }
+
+    private void givenActiveAccounts() {
+        when(accountNumberGenerator.validateAccountNumber(anyString())).thenReturn(true);
+        when(accountRepository.findByAccountNumberIn(any())).thenReturn(ACCOUNTS.stream().map(number -> {
+            Account account = new Account();
+            account.setAccountNumber(number);
+            account.setActive(true);
+            return account;
+        }).toList());
+    }
+
+    // One deposit per account; referencePrefix null leaves the references out
+    private static List<BatchItemRequest> deposits(String referencePrefix) {
+        return IntStream.range(0, ACCOUNTS.size())
+                .mapToObj(i -> new BatchItemRequest(TransactionType.DEPOSIT, ACCOUNTS.get(i), null, new BigDecimal("10.00"),
+                        null, referencePrefix != null ? referencePrefix + (i + 1) : null))
+                .toList();
+    }
+}
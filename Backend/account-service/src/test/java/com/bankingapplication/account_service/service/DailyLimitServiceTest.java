@@ -0,0 +1,137 @@
+package com.bankingapplication.account_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.bankingapplication.account_service.entity.Account;
+import com.bankingapplication.account_service.entity.DailyTransactionTotal;
+import com.bankingapplication.account_service.entity.TransactionType;
+import com.bankingapplication.account_service.repository.DailyTransactionTotalRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// The cached totals are only trusted while the account's version matches the stamp they were cached with
+@ExtendWith(MockitoExtension.class)
+class DailyLimitServiceTest {
+
+    private static final long ACCOUNT_ID = 7L;
+
+    @Mock
+    private DailyTransactionTotalRepository dailyTransactionTotalRepository;
+
+    private DailyLimitService dailyLimitService;
+    private Account account;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        dailyLimitService = new DailyLimitService(dailyTransactionTotalRepository, new SimpleMeterRegistry(), 100);
+        account = new Account();
+        account.setId(ACCOUNT_ID);
+        account.setVersion(1);
+        today = LocalDate.now();
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getDailyTotal_ShouldServeTheCacheWhileTheVersionMatches() {
+        stubTotal("100.00");
+        postWithdrawal("50.00");
+
+        BigDecimal total = inTransaction(() -> dailyLimitService.getDailyTotal(account, TransactionType.WITHDRAWAL));
+
+        assertEquals(new BigDecimal("150.00"), total);
+        verify(dailyTransactionTotalRepository, times(1)).findByAccountIdAndBusinessDate(ACCOUNT_ID, today);
+    }
+
+    @Test
+    void getDailyTotal_ShouldRejectAStaleStampAndReload() {
+        stubTotal("100.00");
+        postWithdrawal("50.00");
+
+        // Another instance posted to the account: its version moved on and the table holds more
+        account.setVersion(account.getVersion() + 1);
+        stubTotal("400.00");
+        BigDecimal total = inTransaction(() -> dailyLimitService.getDailyTotal(account, TransactionType.WITHDRAWAL));
+
+        assertEquals(new BigDecimal("400.00"), total);
+        verify(dailyTransactionTotalRepository, times(2)).findByAccountIdAndBusinessDate(ACCOUNT_ID, today);
+    }
+
+    @Test
+    void rebuild_ShouldInvalidateCachedTotalsEverywhere() {
+        stubTotal("100.00");
+        postWithdrawal("50.00");
+
+        dailyLimitService.rebuild(today.minusDays(1), today);
+        stubTotal("80.00");
+        BigDecimal total = inTransaction(() -> dailyLimitService.getDailyTotal(account, TransactionType.WITHDRAWAL));
+
+        // Other instances see the bumped account versions, this one dropped its cache
+        verify(dailyTransactionTotalRepository).bumpAccountVersionsFor(eq(today), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(dailyTransactionTotalRepository).lockAgainstPostings();
+        assertEquals(new BigDecimal("80.00"), total);
+    }
+
+    @Test
+    void rebuild_ShouldLeaveAccountVersionsAloneForPastDays() {
+        dailyLimitService.rebuild(today.minusDays(10), today.minusDays(1));
+
+        verify(dailyTransactionTotalRepository, never()).bumpAccountVersionsFor(any(), any(), any());
+        verify(dailyTransactionTotalRepository).deleteByBusinessDateBetween(today.minusDays(10), today.minusDays(1));
+    }
+
+    // Records a withdrawal and commits; the flush bumps the account's version before the cache is published
+    private void postWithdrawal(String amount) {
+        inTransaction(() -> {
+            dailyLimitService.getDailyTotal(account, TransactionType.WITHDRAWAL);
+            dailyLimitService.record(account, TransactionType.WITHDRAWAL, new BigDecimal(amount));
+            account.setVersion(account.getVersion() + 1);
+            return null;
+        });
+    }
+
+    private void stubTotal(String amount) {
+        when(dailyTransactionTotalRepository.findByAccountIdAndBusinessDate(ACCOUNT_ID, today))
+                .thenReturn(List.of(new DailyTransactionTotal(ACCOUNT_ID, today, TransactionType.WITHDRAWAL, new BigDecimal(amount))));
+    }
+
+    private static <T> T inTransaction(Supplier<T> work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            T result = work.get();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            return result;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.bankingapplication.account_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bankingapplication.account_service.dto.TransactionDTO;
+import com.bankingapplication.account_service.entity.Transaction;
+import com.bankingapplication.account_service.entity.TransactionStatus;
+import com.bankingapplication.account_service.entity.TransactionType;
+import com.bankingapplication.account_service.exception.DuplicatePostingException;
+import com.bankingapplication.account_service.mapper.EntityMapper;
+import com.bankingapplication.account_service.repository.PostingIdempotencyKeyRepository;
+import com.bankingapplication.account_service.repository.TransactionRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String KEY = "deposit:SAV1000000001:REF1";
+
+    @Mock
+    private PostingIdempotencyKeyRepository postingIdempotencyKeyRepository;
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private EntityMapper entityMapper;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        idempotencyService = new IdempotencyService(postingIdempotencyKeyRepository, transactionRepository, entityMapper,
+                meterRegistry, 100, Duration.ofHours(24));
+    }
+
+    @Test
+    void key_ShouldBeNull_WhenThereIsNoReferenceNumber() {
+        assertNull(idempotencyService.key("deposit", "SAV1000000001", null));
+        assertNull(idempotencyService.key("deposit", "SAV1000000001", " "));
+        assertEquals(KEY, idempotencyService.key("deposit", "SAV1000000001", "REF1"));
+    }
+
+    @Test
+    void claim_ShouldThrowDuplicatePosting_WhenTheKeyIsTaken() {
+        when(postingIdempotencyKeyRepository.claim(eq(KEY), eq("TXN2"), any(LocalDateTime.class))).thenReturn(0);
+
+        assertThrows(DuplicatePostingException.class, () -> idempotencyService.claim(KEY, "TXN2"));
+    }
+
+    @Test
+    void findRecent_ShouldAnswerFromTheCacheWithoutTheDatabase() {
+        TransactionDTO original = dto();
+        idempotencyService.remember(KEY, original);
+
+        assertSame(original, idempotencyService.findRecent(KEY));
+        assertEquals(1, replays("cache"));
+        verifyNoInteractions(postingIdempotencyKeyRepository, transactionRepository);
+    }
+
+    @Test
+    void findOriginal_ShouldLoadThroughTheStoredTransactionIdAndCacheIt() {
+        Transaction transaction = new Transaction();
+        TransactionDTO original = dto();
+        when(postingIdempotencyKeyRepository.findTransactionIdByKey(KEY)).thenReturn(Optional.of("TXN1"));
+        when(transactionRepository.findByTransactionId("TXN1")).thenReturn(Optional.of(transaction));
+        when(entityMapper.mapToTransactionDTO(transaction)).thenReturn(original);
+
+        assertSame(original, idempotencyService.findOriginal(KEY).orElseThrow());
+        // The next retry is answered from the cache
+        assertSame(original, idempotencyService.findRecent(KEY));
+
+        assertEquals(1, replays("database"));
+        assertEquals(1, replays("cache"));
+        verifyNoMoreInteractions(postingIdempotencyKeyRepository, transactionRepository);
+    }
+
+    @Test
+    void findOriginal_ShouldBeEmpty_WhenTheKeyWasNeverClaimed() {
+        when(postingIdempotencyKeyRepository.findTransactionIdByKey(KEY)).thenReturn(Optional.empty());
+
+        assertTrue(idempotencyService.findOriginal(KEY).isEmpty());
+        assertNull(idempotencyService.findRecent(KEY));
+        assertEquals(0, replays("database"));
+    }
+
+    private double replays(String source) {
+        return meterRegistry.get("banking.posting.idempotent.replays").tag("source", source).counter().count();
+    }
+
+    private static TransactionDTO dto() {
+        return new TransactionDTO(1L, "TXN1", 7L, "SAV1000000001", new BigDecimal("10.00"), TransactionType.DEPOSIT,
+                TransactionStatus.COMPLETED, null, null, "REF1", "Deposit", LocalDateTime.of(2024, 1, 1, 0, 0),
+                new BigDecimal("10.00"), null, null);
+    }
+}
@@ -0,0 +1,45 @@
+package com.bankingapplication.account_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.junit.jupiter.api.Test;
+
+class InterestAccrualServiceTest {
+
+    private static final BigDecimal ONE_PERCENT = BigDecimal.valueOf(0.01);
+
+    @Test
+    void accruedInterest_ShouldKeepTenDecimalPlaces() {
+        BigDecimal accrued = InterestAccrualService.accruedInterest(new BigDecimal("1000000.00"), ONE_PERCENT, null, 365);
+
+        assertEquals(new BigDecimal("27.3972602740"), accrued);
+        assertEquals(new BigDecimal("27.39"), accrued.setScale(2, RoundingMode.DOWN));
+    }
+
+    @Test
+    void accruedInterest_ShouldCarrySubCentAmounts_SoSmallBalancesStillEarn() {
+        BigDecimal balance = new BigDecimal("100.00");
+        BigDecimal carry = null;
+        BigDecimal posted = BigDecimal.ZERO;
+
+        for (int day = 0; day < 365; day++) {
+            BigDecimal accrued = InterestAccrualService.accruedInterest(balance, ONE_PERCENT, carry, 365);
+            BigDecimal cents = accrued.setScale(2, RoundingMode.DOWN);
+            carry = accrued.subtract(cents);
+            posted = posted.add(cents);
+        }
+
+        // 0.0027397260 a day: nothing is lost to rounding, only deferred
+        assertEquals(new BigDecimal("0.99"), posted);
+        assertEquals(new BigDecimal("0.9999999900"), posted.add(carry));
+    }
+
+    @Test
+    void accruedInterest_ShouldUseTheYearLength() {
+        assertEquals(new BigDecimal("0.0027322404"),
+                InterestAccrualService.accruedInterest(new BigDecimal("100.00"), ONE_PERCENT, null, 366));
+    }
+}
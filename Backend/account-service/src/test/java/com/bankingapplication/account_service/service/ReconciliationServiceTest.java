@@ -0,0 +1,64 @@
+package com.bankingapplication.account_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import com.bankingapplication.account_service.entity.ReconciliationDiscrepancy;
+import com.bankingapplication.account_service.entity.ReconciliationDiscrepancyType;
+
+class ReconciliationServiceTest {
+
+    @Test
+    void walker_ShouldPassAConsistentLedger() {
+        ReconciliationService.LedgerWalker walker = new ReconciliationService.LedgerWalker(10);
+
+        walker.posting(1, "A1", new BigDecimal("70.00"), "T1", "DEPOSIT", new BigDecimal("100.00"), new BigDecimal("100.00"));
+        walker.posting(1, "A1", new BigDecimal("70.00"), "T2", "TRANSFER", new BigDecimal("40.00"), new BigDecimal("60.00"));
+        walker.posting(1, "A1", new BigDecimal("70.00"), "T3", "INTEREST", new BigDecimal("10.00"), new BigDecimal("70.00"));
+        // Account without postings
+        walker.posting(2, "A2", BigDecimal.ZERO, null, null, null, null);
+        walker.finishAccount();
+
+        assertEquals(0, walker.found());
+        assertEquals(2, walker.accounts());
+        assertEquals(3, walker.postings());
+    }
+
+    @Test
+    void walker_ShouldReportDriftAndABrokenChainOnce() {
+        ReconciliationService.LedgerWalker walker = new ReconciliationService.LedgerWalker(10);
+
+        walker.posting(1, "A1", new BigDecimal("55.00"), "T1", "DEPOSIT", new BigDecimal("100.00"), new BigDecimal("100.00"));
+        // Should be 80.00; later postings follow on from the stored value and are not reported again
+        walker.posting(1, "A1", new BigDecimal("55.00"), "T2", "WITHDRAWAL", new BigDecimal("20.00"), new BigDecimal("75.00"));
+        walker.posting(1, "A1", new BigDecimal("55.00"), "T3", "FEE", new BigDecimal("20.00"), new BigDecimal("55.00"));
+        walker.finishAccount();
+
+        assertEquals(2, walker.found());
+        ReconciliationDiscrepancy chain = walker.findings().get(0);
+        assertEquals(ReconciliationDiscrepancyType.BROKEN_BALANCE_CHAIN, chain.getType());
+        assertEquals("T2", chain.getTransactionId());
+        assertEquals(0, new BigDecimal("80.00").compareTo(chain.getExpectedAmount()));
+        ReconciliationDiscrepancy drift = walker.findings().get(1);
+        assertEquals(ReconciliationDiscrepancyType.BALANCE_DRIFT, drift.getType());
+        assertEquals(0, new BigDecimal("60.00").compareTo(drift.getExpectedAmount()));
+    }
+
+    @Test
+    void walker_ShouldCapStoredFindingsButCountAll() {
+        ReconciliationService.LedgerWalker walker = new ReconciliationService.LedgerWalker(2);
+
+        for (long account = 1; account <= 5; account++) {
+            walker.posting(account, "A" + account, BigDecimal.ONE, null, null, null, null);
+        }
+        walker.finishAccount();
+
+        assertEquals(5, walker.found());
+        assertEquals(2, walker.findings().size());
+        assertTrue(walker.findings().stream().allMatch(d -> d.getType() == ReconciliationDiscrepancyType.BALANCE_DRIFT));
+    }
+}
@@ -0,0 +1,27 @@
+package com.bankingapplication.account_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+class SchemaMigrationServiceTest {
+
+    @Test
+    void parse_ShouldReadTheVersionAndDescriptionFromTheFileName() {
+        ClassPathResource script = new ClassPathResource("db/migration/V1__partition_transactions_by_month.sql");
+
+        SchemaMigrationService.Migration migration = SchemaMigrationService.parse(script.getFilename(), script);
+
+        assertEquals(1, migration.version());
+        assertEquals("partition transactions by month", migration.description());
+    }
+
+    @Test
+    void parse_ShouldRejectNamesOutsideTheConvention() {
+        assertNull(SchemaMigrationService.parse("V1_missing_separator.sql", null));
+        assertNull(SchemaMigrationService.parse("R__repeatable.sql", null));
+        assertNull(SchemaMigrationService.parse(null, null));
+    }
+}
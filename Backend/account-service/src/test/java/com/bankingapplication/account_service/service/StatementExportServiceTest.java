@@ -0,0 +1,99 @@
+package com.bankingapplication.account_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class StatementExportServiceTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2024, 5, 1, 12, 30, 15);
+
+    @Test
+    void csv_ShouldQuoteOnlyFieldsThatNeedIt() {
+        assertEquals("", StatementExportService.StatementWriter.csv(null));
+        assertEquals("Deposit", StatementExportService.StatementWriter.csv("Deposit"));
+        assertEquals("\"Rent, May\"", StatementExportService.StatementWriter.csv("Rent, May"));
+        assertEquals("\"The \"\"big\"\" one\"", StatementExportService.StatementWriter.csv("The \"big\" one"));
+        assertEquals("\"two\nlines\"", StatementExportService.StatementWriter.csv("two\nlines"));
+    }
+
+    @Test
+    void writer_ShouldWriteAHeaderAndOneCsvLinePerRow() throws IOException {
+        StringWriter out = new StringWriter();
+        StatementExportService.StatementWriter writer = new StatementExportService.StatementWriter(StatementExportService.Format.CSV, out);
+
+        writer.row("TXN1", DATE, "TRANSFER", "COMPLETED", new BigDecimal("25.50"), new BigDecimal("74.50"), "REF1",
+                "Rent, May", "SAV1", "CUR2", null);
+        writer.finish();
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("TXN1,2024-05-01T12:30:15,TRANSFER,COMPLETED,25.50,74.50,REF1,\"Rent, May\",SAV1,CUR2,", lines[1]);
+    }
+
+    @Test
+    void writer_ShouldWriteOneJsonObjectPerLine() throws IOException {
+        StringWriter out = new StringWriter();
+        StatementExportService.StatementWriter writer = new StatementExportService.StatementWriter(StatementExportService.Format.NDJSON, out);
+
+        writer.row("TXN1", DATE, "DEPOSIT", "COMPLETED", new BigDecimal("10.00"), new BigDecimal("10.00"), null,
+                "Say \"hi\"", null, null, null);
+        writer.row("TXN2", DATE, "FEE", "COMPLETED", new BigDecimal("1.00"), new BigDecimal("9.00"), null,
+                null, null, null, null);
+        writer.finish();
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"transactionId\":\"TXN1\",\"transactionDate\":\"2024-05-01T12:30:15\",\"transactionType\":\"DEPOSIT\","
+                + "\"status\":\"COMPLETED\",\"amount\":10.00,\"balanceAfterTransaction\":10.00,\"referenceNumber\":null,"
+                + "\"description\":\"Say \\\"hi\\\"\",\"sourceAccountNumber\":null,\"destinationAccountNumber\":null,"
+                + "\"fxRate\":null}", lines[0]);
+    }
+
+    // Three million rows through a writer that only counts. Run with -Pmemory-tests, whose 64 MB heap
+    // could not hold them, so passing shows the writer keeps nothing per row
+    @Test
+    @Tag("memory")
+    void writer_ShouldStreamMillionsOfRowsWithoutHoldingThem() throws IOException {
+        CountingWriter out = new CountingWriter();
+        StatementExportService.StatementWriter writer = new StatementExportService.StatementWriter(StatementExportService.Format.NDJSON, out);
+        BigDecimal amount = new BigDecimal("12.34");
+
+        for (int i = 0; i < 3_000_000; i++) {
+            writer.row("TXN" + i, DATE, "DEPOSIT", "COMPLETED", amount, amount, null, "Deposit", null, null, null);
+        }
+        writer.finish();
+
+        assertEquals(3_000_000, writer.rows());
+        assertEquals(3_000_000, out.lines);
+    }
+
+    private static final class CountingWriter extends Writer {
+
+        private long lines;
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.bankingapplication.account_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+// Opt-in: point PARTITION_TEST_DB_URL (plus PARTITION_TEST_DB_USER / PARTITION_TEST_DB_PASSWORD) at a
+// PostgreSQL database migrated by SchemaMigrationService. Checks that the planner prunes the hot
+// queries down to the one monthly partition they touch.
+@EnabledIfEnvironmentVariable(named = "PARTITION_TEST_DB_URL", matches = ".+")
+class TransactionPartitionPruningTest {
+
+    private static final Pattern PARTITION = Pattern.compile("transactions_(p\\d{4}_\\d{2}|default)");
+
+    private final YearMonth month = YearMonth.now();
+    private Connection connection;
+
+    @BeforeEach
+    void connect() throws SQLException {
+        connection = DriverManager.getConnection(System.getenv("PARTITION_TEST_DB_URL"),
+                System.getenv("PARTITION_TEST_DB_USER"), System.getenv("PARTITION_TEST_DB_PASSWORD"));
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(
+                     "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('transactions'))")) {
+            assumeTrue(result.next() && result.getBoolean(1), "transactions is not partitioned");
+        }
+    }
+
+    @AfterEach
+    void close() throws SQLException {
+        connection.close();
+    }
+
+    // TransactionRepository.findTransactionsByAccountAndDateRange
+    @Test
+    void dateRangeQuery_ShouldScanOnlyTheMonthItCovers() throws SQLException {
+        Set<String> scanned = scannedPartitions("SELECT * FROM transactions t WHERE t.account_id = 1 "
+                + "AND t.transaction_date >= '" + month.atDay(2).atStartOfDay() + "' "
+                + "AND t.transaction_date <= '" + month.atDay(20).atStartOfDay() + "'");
+
+        assertEquals(Set.of(TransactionPartitionService.partitionName(month)), scanned);
+    }
+
+    // TransactionRepository daily withdrawal sum behind the daily limit check
+    @Test
+    void dailySumQuery_ShouldScanOnlyThatDaysMonth() throws SQLException {
+        LocalDate day = month.atDay(15);
+        Set<String> scanned = scannedPartitions("SELECT SUM(t.amount) FROM transactions t WHERE t.account_id = 1 "
+                + "AND t.transaction_type = 'WITHDRAWAL' "
+                + "AND t.transaction_date >= '" + day.atStartOfDay() + "' "
+                + "AND t.transaction_date <= '" + day.atTime(23, 59, 59) + "'");
+
+        assertEquals(Set.of(TransactionPartitionService.partitionName(month)), scanned);
+    }
+
+    private Set<String> scannedPartitions(String query) throws SQLException {
+        Set<String> partitions = new TreeSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet plan = statement.executeQuery("EXPLAIN (COSTS OFF) " + query)) {
+            while (plan.next()) {
+                Matcher matcher = PARTITION.matcher(plan.getString(1));
+                while (matcher.find()) {
+                    partitions.add(matcher.group());
+                }
+            }
+        }
+        return partitions;
+    }
+}
@@ -0,0 +1,39 @@
+package com.bankingapplication.account_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TransactionPartitionServiceTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2024, 11);
+
+    @Test
+    void partitionName_ShouldRoundTripThroughPartitionMonth() {
+        assertEquals("transactions_p2024_03", TransactionPartitionService.partitionName(YearMonth.of(2024, 3)));
+        assertEquals(YearMonth.of(2024, 3), TransactionPartitionService.partitionMonth("transactions_p2024_03"));
+        assertNull(TransactionPartitionService.partitionMonth("transactions_default"));
+        assertNull(TransactionPartitionService.partitionMonth("transactions_p2024_13"));
+    }
+
+    @Test
+    void monthsToCreate_ShouldFillTheGapsUpToMonthsAheadAcrossTheYearEnd() {
+        List<YearMonth> months = TransactionPartitionService.monthsToCreate(CURRENT, 3,
+                List.of("transactions_default", "transactions_p2024_11", "transactions_p2025_01"));
+
+        assertEquals(List.of(YearMonth.of(2024, 12), YearMonth.of(2025, 2)), months);
+    }
+
+    @Test
+    void partitionsToArchive_ShouldKeepTheRetentionWindowAndTheDefaultPartition() {
+        List<String> archived = TransactionPartitionService.partitionsToArchive(CURRENT, 12, List.of(
+                "transactions_default", "transactions_p2023_11", "transactions_p2023_09", "transactions_p2023_10",
+                "transactions_p2024_11"));
+
+        assertEquals(List.of("transactions_p2023_09", "transactions_p2023_10"), archived);
+    }
+}
@@ -0,0 +1,203 @@
+package com.bankingapplication.account_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.bankingapplication.account_service.concurrency.GroupCommitExecutor;
+import com.bankingapplication.account_service.concurrency.LockModeResolver;
+import com.bankingapplication.account_service.concurrency.PostingExecutor;
+import com.bankingapplication.account_service.concurrency.PostingMetrics;
+import com.bankingapplication.account_service.dto.TransactionDTO;
+import com.bankingapplication.account_service.dto.request.DepositRequest;
+import com.bankingapplication.account_service.dto.request.WithdrawalRequest;
+import com.bankingapplication.account_service.entity.TransactionStatus;
+import com.bankingapplication.account_service.entity.TransactionType;
+import com.bankingapplication.account_service.exception.DuplicatePostingException;
+import com.bankingapplication.account_service.exception.InsufficientBalanceException;
+import com.bankingapplication.account_service.exception.ResourceNotFoundException;
+import com.bankingapplication.account_service.mapper.EntityMapper;
+import com.bankingapplication.account_service.repository.AccountRepository;
+import com.bankingapplication.account_service.repository.TransactionRepository;
+import com.bankingapplication.account_service.util.AccountNumberGenerator;
+
+// History reads must cost one repository query per request and never go through entity mapping. That is
+// one SQL statement, except the paginated read, which adds a COUNT for a full page (1-2 statements).
+// A replayed client reference must be answered with the original posting, never posted twice
+@ExtendWith(MockitoExtension.class)
+class TransactionServiceTest {
+
+    private static final String ACCOUNT = "SAV1000000001";
+    private static final String DEPOSIT_KEY = "deposit:" + ACCOUNT + ":REF1";
+    private static final String WITHDRAWAL_KEY = "withdrawal:" + ACCOUNT + ":REF1";
+
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private EntityMapper entityMapper;
+    @Mock
+    private DailyLimitService dailyLimitService;
+    @Mock
+    private AccountNumberGenerator accountNumberGenerator;
+    @Mock
+    private PostingExecutor postingExecutor;
+    @Mock
+    private PostingMetrics postingMetrics;
+    @Mock
+    private LockModeResolver lockModeResolver;
+    @Mock
+    private DatabasePostingEngine databasePostingEngine;
+    @Mock
+    private GroupCommitExecutor groupCommitExecutor;
+    @Mock
+    private IdempotencyService idempotencyService;
+    @Mock
+    private JournalService journalService;
+    @Mock
+    private FxRateService fxRateService;
+
+    @InjectMocks
+    private TransactionService transactionService;
+
+    @Test
+    void getTransactionsByAccountNumber_ShouldIssueOneQuery() {
+        when(transactionRepository.findHistoryByAccountNumber(ACCOUNT)).thenReturn(List.of(row(1)));
+
+        assertEquals(1, transactionService.getTransactionsByAccountNumber(ACCOUNT).size());
+
+        verify(transactionRepository).findHistoryByAccountNumber(ACCOUNT);
+        verifyReadOnlyHistoryQuery();
+    }
+
+    @Test
+    void getTransactionsByDateRange_ShouldIssueOneQuery() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 1, 31, 23, 59);
+        when(transactionRepository.findHistoryByAccountNumberAndDateRange(ACCOUNT, start, end)).thenReturn(List.of(row(1)));
+
+        assertEquals(1, transactionService.getTransactionsByDateRange(ACCOUNT, start, end).size());
+
+        verify(transactionRepository).findHistoryByAccountNumberAndDateRange(ACCOUNT, start, end);
+        verifyReadOnlyHistoryQuery();
+    }
+
+    // The repository call is the page query plus, when the page comes back full, Spring Data's COUNT
+    @Test
+    void getTransactionsByAccountNumberPaginated_ShouldIssueOneRepositoryCallAndReturnDTOs() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(transactionRepository.findHistoryByAccountNumber(eq(ACCOUNT), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(row(2), row(1)), pageable, 2));
+
+        Map<String, Object> response = transactionService.getTransactionsByAccountNumberPaginated(
+                ACCOUNT, 0, 10, "transactionDate", "desc");
+
+        assertEquals(2L, response.get("totalItems"));
+        assertTrue(((List<?>) response.get("content")).stream().allMatch(TransactionDTO.class::isInstance));
+        verify(transactionRepository).findHistoryByAccountNumber(eq(ACCOUNT), any(Pageable.class));
+        verifyReadOnlyHistoryQuery();
+    }
+
+    @Test
+    void getTransactionHistory_ShouldIssueOneQueryAndReturnACursor() {
+        when(transactionRepository.findHistoryPage(eq(ACCOUNT), any(Pageable.class))).thenReturn(List.of(row(3), row(2), row(1)));
+
+        Map<String, Object> response = transactionService.getTransactionHistory(ACCOUNT, null, 2);
+
+        assertEquals(2, response.get("size"));
+        assertEquals(true, response.get("hasNext"));
+        verify(transactionRepository).findHistoryPage(eq(ACCOUNT), any(Pageable.class));
+        verifyReadOnlyHistoryQuery();
+    }
+
+    @Test
+    void getTransactionsByAccountNumber_ShouldLookUpTheAccountOnlyWhenNothingCameBack() {
+        when(transactionRepository.findHistoryByAccountNumber(ACCOUNT)).thenReturn(List.of());
+        when(accountRepository.findByAccountNumber(ACCOUNT)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> transactionService.getTransactionsByAccountNumber(ACCOUNT));
+    }
+
+    @Test
+    void deposit_ShouldAnswerARecentReplayWithoutPosting() {
+        TransactionDTO original = row(1);
+        when(idempotencyService.key("deposit", ACCOUNT, "REF1")).thenReturn(DEPOSIT_KEY);
+        when(idempotencyService.findRecent(DEPOSIT_KEY)).thenReturn(original);
+
+        assertSame(original, transactionService.deposit(new DepositRequest(ACCOUNT, new BigDecimal("10.00"), null, "REF1")));
+
+        verifyNoInteractions(postingExecutor, groupCommitExecutor, databasePostingEngine, accountRepository);
+        verify(idempotencyService, never()).findOriginal(any());
+    }
+
+    @Test
+    void deposit_ShouldReturnTheOriginal_WhenTheKeyWasClaimedElsewhere() {
+        TransactionDTO original = row(1);
+        when(idempotencyService.key("deposit", ACCOUNT, "REF1")).thenReturn(DEPOSIT_KEY);
+        when(postingExecutor.execute(eq("deposit"), anyList(), any())).thenThrow(new DuplicatePostingException(DEPOSIT_KEY));
+        when(idempotencyService.findOriginal(DEPOSIT_KEY)).thenReturn(Optional.of(original));
+
+        assertSame(original, transactionService.deposit(new DepositRequest(ACCOUNT, new BigDecimal("10.00"), null, "REF1")));
+
+        verify(idempotencyService, never()).remember(any(), any());
+    }
+
+    @Test
+    void withdraw_ShouldReturnTheCommittedOriginal_WhenTheReplayFailsTodaysChecks() {
+        // The original withdrawal emptied the account, so posting it again would be refused
+        TransactionDTO original = row(1);
+        when(idempotencyService.key("withdrawal", ACCOUNT, "REF1")).thenReturn(WITHDRAWAL_KEY);
+        when(postingExecutor.execute(eq("withdrawal"), anyList(), any()))
+                .thenThrow(new InsufficientBalanceException("Insufficient balance for withdrawal"));
+        when(idempotencyService.findOriginal(WITHDRAWAL_KEY)).thenReturn(Optional.of(original));
+
+        assertSame(original, transactionService.withdraw(new WithdrawalRequest(ACCOUNT, new BigDecimal("10.00"), null, "REF1")));
+    }
+
+    @Test
+    void withdraw_ShouldRethrowTheRejection_WhenThereIsNoOriginal() {
+        when(idempotencyService.key("withdrawal", ACCOUNT, "REF1")).thenReturn(WITHDRAWAL_KEY);
+        when(postingExecutor.execute(eq("withdrawal"), anyList(), any()))
+                .thenThrow(new InsufficientBalanceException("Insufficient balance for withdrawal"));
+        when(idempotencyService.findOriginal(WITHDRAWAL_KEY)).thenReturn(Optional.empty());
+
+        assertThrows(InsufficientBalanceException.class,
+                () -> transactionService.withdraw(new WithdrawalRequest(ACCOUNT, new BigDecimal("10.00"), null, "REF1")));
+    }
+
+    private void verifyReadOnlyHistoryQuery() {
+        verifyNoMoreInteractions(transactionRepository);
+        verifyNoInteractions(accountRepository, entityMapper);
+    }
+
+    private static TransactionDTO row(long id) {
+        return new TransactionDTO(id, "TXN" + id, 7L, ACCOUNT, new BigDecimal("10.00"), TransactionType.DEPOSIT,
+                TransactionStatus.COMPLETED, null, null, "REF" + id, "Deposit", LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id),
+                new BigDecimal("10.00").multiply(BigDecimal.valueOf(id)), null, null);
+    }
+}
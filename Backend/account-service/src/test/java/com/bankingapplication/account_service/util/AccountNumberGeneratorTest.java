@@ -0,0 +1,71 @@
+package com.bankingapplication.account_service.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.bankingapplication.account_service.entity.AccountType;
+import com.bankingapplication.account_service.repository.AccountNumberCounterRepository;
+
+class AccountNumberGeneratorTest {
+
+    private AccountNumberCounterRepository counterRepository;
+    private AccountNumberGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        counterRepository = mock(AccountNumberCounterRepository.class);
+        // Each reservation hands out the next block of 10
+        long[] next = {1};
+        when(counterRepository.findNextValue("SAVINGS")).thenAnswer(invocation -> next[0] += 10);
+        generator = new AccountNumberGenerator(new SnowflakeIdGenerator(1, ""), counterRepository,
+                mock(PlatformTransactionManager.class), 10);
+    }
+
+    @Test
+    void generateAccountNumber_ShouldHandOutBlocksWithoutGaps() {
+        Set<String> numbers = new HashSet<>();
+        for (int i = 0; i < 25; i++) {
+            numbers.add(generator.generateAccountNumber(AccountType.SAVINGS));
+        }
+
+        assertEquals(25, numbers.size());
+        assertTrue(numbers.contains("SV00000000018"));
+        assertTrue(numbers.contains("SV00000000257"));
+        verify(counterRepository, times(3)).reserveBlock(eq("SAVINGS"), anyLong());
+    }
+
+    @Test
+    void validateAccountNumber_ShouldAcceptGeneratedAndLegacyNumbers() {
+        assertTrue(generator.validateAccountNumber(generator.generateAccountNumber(AccountType.SAVINGS)));
+        assertTrue(generator.validateAccountNumber("CK4821730094"));
+    }
+
+    @Test
+    void validateAccountNumber_ShouldRejectMalformedNumbers() {
+        assertFalse(generator.validateAccountNumber(null));
+        assertFalse(generator.validateAccountNumber("SV00000000017"));
+        assertFalse(generator.validateAccountNumber("SV00000000081"));
+        assertFalse(generator.validateAccountNumber("XX00000000018"));
+        assertFalse(generator.validateAccountNumber("SV0000000001A"));
+        assertFalse(generator.validateAccountNumber("SV123"));
+    }
+
+    @Test
+    void luhnCheckDigit_ShouldMatchReferenceValue() {
+        assertEquals(3, AccountNumberGenerator.luhnCheckDigit("7992739871"));
+    }
+}
@@ -0,0 +1,53 @@
+package com.bankingapplication.account_service.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class FxRateTableTest {
+
+    private static final FxRateTable TABLE = FxRateTable.of(Map.of(
+            "USD", Map.of("EUR", new BigDecimal("0.9200000000"), "JPY", new BigDecimal("150.0000000000")),
+            "GBP", Map.of("USD", new BigDecimal("1.2500000000"))), "USD", LocalDateTime.now());
+
+    @Test
+    void convert_ShouldUseTheQuotedRateAndRoundToCents() {
+        FxRateTable.Conversion conversion = TABLE.convert(new BigDecimal("100.005"), "USD", "EUR");
+
+        assertEquals(new BigDecimal("0.9200000000"), conversion.rate());
+        assertEquals(new BigDecimal("92.00"), conversion.amount());
+    }
+
+    @Test
+    void rate_ShouldDeriveInverseAndPivotCrossRates() {
+        assertEquals(new BigDecimal("1.0869565217"), TABLE.rate("EUR", "USD"));
+        assertEquals(new BigDecimal("0.8000000000"), TABLE.rate("USD", "GBP"));
+        // GBP -> USD -> JPY
+        assertEquals(new BigDecimal("187.5000000000"), TABLE.rate("GBP", "JPY"));
+        assertEquals(BigDecimal.ONE, TABLE.rate("EUR", "EUR"));
+        assertNull(TABLE.rate("EUR", "CHF"));
+        assertEquals(3, TABLE.quotedPairs());
+    }
+
+    @Test
+    void of_ShouldPreferAQuotedRateOverADerivedOne() {
+        FxRateTable table = FxRateTable.of(Map.of(
+                "USD", Map.of("EUR", new BigDecimal("0.92")),
+                "EUR", Map.of("USD", new BigDecimal("1.09"))), null, LocalDateTime.now());
+
+        assertEquals(new BigDecimal("1.0900000000"), table.rate("EUR", "USD"));
+        assertEquals(new BigDecimal("0.9200000000"), table.rate("USD", "EUR"));
+    }
+
+    @Test
+    void of_ShouldRejectNonPositiveRates() {
+        assertThrows(IllegalArgumentException.class,
+                () -> FxRateTable.of(Map.of("USD", Map.of("EUR", BigDecimal.ZERO)), null, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,76 @@
+package com.bankingapplication.account_service.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_003L;
+
+    @Test
+    void advanceTo_ShouldExpireItemsOnTheirTick_AcrossLevels() {
+        // 10ms ticks, 8 buckets, 3 levels: deadlines up to 5.12s ahead
+        HierarchicalTimingWheel<long[]> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START);
+        Random random = new Random(42);
+        long now = START;
+        int added = 0;
+        int early = 0;
+        int late = 0;
+        int fired = 0;
+
+        for (int step = 0; step < 20_000; step++) {
+            for (int i = 0; i < 3; i++) {
+                // Some deadlines are already due when added
+                long deadline = now + random.nextInt(5_000) - 20;
+                wheel.add(new long[] {deadline, now}, deadline);
+                added++;
+            }
+            long previous = now;
+            now += random.nextInt(40);
+            for (long[] item : wheel.advanceTo(now)) {
+                fired++;
+                long deadlineTick = item[0] / 10;
+                if (deadlineTick > now / 10) {
+                    early++;
+                }
+                // Only items added since the previous advance may fire for a tick it already passed
+                if (deadlineTick <= previous / 10 && item[1] != previous) {
+                    late++;
+                }
+            }
+        }
+        fired += wheel.advanceTo(now + 10_000).size();
+
+        assertEquals(0, early, "items expired before their tick");
+        assertEquals(0, late, "items expired after their tick");
+        assertEquals(added, fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advanceTo_ShouldReturnOverdueItemsImmediately_InTickOrder() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 64, 3, START);
+        wheel.add("overdue", START - 60_000);
+        wheel.add("later", START + 3_000);
+        wheel.add("soon", START + 1_000);
+
+        assertEquals(List.of("overdue"), wheel.advanceTo(START));
+        List<String> expired = new ArrayList<>(wheel.advanceTo(START + 5_000));
+        assertEquals(List.of("soon", "later"), expired);
+    }
+
+    @Test
+    void add_ShouldRejectDeadlinesBeyondTheHorizon() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 64, 3, START);
+
+        assertTrue(wheel.horizonMillis() >= START + 72 * 3_600_000L);
+        assertThrows(IllegalArgumentException.class, () -> wheel.add("too far", wheel.horizonMillis() + 1_000));
+    }
+}
@@ -0,0 +1,35 @@
+package com.bankingapplication.account_service.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.bankingapplication.account_service.exception.InvalidOperationException;
+
+class HistoryCursorTest {
+
+    @Test
+    void decode_ShouldRoundTripMicrosecondTimestamps() {
+        HistoryCursor cursor = new HistoryCursor(LocalDateTime.of(2024, 3, 1, 9, 30, 0, 123_456_000), 987654321L);
+
+        assertEquals(cursor, HistoryCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_ShouldRoundTripWholeSeconds() {
+        // LocalDateTime.toString drops zero seconds and fractions
+        HistoryCursor cursor = new HistoryCursor(LocalDateTime.of(2024, 3, 1, 9, 30), 1L);
+
+        assertEquals(cursor, HistoryCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_ShouldRejectTamperedTokens() {
+        assertThrows(InvalidOperationException.class, () -> HistoryCursor.decode("not a cursor!"));
+        assertThrows(InvalidOperationException.class, () -> HistoryCursor.decode("MjAyNC0wMy0wMQ"));
+        assertThrows(InvalidOperationException.class, () -> HistoryCursor.decode(""));
+    }
+}
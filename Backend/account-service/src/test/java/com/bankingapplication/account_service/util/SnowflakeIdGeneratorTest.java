@@ -0,0 +1,117 @@
+package com.bankingapplication.account_service.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final int THREADS = 16;
+    private static final int IDS_PER_THREAD = 50_000;
+    // The format caps a node at 4096 ids per millisecond; an eighth of that leaves room for slow
+    // machines and for the uniqueness check running inside the timed loop
+    private static final long MIN_IDS_PER_SECOND = 500_000;
+
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, "");
+
+    @Test
+    void nextId_ShouldBeUniqueAndIncreasingPerThread_UnderConcurrency() throws Exception {
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        AtomicInteger outOfOrder = new AtomicInteger();
+
+        boolean finished = runConcurrently(() -> {
+            long previous = Long.MIN_VALUE;
+            for (int i = 0; i < IDS_PER_THREAD; i++) {
+                long id = generator.nextId();
+                if (id <= previous) {
+                    outOfOrder.incrementAndGet();
+                }
+                previous = id;
+                ids.add(id);
+            }
+        });
+
+        assertTrue(finished);
+        assertEquals(0, outOfOrder.get());
+        assertEquals(THREADS * IDS_PER_THREAD, ids.size());
+    }
+
+    @Test
+    void nextId_ShouldEncodeNodeIdAndCurrentTime() {
+        Instant before = Instant.now().minusMillis(1);
+        long id = generator.nextId();
+
+        assertEquals(7, (id >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID);
+        Instant issuedAt = SnowflakeIdGenerator.timestampOf(id);
+        assertTrue(!issuedAt.isBefore(before) && Duration.between(before, issuedAt).toSeconds() < 5);
+    }
+
+    @Test
+    void nextTransactionId_ShouldKeepLegacyFormatAndSortInIssueOrder() {
+        String first = generator.nextTransactionId();
+        String second = generator.nextTransactionId();
+
+        assertTrue(first.matches("TXN[0-9A-F]{16}"), first);
+        assertTrue(first.compareTo(second) < 0);
+    }
+
+    // Run with -Pbenchmarks. The UUID-based ids this generator replaced are timed as a baseline only
+    @Test
+    @Tag("benchmark")
+    void throughputBenchmark_SnowflakeVersusUuid() throws Exception {
+        Set<String> ids = ConcurrentHashMap.newKeySet(THREADS * IDS_PER_THREAD);
+        long snowflakePerSecond = throughput(() -> {
+            String id = generator.nextTransactionId();
+            ids.add(id);
+            return id;
+        });
+        long uuidPerSecond = throughput(() -> "TXN" + UUID.randomUUID().toString().replace("-", "").substring(0, 16).toUpperCase());
+
+        System.out.printf("[BENCHMARK] snowflake: %,d ids/s, uuid: %,d ids/s%n", snowflakePerSecond, uuidPerSecond);
+        assertEquals(THREADS * IDS_PER_THREAD, ids.size(), "Duplicate transaction ids under load");
+        assertTrue(snowflakePerSecond >= MIN_IDS_PER_SECOND, "Snowflake throughput " + snowflakePerSecond + " ids/s");
+    }
+
+    private long throughput(Supplier<String> idSupplier) throws Exception {
+        long start = System.nanoTime();
+        assertTrue(runConcurrently(() -> {
+            for (int i = 0; i < IDS_PER_THREAD; i++) {
+                idSupplier.get();
+            }
+        }), "Benchmark run did not finish");
+        return (long) THREADS * IDS_PER_THREAD * 1_000_000_000L / (System.nanoTime() - start);
+    }
+
+    private boolean runConcurrently(Runnable body) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    body.run();
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            return executor.awaitTermination(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}